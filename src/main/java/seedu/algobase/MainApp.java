@@ -21,6 +21,7 @@ import seedu.algobase.model.ModelManager;
 import seedu.algobase.model.ReadOnlyAlgoBase;
 import seedu.algobase.model.ReadOnlyUserPrefs;
 import seedu.algobase.model.UserPrefs;
+import seedu.algobase.model.problem.ProblemListEngine;
 import seedu.algobase.model.util.SampleDataUtil;
 import seedu.algobase.storage.AlgoBaseStorage;
 import seedu.algobase.storage.JsonAlgoBaseStorage;
@@ -66,6 +67,7 @@ public class MainApp extends Application {
         storage = new StorageManager(algoBaseStorage, userPrefsStorage);
 
         initLogging(config);
+        initProblemListEngine(config);
 
         model = initModelManager(storage, userPrefs);
 
@@ -112,6 +114,10 @@ public class MainApp extends Application {
         LogsCenter.init(config);
     }
 
+    private void initProblemListEngine(Config config) {
+        ProblemListEngine.init(config);
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
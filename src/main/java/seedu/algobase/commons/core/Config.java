@@ -11,10 +11,12 @@ import java.util.logging.Level;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_PARALLEL_PROBLEM_THRESHOLD = 10000;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int parallelProblemThreshold = DEFAULT_PARALLEL_PROBLEM_THRESHOLD;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +34,14 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getParallelProblemThreshold() {
+        return parallelProblemThreshold;
+    }
+
+    public void setParallelProblemThreshold(int parallelProblemThreshold) {
+        this.parallelProblemThreshold = parallelProblemThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +54,13 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && parallelProblemThreshold == o.parallelProblemThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, parallelProblemThreshold);
     }
 
     @Override
@@ -57,6 +68,7 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nParallel problem threshold : " + parallelProblemThreshold);
         return sb.toString();
     }
 
@@ -17,6 +17,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_TASK_DISPLAYED_INDEX = "The Task index provided is invalid";
     public static final String MESSAGE_PLANS_LISTED_OVERVIEW = "%1$d plan(s) listed!";
     public static final String MESSAGE_PROBLEMS_LISTED_OVERVIEW = "%1$d problem(s) listed!";
+    public static final String MESSAGE_PROBLEMS_PAGE_OVERVIEW = "Showing page %1$d of %2$d (%3$d problem(s) in total).";
     public static final String MESSAGE_INVALID_COMMAND_NAME = "Command %1$s not found!";
     public static final String MESSAGE_INVALID_DIFFICULTY_RANGE = "Invalid difficulty range! \n%1$s";
     public static final String MESSAGE_INVALID_KEYWORD_FORMAT = "Invalid keyword format! \n%1$s";
@@ -5,7 +5,13 @@ import static seedu.algobase.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +44,64 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if {@code word} is a valid word argument of {@link #containsWordIgnoreCase(String, String)},
+     * i.e. it is a single word once surrounding whitespace is trimmed.
+     * @param word cannot be null
+     */
+    public static boolean isSingleWord(String word) {
+        requireNonNull(word);
+        String preppedWord = word.trim();
+        return !preppedWord.isEmpty() && preppedWord.split("\\s+").length == 1;
+    }
+
+    /**
+     * Returns {@code word} in a case-folded form, such that two words are equal ignoring case
+     * (as in {@link String#equalsIgnoreCase(String)}) if and only if their folded forms are equal.
+     * @param word cannot be null
+     */
+    public static String foldCase(String word) {
+        requireNonNull(word);
+        char[] folded = new char[word.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(word.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Returns the case-folded words of {@code sentence}, which are the words matched by
+     * {@link #containsWordIgnoreCase(String, String)}.
+     * @param sentence cannot be null
+     */
+    public static Set<String> toFoldedWordSet(String sentence) {
+        requireNonNull(sentence);
+        Set<String> words = new HashSet<>();
+        for (String word : sentence.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(foldCase(word));
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the case-folded forms of {@code words}, for looking up in {@link #toFoldedWordSet(String)},
+     * or an empty {@code Optional} if any of them is not a single word.
+     * @param words cannot be null
+     */
+    public static Optional<List<String>> foldWords(Collection<String> words) {
+        requireNonNull(words);
+        List<String> folded = new ArrayList<>(words.size());
+        for (String word : words) {
+            if (!isSingleWord(word)) {
+                return Optional.empty();
+            }
+            folded.add(foldCase(word.trim()));
+        }
+        return Optional.of(folded);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
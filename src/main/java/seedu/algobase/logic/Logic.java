@@ -3,6 +3,7 @@ package seedu.algobase.logic;
 import java.nio.file.Path;
 
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.ObservableList;
 import seedu.algobase.commons.core.GuiSettings;
@@ -79,6 +80,11 @@ public interface Logic {
      */
     ObservableList<ProblemSearchRule> getProcessedFindRuleList();
 
+    /**
+     * Returns the number of problems matched by the find rule {@code rule}, which must be in the algobase.
+     */
+    ReadOnlyIntegerProperty getFindRuleMatchCount(ProblemSearchRule rule);
+
     /**
      * Returns the user prefs' algobase file path.
      */
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.logging.Logger;
 
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.ObservableList;
 import seedu.algobase.commons.core.GuiSettings;
@@ -129,6 +130,11 @@ public class LogicManager implements Logic {
         return model.getFilteredFindRuleList();
     }
 
+    @Override
+    public ReadOnlyIntegerProperty getFindRuleMatchCount(ProblemSearchRule rule) {
+        return model.getAlgoBase().getFindRuleMatchCount(rule);
+    }
+
     @Override
     public Path getAlgoBaseFilePath() {
         return model.getAlgoBaseFilePath();
@@ -6,7 +6,6 @@ import static seedu.algobase.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_END_DATE;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_START_DATE;
-import static seedu.algobase.model.Model.PREDICATE_SHOW_ALL_PLANS;
 import static seedu.algobase.model.searchrule.plansearchrule.TimeRange.ORDER_CONSTRAINTS;
 import static seedu.algobase.model.searchrule.plansearchrule.TimeRange.isValidRange;
 
@@ -126,7 +125,6 @@ public class EditPlanCommand extends Command {
         }
 
         model.setPlan(planToEdit, editedPlan);
-        model.updateFilteredPlanList(PREDICATE_SHOW_ALL_PLANS);
         return new CommandResult(String.format(MESSAGE_EDIT_PLAN_SUCCESS, editedPlan.getPlanName()));
     }
 
@@ -3,7 +3,6 @@ package seedu.algobase.logic.commands.findrule;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.algobase.commons.core.Messages;
 import seedu.algobase.commons.core.index.Index;
@@ -12,7 +11,6 @@ import seedu.algobase.logic.commands.Command;
 import seedu.algobase.logic.commands.CommandResult;
 import seedu.algobase.logic.commands.exceptions.CommandException;
 import seedu.algobase.model.Model;
-import seedu.algobase.model.problem.Problem;
 import seedu.algobase.model.searchrule.problemsearchrule.ProblemSearchRule;
 
 /**
@@ -47,8 +45,8 @@ public class ApplyCommand extends Command {
         }
 
         ProblemSearchRule findRuleToApply = lastShownList.get(targetIndex.getZeroBased());
-        Predicate<Problem> findProblemPredicate = findRuleToApply.getFindProblemPredicate();
-        model.updateFilteredProblemList(findProblemPredicate);
+        model.updateFilteredProblemList(findRuleToApply.getFindProblemPredicate(),
+                model.getAlgoBase().getProblemOrdinalsMatchingFindRule(findRuleToApply));
         return new CommandResult(String.format(MESSAGE_SUCCESS, findRuleToApply.getName()));
     }
 
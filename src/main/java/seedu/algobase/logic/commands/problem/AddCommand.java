@@ -15,7 +15,6 @@ import seedu.algobase.logic.commands.CommandResult;
 import seedu.algobase.logic.commands.exceptions.CommandException;
 import seedu.algobase.model.Model;
 import seedu.algobase.model.problem.Problem;
-import seedu.algobase.model.tag.Tag;
 
 /**
  * Adds a Problem to the algobase.
@@ -65,14 +64,6 @@ public class AddCommand extends Command {
             throw new CommandException(String.format(MESSAGE_DUPLICATE_PROBLEM, toAdd.getName()));
         }
 
-        for (Tag problemtag : toAdd.getTags()) {
-            for (Tag algobasetag : model.getFilteredTagList()) {
-                if (problemtag.getName().equals(algobasetag.getName())) {
-                    problemtag.setColor(algobasetag.getColor());
-                }
-            }
-        }
-
         model.addProblem(toAdd);
         model.addTags(toAdd.getTags());
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.getName()));
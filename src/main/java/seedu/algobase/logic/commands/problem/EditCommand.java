@@ -8,7 +8,6 @@ import static seedu.algobase.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_SOURCE;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_WEBLINK;
-import static seedu.algobase.model.Model.PREDICATE_SHOW_ALL_PROBLEMS;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -90,7 +89,7 @@ public class EditCommand extends Command {
         }
 
         Problem problemToEdit = lastShownList.get(index.getZeroBased());
-        Problem editedProblem = createEditedProblem(problemToEdit, editProblemDescriptor, model);
+        Problem editedProblem = createEditedProblem(problemToEdit, editProblemDescriptor);
 
         if (!problemToEdit.isSameProblem(editedProblem) && model.hasProblem(editedProblem)) {
             throw new CommandException(String.format(MESSAGE_DUPLICATE_PROBLEM, problemToEdit.getName()));
@@ -106,8 +105,6 @@ public class EditCommand extends Command {
             }
         }
         model.updateProblemInAllPlans(problemToEdit, editedProblem);
-
-        model.updateFilteredProblemList(PREDICATE_SHOW_ALL_PROBLEMS);
         return new CommandResult(String.format(MESSAGE_EDIT_PROBLEM_SUCCESS, editedProblem.getName()));
     }
 
@@ -116,8 +113,7 @@ public class EditCommand extends Command {
      * edited with {@code editProblemDescriptor}.
      */
     private static Problem createEditedProblem(Problem problemToEdit,
-                                               EditProblemDescriptor editProblemDescriptor,
-                                               Model model) {
+                                               EditProblemDescriptor editProblemDescriptor) {
         assert problemToEdit != null;
 
         Id id = problemToEdit.getId();
@@ -126,13 +122,6 @@ public class EditCommand extends Command {
         WebLink updatedWebLink = editProblemDescriptor.getWebLink().orElse(problemToEdit.getWebLink());
         Description updatedDescription = editProblemDescriptor.getDescription().orElse(problemToEdit.getDescription());
         Set<Tag> updatedTags = editProblemDescriptor.getTags().orElse(problemToEdit.getTags());
-        for (Tag problemtag : updatedTags) {
-            for (Tag algobasetag : model.getFilteredTagList()) {
-                if (problemtag.getName().equals(algobasetag.getName())) {
-                    problemtag.setColor(algobasetag.getColor());
-                }
-            }
-        }
         Difficulty updatedDifficulty = editProblemDescriptor.getDifficulty().orElse(problemToEdit.getDifficulty());
         Remark updatedRemark = editProblemDescriptor.getRemark().orElse(problemToEdit.getRemark());
         Source updatedSource = editProblemDescriptor.getSource().orElse(problemToEdit.getSource());
@@ -1,21 +1,22 @@
 package seedu.algobase.logic.commands.problem;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.algobase.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_AUTHOR;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_DIFFICULTY;
+import static seedu.algobase.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.algobase.logic.parser.CliSyntax.PREFIX_PAGE;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_SOURCE;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.function.Predicate;
-
 import seedu.algobase.commons.core.Messages;
 import seedu.algobase.logic.CommandHistory;
 import seedu.algobase.logic.commands.Command;
 import seedu.algobase.logic.commands.CommandResult;
 import seedu.algobase.model.Model;
-import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.problem.ProblemListPage;
 import seedu.algobase.model.searchrule.problemsearchrule.FindProblemDescriptor;
 
 /**
@@ -33,36 +34,52 @@ public class FindCommand extends Command {
             + "[" + PREFIX_DESCRIPTION + "DESCRIPTION] "
             + "[" + PREFIX_SOURCE + "SOURCE] "
             + "[" + PREFIX_DIFFICULTY + "LOWER_BOUND-UPPER_BOUND] "
-            + "[" + PREFIX_TAG + "TAG_KEYWORDS]\n"
+            + "[" + PREFIX_TAG + "TAG_KEYWORDS] "
+            + "[" + PREFIX_LIMIT + "PAGE_SIZE] "
+            + "[" + PREFIX_PAGE + "PAGE_NUMBER]\n"
             + "Example:\n"
             + COMMAND_WORD + " "
-            + PREFIX_AUTHOR + "Tung Kam Chuen";
+            + PREFIX_AUTHOR + "Tung Kam Chuen "
+            + PREFIX_LIMIT + "20";
     public static final String MESSAGE_NO_CONSTRAINTS = "At least one search constraint should be provided.\n"
             + MESSAGE_USAGE;
 
-    private final Predicate<Problem> predicate;
     private final FindProblemDescriptor descriptor;
+    private final ProblemListPage page;
 
     public FindCommand(FindProblemDescriptor findProblemDescriptor) {
-        requireNonNull(findProblemDescriptor);
+        this(findProblemDescriptor, ProblemListPage.ALL);
+    }
+
+    /**
+     * Creates a FindCommand that shows only {@code page} of the problems found.
+     */
+    public FindCommand(FindProblemDescriptor findProblemDescriptor, ProblemListPage page) {
+        requireAllNonNull(findProblemDescriptor, page);
         // Creates a defensive copy of the original descriptor.
         this.descriptor = new FindProblemDescriptor(findProblemDescriptor);
-        this.predicate = findProblemDescriptor.getFindProblemPredicate();
+        this.page = page;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredProblemList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PROBLEMS_LISTED_OVERVIEW, model.getFilteredProblemList().size()));
+        model.updateFilteredProblemList(descriptor.getFindProblemPredicate(),
+                descriptor.getMatchingProblemOrdinals(model.getAlgoBase()), page);
+        if (page.equals(ProblemListPage.ALL)) {
+            return new CommandResult(
+                    String.format(Messages.MESSAGE_PROBLEMS_LISTED_OVERVIEW, model.getFilteredProblemCount()));
+        }
+        return new CommandResult(String.format(Messages.MESSAGE_PROBLEMS_PAGE_OVERVIEW, page.getPageNumber(),
+                model.getProblemListPageCount(), model.getFilteredProblemCount()));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && descriptor.equals(((FindCommand) other).descriptor)); // state check
+                && descriptor.equals(((FindCommand) other).descriptor)
+                && page.equals(((FindCommand) other).page)); // state check
     }
 
 }
@@ -1,18 +1,25 @@
 package seedu.algobase.logic.commands.problem;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.algobase.commons.util.AppUtil.checkArgument;
 import static seedu.algobase.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.algobase.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.algobase.logic.parser.CliSyntax.PREFIX_PAGE;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_SORTING_METHOD;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_SORTING_ORDER;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
+import seedu.algobase.commons.core.Messages;
 import seedu.algobase.logic.CommandHistory;
 import seedu.algobase.logic.commands.Command;
 import seedu.algobase.logic.commands.CommandResult;
 import seedu.algobase.logic.commands.exceptions.CommandException;
 import seedu.algobase.model.Model;
-import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.problem.ProblemListPage;
+import seedu.algobase.model.problem.ProblemOrder;
 
 /**
  * Sort Problems in the Problem list view.
@@ -58,79 +65,57 @@ public class SortCommand extends Command {
             + ": Sorts the current problem list in a certain order. "
             + "Parameters:\n"
             + PREFIX_SORTING_METHOD + "SORTING_METHOD "
-            + "[" + PREFIX_SORTING_ORDER + "SORTING_ORDER]\n"
+            + "[" + PREFIX_SORTING_METHOD + "SORTING_METHOD]... "
+            + "[" + PREFIX_SORTING_ORDER + "SORTING_ORDER]... "
+            + "[" + PREFIX_LIMIT + "PAGE_SIZE] "
+            + "[" + PREFIX_PAGE + "PAGE_NUMBER]\n"
+            + "Problems that tie on a sorting method are sorted by the next one. "
+            + "Give either one sorting order for every method, or one for each method in turn.\n"
             + "Example:\n"
             + COMMAND_WORD + " "
+            + PREFIX_SORTING_METHOD + "difficulty "
             + PREFIX_SORTING_METHOD + "name "
+            + PREFIX_SORTING_ORDER + "descend "
             + PREFIX_SORTING_ORDER + "ascend";
     public static final String MESSAGE_SUCCESS = "AlgoBase has been sorted.";
+    public static final String MESSAGE_DUPLICATE_SORTING_METHOD = "Each sorting method can only be given once.";
 
-    public static final Comparator<Problem> PROBLEM_NAME_COMPARATOR = new Comparator<Problem>() {
-        @Override
-        public int compare(Problem o1, Problem o2) {
-            if (o1 == o2) {
-                return 0;
-            }
-            return o1.getName().compareTo(o2.getName());
-        }
-    };
-
-    public static final Comparator<Problem> PROBLEM_AUTHOR_COMPARATOR = new Comparator<Problem>() {
-        @Override
-        public int compare(Problem o1, Problem o2) {
-            if (o1 == o2) {
-                return 0;
-            }
-            return o1.getAuthor().compareTo(o2.getAuthor());
-        }
-    };
-
-    public static final Comparator<Problem> PROBLEM_DIFFICULTY_COMPARATOR = new Comparator<Problem>() {
-        @Override
-        public int compare(Problem o1, Problem o2) {
-            if (o1 == o2) {
-                return 0;
-            }
-            return o1.getDifficulty().compareTo(o2.getDifficulty());
-        }
-    };
-
-    public static final Comparator<Problem> PROBLEM_SOURCE_COMPARATOR = new Comparator<Problem>() {
-        @Override
-        public int compare(Problem o1, Problem o2) {
-            if (o1 == o2) {
-                return 0;
-            }
-            return o1.getSource().compareTo(o2.getSource());
-        }
-    };
-
-    public static final Comparator<Problem> PROBLEM_WEB_LINK_COMPARATOR = new Comparator<Problem>() {
-        @Override
-        public int compare(Problem o1, Problem o2) {
-            if (o1 == o2) {
-                return 0;
-            }
-            return o1.getWebLink().compareTo(o2.getWebLink());
-        }
-    };
+    private final List<SortingMethod> methods;
+    private final List<SortingOrder> orders;
+    private final ProblemListPage page;
 
-    private final SortingMethod method;
-    private final boolean isSortByAscendingOrder;
+    /**
+     * Creates a SortCommand that sorts by {@code methods} in turn, each in the order at the same position in
+     * {@code orders}, and shows only {@code page} of the sorted problems.
+     */
+    public SortCommand(List<SortingMethod> methods, List<SortingOrder> orders, ProblemListPage page) {
+        requireAllNonNull(methods);
+        requireAllNonNull(orders);
+        requireNonNull(page);
+        checkArgument(!methods.isEmpty() && methods.size() == orders.size(),
+            "Each sorting method should have exactly one sorting order.");
+        this.methods = new ArrayList<>(methods);
+        this.orders = new ArrayList<>(orders);
+        this.page = page;
+    }
+
+    public SortCommand(List<SortingMethod> methods, List<SortingOrder> orders) {
+        this(methods, orders, ProblemListPage.ALL);
+    }
 
     public SortCommand(SortingMethod method, SortingOrder order) {
-        requireAllNonNull(method, order);
-        this.method = method;
-        switch (order) {
-        case ascend:
-            this.isSortByAscendingOrder = true;
-            break;
-        case descend:
-            this.isSortByAscendingOrder = false;
-            break;
-        default:
-            throw new IllegalArgumentException("SortingOrder can be either ascend or descend");
+        this(Collections.singletonList(method), Collections.singletonList(order));
+    }
+
+    /**
+     * Returns the order of problems described by the sorting methods and orders of this command.
+     */
+    public ProblemOrder getProblemOrder() {
+        ProblemOrder problemOrder = ProblemOrder.by(toField(methods.get(0)), isAscending(orders.get(0)));
+        for (int i = 1; i < methods.size(); i++) {
+            problemOrder = problemOrder.then(toField(methods.get(i)), isAscending(orders.get(i)));
         }
+        return problemOrder;
     }
 
     /**
@@ -140,45 +125,54 @@ public class SortCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
-        switch (this.method) {
+        model.updateSortedProblemList(getProblemOrder(), page);
+        if (page.equals(ProblemListPage.ALL)) {
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+        return new CommandResult(MESSAGE_SUCCESS + " " + String.format(Messages.MESSAGE_PROBLEMS_PAGE_OVERVIEW,
+            page.getPageNumber(), model.getProblemListPageCount(), model.getFilteredProblemCount()));
+    }
+
+    /**
+     * Returns the field of a problem that {@code method} sorts by.
+     */
+    private static ProblemOrder.Field toField(SortingMethod method) {
+        switch (method) {
         case byName:
-            if (isSortByAscendingOrder) {
-                model.updateSortedProblemList(PROBLEM_NAME_COMPARATOR);
-            } else {
-                model.updateSortedProblemList(PROBLEM_NAME_COMPARATOR.reversed());
-            }
-            break;
+            return ProblemOrder.Field.NAME;
         case byAuthor:
-            if (isSortByAscendingOrder) {
-                model.updateSortedProblemList(PROBLEM_AUTHOR_COMPARATOR);
-            } else {
-                model.updateSortedProblemList(PROBLEM_AUTHOR_COMPARATOR.reversed());
-            }
-            break;
+            return ProblemOrder.Field.AUTHOR;
+        case byWebLink:
+            return ProblemOrder.Field.WEB_LINK;
         case byDifficulty:
-            if (isSortByAscendingOrder) {
-                model.updateSortedProblemList(PROBLEM_DIFFICULTY_COMPARATOR);
-            } else {
-                model.updateSortedProblemList(PROBLEM_DIFFICULTY_COMPARATOR.reversed());
-            }
-            break;
+            return ProblemOrder.Field.DIFFICULTY;
         case bySource:
-            if (isSortByAscendingOrder) {
-                model.updateSortedProblemList(PROBLEM_SOURCE_COMPARATOR);
-            } else {
-                model.updateSortedProblemList(PROBLEM_SOURCE_COMPARATOR.reversed());
-            }
-            break;
-        case byWebLink:
-            if (isSortByAscendingOrder) {
-                model.updateSortedProblemList(PROBLEM_WEB_LINK_COMPARATOR);
-            } else {
-                model.updateSortedProblemList(PROBLEM_WEB_LINK_COMPARATOR.reversed());
-            }
-            break;
+            return ProblemOrder.Field.SOURCE;
         default:
             throw new IllegalArgumentException("Sorting method doesn't exist.");
         }
-        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    /**
+     * Returns true if {@code order} is ascending.
+     */
+    private static boolean isAscending(SortingOrder order) {
+        switch (order) {
+        case ascend:
+            return true;
+        case descend:
+            return false;
+        default:
+            throw new IllegalArgumentException("SortingOrder can be either ascend or descend");
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortCommand // instanceof handles nulls
+                && methods.equals(((SortCommand) other).methods)
+                && orders.equals(((SortCommand) other).orders)
+                && page.equals(((SortCommand) other).page)); // state check
     }
 }
@@ -1,7 +1,6 @@
 package seedu.algobase.logic.commands.tag;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.algobase.model.Model.PREDICATE_SHOW_ALL_PROBLEMS;
 
 import java.util.List;
 
@@ -48,7 +47,6 @@ public class DeleteTagCommand extends Command {
         Tag tagToDelete = lastShownList.get(targetIndex.getZeroBased());
         model.deleteTags(tagToDelete);
         model.deleteTag(tagToDelete);
-        model.updateFilteredProblemList(PREDICATE_SHOW_ALL_PROBLEMS);
         model.updateFilteredPlanList(Model.PREDICATE_SHOW_ALL_PLANS);
         model.updateFilteredTagList(Model.PREDICATE_SHOW_ALL_TAGS);
         return new CommandResult(String.format(MESSAGE_DELETE_TAG_SUCCESS, tagToDelete.getName()));
@@ -76,7 +76,6 @@ public class EditTagCommand extends Command {
         }
 
         model.setTag(tagToEdit, editedTag);
-        model.setTags(tagToEdit, editedTag);
 
         model.updateFilteredProblemList(PREDICATE_SHOW_ALL_PROBLEMS);
         model.updateFilteredPlanList(Model.PREDICATE_SHOW_ALL_PLANS);
@@ -8,6 +8,8 @@ import seedu.algobase.logic.commands.Command;
 import seedu.algobase.logic.commands.CommandResult;
 import seedu.algobase.model.Model;
 import seedu.algobase.model.ModelType;
+import seedu.algobase.model.ReadOnlyAlgoBase;
+import seedu.algobase.model.tag.Tag;
 
 /**
  * Lists all tags in the algobase to the user.
@@ -20,12 +22,18 @@ public class ListTagCommand extends Command {
             + "Example:\n"
             + COMMAND_WORD;
     public static final String MESSAGE_SUCCESS = "All tags listed.";
+    public static final String MESSAGE_TAG_COUNT = "\n%1$s: %2$d problem(s)";
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
         model.updateFilteredTagList(PREDICATE_SHOW_ALL_TAGS);
         model.getGuiState().getTabManager().switchDisplayTab(ModelType.TAG.getDisplayTabPaneIndex());
-        return new CommandResult(MESSAGE_SUCCESS);
+        ReadOnlyAlgoBase algoBase = model.getAlgoBase();
+        StringBuilder feedback = new StringBuilder(MESSAGE_SUCCESS);
+        for (Tag tag : model.getFilteredTagList()) {
+            feedback.append(String.format(MESSAGE_TAG_COUNT, tag.getName(), algoBase.countProblemsWithTag(tag)));
+        }
+        return new CommandResult(feedback.toString());
     }
 }
@@ -6,9 +6,7 @@ import static seedu.algobase.logic.parser.CliSyntax.PREFIX_PLAN;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_PROBLEM;
 
 import java.time.LocalDate;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import seedu.algobase.commons.core.Messages;
 import seedu.algobase.commons.core.index.Index;
@@ -85,14 +83,12 @@ public class AddTaskCommand extends Command {
             task = new Task(problem, planDate, false);
         }
 
-        Set<Task> taskSet = new HashSet<>(planToUpdate.getTasks());
-        if (taskSet.contains(task)) {
+        if (planToUpdate.containsTask(task)) {
             throw new CommandException(
                     String.format(Messages.MESSAGE_DUPLICATE_TASK, task.getName(), planToUpdate.getPlanName()));
         }
-        taskSet.add(task);
 
-        model.updateTasks(taskSet, planToUpdate);
+        model.addTask(planToUpdate, task);
 
         return new CommandResult(
                 String.format(MESSAGE_ADD_TASK_SUCCESS, task.getName(), planToUpdate.getPlanName()));
@@ -4,9 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_PLAN;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_TASK;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import seedu.algobase.commons.core.Messages;
 import seedu.algobase.commons.core.index.Index;
@@ -66,10 +64,7 @@ public class DeleteTaskCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
         Task task = taskList.get(taskIndex);
-        taskList.remove(taskIndex);
-        Set<Task> taskSet = new HashSet<>(taskList);
-
-        model.updateTasks(taskSet, planToUpdate);
+        model.removeTask(planToUpdate, task);
 
         return new CommandResult(
                 String.format(MESSAGE_DELETE_TASK_SUCCESS, task.getName(), planToUpdate.getPlanName()));
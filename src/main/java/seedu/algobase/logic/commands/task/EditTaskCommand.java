@@ -6,9 +6,7 @@ import static seedu.algobase.logic.parser.CliSyntax.PREFIX_PLAN;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_TASK;
 
 import java.time.LocalDate;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import seedu.algobase.commons.core.Messages;
 import seedu.algobase.commons.core.index.Index;
@@ -74,11 +72,7 @@ public class EditTaskCommand extends Command {
         if (!planToUpdate.checkIsWithinDateRange(newDate)) {
             throw new CommandException(Messages.MESSAGE_INVALID_TASK_DATE);
         }
-        taskList.remove(taskIndex);
-        Set<Task> taskSet = new HashSet<>(taskList);
-        taskSet.add(taskToUpdate.updateDueDate(newDate));
-
-        model.updateTasks(taskSet, planToUpdate);
+        model.updateTask(planToUpdate, taskToUpdate, taskToUpdate.updateDueDate(newDate));
 
         return new CommandResult(
             String.format(MESSAGE_EDIT_TASK_SUCCESS,
@@ -2,9 +2,7 @@ package seedu.algobase.logic.commands.task;
 
 import static seedu.algobase.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import seedu.algobase.commons.core.Messages;
 import seedu.algobase.commons.core.index.Index;
@@ -45,10 +43,7 @@ public class TaskCommandUtil {
         if (taskToUpdate.getIsDone() == isSolved) {
             throw new CommandException(String.format(errorMessage, taskToUpdate.getName()));
         }
-        taskList.remove(taskIndexInt);
-        Set<Task> taskSet = new HashSet<>(taskList);
-        taskSet.add(taskToUpdate.updateStatus(isSolved));
-        model.updateTasks(taskSet, planToUpdate);
+        model.updateTask(planToUpdate, taskToUpdate, taskToUpdate.updateStatus(isSolved));
 
         return String.format(successMessage, taskToUpdate.getName(), planToUpdate.getPlanName());
     }
@@ -82,17 +77,11 @@ public class TaskCommandUtil {
         Plan planToBeShiftedInto = lastShownPlanList.get(planIndexToBeShiftedInto.getZeroBased());
         int taskIndexInt = taskIndex.getZeroBased();
         List<Task> taskListToBeShiftedFrom = planToBeShiftedFrom.getTaskList();
-        List<Task> taskListToBeShiftedInto = planToBeShiftedInto.getTaskList();
         if (taskIndexInt >= taskListToBeShiftedFrom.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
         Task taskToBeShifted = taskListToBeShiftedFrom.get(taskIndexInt);
-        if (shouldRemoveFromOrigin) {
-            taskListToBeShiftedFrom.remove(taskIndexInt);
-        }
-        Set<Task> taskSetToBeShiftedFrom = new HashSet<>(taskListToBeShiftedFrom);
-        Set<Task> taskSetToBeShiftedInto = new HashSet<>(taskListToBeShiftedInto);
-        if (taskSetToBeShiftedInto.contains(taskToBeShifted)) {
+        if (planToBeShiftedInto.containsTask(taskToBeShifted)) {
             throw new CommandException(
                 String.format(Messages.MESSAGE_DUPLICATE_TASK,
                     taskToBeShifted.getName(),
@@ -103,11 +92,11 @@ public class TaskCommandUtil {
         if (!planToBeShiftedInto.checkIsWithinDateRange(taskToBeShifted.getDueDate())) {
             throw new CommandException(Messages.MESSAGE_INVALID_TASK_DATE);
         }
-        taskSetToBeShiftedInto.add(taskToBeShifted);
         if (shouldRemoveFromOrigin) {
-            model.updateTasks(taskSetToBeShiftedFrom, planToBeShiftedFrom);
+            model.moveTask(planToBeShiftedFrom, planToBeShiftedInto, taskToBeShifted);
+        } else {
+            model.addTask(planToBeShiftedInto, taskToBeShifted);
         }
-        model.updateTasks(taskSetToBeShiftedInto, planToBeShiftedInto);
 
         return String.format(
             successMessage,
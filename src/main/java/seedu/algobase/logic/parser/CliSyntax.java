@@ -17,6 +17,9 @@ public class CliSyntax {
     /* Sorting */
     public static final Prefix PREFIX_SORTING_METHOD = new Prefix("m/");
     public static final Prefix PREFIX_SORTING_ORDER = new Prefix("ord/");
+    /* Paging */
+    public static final Prefix PREFIX_LIMIT = new Prefix("limit/");
+    public static final Prefix PREFIX_PAGE = new Prefix("page/");
     /* Model */
     public static final Prefix PREFIX_PLAN = new Prefix("plan/");
     public static final Prefix PREFIX_PLAN_FROM = new Prefix("from/");
@@ -5,6 +5,7 @@ import static seedu.algobase.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMA
 import static seedu.algobase.commons.core.Messages.MESSAGE_INVALID_DIFFICULTY_RANGE;
 import static seedu.algobase.commons.core.Messages.MESSAGE_INVALID_KEYWORD_FORMAT;
 import static seedu.algobase.commons.util.CollectionUtil.isArrayOfLength;
+import static seedu.algobase.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.DateTimeException;
 import java.time.LocalDate;
@@ -14,6 +15,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -31,6 +33,8 @@ import seedu.algobase.model.problem.Author;
 import seedu.algobase.model.problem.Description;
 import seedu.algobase.model.problem.Difficulty;
 import seedu.algobase.model.problem.Name;
+import seedu.algobase.model.problem.ProblemListPage;
+import seedu.algobase.model.problem.ProblemValuePool;
 import seedu.algobase.model.problem.Remark;
 import seedu.algobase.model.problem.Source;
 import seedu.algobase.model.problem.WebLink;
@@ -108,7 +112,7 @@ public class ParserUtil {
         if (!Author.isValidAuthor(trimmedAuthor)) {
             throw new ParseException(Author.MESSAGE_CONSTRAINTS);
         }
-        return new Author(trimmedAuthor);
+        return ProblemValuePool.getAuthor(trimmedAuthor);
     }
 
     /**
@@ -167,7 +171,7 @@ public class ParserUtil {
         if (!Difficulty.isValidDifficulty(trimmedDifficulty)) {
             throw new ParseException(Difficulty.MESSAGE_CONSTRAINTS);
         }
-        return new Difficulty(trimmedDifficulty);
+        return ProblemValuePool.getDifficulty(trimmedDifficulty);
     }
 
     /**
@@ -193,7 +197,7 @@ public class ParserUtil {
         if (!Source.isValidSource(trimmedSource)) {
             throw new ParseException(Source.MESSAGE_CONSTRAINTS);
         }
-        return new Source(source);
+        return ProblemValuePool.getSource(source);
     }
 
     /**
@@ -265,6 +269,43 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses the values of the {@code limit} and {@code page} options into a {@code ProblemListPage}.
+     * A limit without a page shows the first page, and a page without a limit has the default page size.
+     * Neither of them shows every problem.
+     *
+     * @throws ParseException if the given {@code limit} or {@code page} is not a positive integer.
+     */
+    public static ProblemListPage parseProblemListPage(Optional<String> limit, Optional<String> page)
+            throws ParseException {
+        requireAllNonNull(limit, page);
+        if (limit.isEmpty() && page.isEmpty()) {
+            return ProblemListPage.ALL;
+        }
+        int pageSize = ProblemListPage.DEFAULT_PAGE_SIZE;
+        if (limit.isPresent()) {
+            pageSize = parsePositiveInteger(limit.get(), ProblemListPage.MESSAGE_CONSTRAINTS);
+        }
+        int pageNumber = 1;
+        if (page.isPresent()) {
+            pageNumber = parsePositiveInteger(page.get(), ProblemListPage.MESSAGE_CONSTRAINTS);
+        }
+        return new ProblemListPage(pageNumber, pageSize);
+    }
+
+    /**
+     * Parses {@code number} into a positive {@code int}. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException with {@code errorMessage} if {@code number} is not a positive integer.
+     */
+    private static int parsePositiveInteger(String number, String errorMessage) throws ParseException {
+        String trimmedNumber = number.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedNumber)) {
+            throw new ParseException(errorMessage);
+        }
+        return Integer.parseInt(trimmedNumber);
+    }
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
@@ -5,7 +5,9 @@ import static seedu.algobase.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMA
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_AUTHOR;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_DIFFICULTY;
+import static seedu.algobase.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.algobase.logic.parser.CliSyntax.PREFIX_PAGE;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_SOURCE;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.algobase.logic.parser.ParserUtil.parseAuthorPredicate;
@@ -22,7 +24,9 @@ import seedu.algobase.logic.commands.problem.FindCommand;
 import seedu.algobase.logic.parser.ArgumentMultimap;
 import seedu.algobase.logic.parser.ArgumentTokenizer;
 import seedu.algobase.logic.parser.Parser;
+import seedu.algobase.logic.parser.ParserUtil;
 import seedu.algobase.logic.parser.exceptions.ParseException;
+import seedu.algobase.model.problem.ProblemListPage;
 import seedu.algobase.model.searchrule.problemsearchrule.FindProblemDescriptor;
 
 /**
@@ -45,7 +49,7 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         ArgumentMultimap argumentMultimap =
             ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_AUTHOR, PREFIX_DESCRIPTION, PREFIX_SOURCE,
-                PREFIX_DIFFICULTY, PREFIX_TAG);
+                PREFIX_DIFFICULTY, PREFIX_TAG, PREFIX_LIMIT, PREFIX_PAGE);
 
         // According to the command format, no preamble should be present.
         if (!argumentMultimap.getPreamble().isBlank()) {
@@ -92,6 +96,9 @@ public class FindCommandParser implements Parser<FindCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_NO_CONSTRAINTS));
         }
 
-        return new FindCommand(findProblemDescriptor);
+        ProblemListPage page = ParserUtil.parseProblemListPage(argumentMultimap.getValue(PREFIX_LIMIT),
+            argumentMultimap.getValue(PREFIX_PAGE));
+
+        return new FindCommand(findProblemDescriptor, page);
     }
 }
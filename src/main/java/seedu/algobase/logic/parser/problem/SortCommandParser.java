@@ -2,9 +2,13 @@ package seedu.algobase.logic.parser.problem;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.algobase.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.algobase.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.algobase.logic.parser.CliSyntax.PREFIX_PAGE;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_SORTING_METHOD;
 import static seedu.algobase.logic.parser.CliSyntax.PREFIX_SORTING_ORDER;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import seedu.algobase.commons.core.LogsCenter;
@@ -14,6 +18,7 @@ import seedu.algobase.logic.parser.ArgumentTokenizer;
 import seedu.algobase.logic.parser.Parser;
 import seedu.algobase.logic.parser.ParserUtil;
 import seedu.algobase.logic.parser.exceptions.ParseException;
+import seedu.algobase.model.problem.ProblemListPage;
 
 /**
  * Parses input arguments and creates a new SortCommand object.
@@ -35,28 +40,47 @@ public class SortCommandParser implements Parser<SortCommand> {
         logger.info("Parsing sort command with input: " + userInput);
 
         ArgumentMultimap argumentMultimap =
-            ArgumentTokenizer.tokenize(userInput, PREFIX_SORTING_METHOD, PREFIX_SORTING_ORDER);
+            ArgumentTokenizer.tokenize(userInput, PREFIX_SORTING_METHOD, PREFIX_SORTING_ORDER, PREFIX_LIMIT,
+                PREFIX_PAGE);
 
         if (!argumentMultimap.getPreamble().isBlank()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
         }
 
-        if (argumentMultimap.getValue(PREFIX_SORTING_METHOD).isEmpty()) {
+        List<String> methodKeywords = argumentMultimap.getAllValues(PREFIX_SORTING_METHOD);
+        List<String> orderKeywords = argumentMultimap.getAllValues(PREFIX_SORTING_ORDER);
+        if (methodKeywords.isEmpty()
+            || (orderKeywords.size() > 1 && orderKeywords.size() != methodKeywords.size())) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
         }
-        SortCommand.SortingMethod method =
-            ParserUtil.parseSortingMethod(argumentMultimap.getValue(PREFIX_SORTING_METHOD).get());
 
-        SortCommand.SortingOrder order;
-        if (argumentMultimap.getValue(PREFIX_SORTING_ORDER).isEmpty()) {
+        List<SortCommand.SortingMethod> methods = new ArrayList<>();
+        for (String methodKeyword : methodKeywords) {
+            SortCommand.SortingMethod method = ParserUtil.parseSortingMethod(methodKeyword);
+            if (methods.contains(method)) {
+                throw new ParseException(SortCommand.MESSAGE_DUPLICATE_SORTING_METHOD);
+            }
+            methods.add(method);
+        }
+
+        List<SortCommand.SortingOrder> orders = new ArrayList<>();
+        for (String orderKeyword : orderKeywords) {
+            orders.add(ParserUtil.parseSortingOrder(orderKeyword));
+        }
+        if (orders.isEmpty()) {
             // As specified in UG, ascending order is the default value.
-            order = SortCommand.SortingOrder.ascend;
-        } else {
-            order = ParserUtil.parseSortingOrder(argumentMultimap.getValue(PREFIX_SORTING_ORDER).get());
+            orders.add(SortCommand.SortingOrder.ascend);
         }
+        // A single order applies to every sorting method.
+        while (orders.size() < methods.size()) {
+            orders.add(orders.get(0));
+        }
+
+        logger.info("Parsed sort command with methods " + methods.toString() + " and orders " + orders.toString());
 
-        logger.info("Parsed sort command with method " + method.toString() + " and order " + order.toString());
+        ProblemListPage page = ParserUtil.parseProblemListPage(argumentMultimap.getValue(PREFIX_LIMIT),
+            argumentMultimap.getValue(PREFIX_PAGE));
 
-        return new SortCommand(method, order);
+        return new SortCommand(methods, orders, page);
     }
 }
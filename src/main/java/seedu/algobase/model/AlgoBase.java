@@ -3,23 +3,31 @@ package seedu.algobase.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.algobase.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.ObservableList;
 import seedu.algobase.commons.exceptions.IllegalValueException;
 import seedu.algobase.model.gui.GuiState;
 import seedu.algobase.model.plan.Plan;
 import seedu.algobase.model.plan.PlanList;
+import seedu.algobase.model.problem.Author;
+import seedu.algobase.model.problem.FilteredProblemList;
 import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.problem.Source;
 import seedu.algobase.model.problem.UniqueProblemList;
 import seedu.algobase.model.searchrule.problemsearchrule.ProblemSearchRule;
 import seedu.algobase.model.searchrule.problemsearchrule.UniqueFindRuleList;
 import seedu.algobase.model.tag.Tag;
 import seedu.algobase.model.tag.UniqueTagList;
 import seedu.algobase.model.task.Task;
+import seedu.algobase.model.util.CompressedBitmap;
 
 /**
  * Wraps all data at the algobase level
@@ -45,7 +53,7 @@ public class AlgoBase implements ReadOnlyAlgoBase {
         plans = new PlanList();
         tags = new UniqueTagList();
         guiState = new GuiState();
-        findRules = new UniqueFindRuleList();
+        findRules = new UniqueFindRuleList(problems);
     }
 
     public AlgoBase() {
@@ -61,13 +69,15 @@ public class AlgoBase implements ReadOnlyAlgoBase {
 
     /**
      * Resets the existing data of this {@code AlgoBase} with {@code newData}.
+     * The tags are copied and the problems and plans are rebuilt to refer to the copies, so that editing a tag of
+     * this algobase leaves {@code newData} unchanged.
      */
     void resetData(ReadOnlyAlgoBase newData) {
         requireNonNull(newData);
 
+        setTags(newData.getTagList());
         setProblems(newData.getProblemList());
         setPlans(newData.getPlanList());
-        setTags(newData.getTagList());
         setFindRules(newData.getFindRules());
         this.guiState.resetData(newData.getGuiState());
     }
@@ -86,9 +96,14 @@ public class AlgoBase implements ReadOnlyAlgoBase {
     /**
      * Replaces the contents of the Problem list with {@code problems}.
      * {@code problems} must not contain duplicate problems.
+     * Each problem is held with the algobase's own tags of the same name, which are added if missing.
      */
     public void setProblems(List<Problem> problems) {
-        this.problems.setProblems(problems);
+        List<Problem> internedProblems = new ArrayList<>(problems.size());
+        for (Problem problem : problems) {
+            internedProblems.add(problem.internTags(tags::resolve));
+        }
+        this.problems.setProblems(internedProblems);
     }
 
     /**
@@ -102,25 +117,22 @@ public class AlgoBase implements ReadOnlyAlgoBase {
     /**
      * Adds a Problem to the algobase.
      * The Problem must not already exist in the algobase.
+     * It is held with the algobase's own tags of the same name, which are added if missing.
      */
     public void addProblem(Problem p) {
-        problems.add(p);
-        for (Tag tag : p.getTags()) {
-            if (!hasTag(tag)) {
-                addTag(tag);
-            }
-        }
+        problems.add(p.internTags(tags::resolve));
     }
 
     /**
      * Replaces the given Problem {@code target} in the list with {@code editedProblem}.
      * {@code target} must exist in the algobase.
      * The Problem identity of {@code editedProblem} must not be the same as another existing Problem in the algobase.
+     * It is held with the algobase's own tags of the same name, which are added if missing.
      */
     void setProblem(Problem target, Problem editedProblem) {
         requireNonNull(editedProblem);
 
-        problems.setProblem(target, editedProblem);
+        problems.setProblem(target, editedProblem.internTags(tags::resolve));
     }
 
     /**
@@ -139,12 +151,56 @@ public class AlgoBase implements ReadOnlyAlgoBase {
     @Override
     public Problem findProblemById(Id problemId) throws IllegalValueException {
         requireNonNull(problemId);
-        for (Problem problem : problems) {
-            if (problem.getId().equals(problemId)) {
-                return problem;
-            }
-        }
-        throw new IllegalValueException("No problem found");
+        return problems.findById(problemId)
+                .orElseThrow(() -> new IllegalValueException("No problem found"));
+    }
+
+    @Override
+    public CompressedBitmap getProblemOrdinals() {
+        return problems.getOrdinals();
+    }
+
+    @Override
+    public int getProblemOrdinal(Problem problem) {
+        return problems.getOrdinal(problem);
+    }
+
+    @Override
+    public Problem getProblemByOrdinal(int ordinal) {
+        return problems.getProblemByOrdinal(ordinal);
+    }
+
+    @Override
+    public CompressedBitmap getProblemOrdinalsWithAnyNameWord(Collection<String> words) {
+        return problems.getOrdinalsWithAnyNameWord(words);
+    }
+
+    @Override
+    public CompressedBitmap getProblemOrdinalsWithAllDescriptionWords(Collection<String> words) {
+        return problems.getOrdinalsWithAllDescriptionWords(words);
+    }
+
+    @Override
+    public CompressedBitmap getProblemOrdinalsWithDifficultyInRange(double lowerBound, double upperBound) {
+        return problems.getOrdinalsWithDifficultyInRange(lowerBound, upperBound);
+    }
+
+    @Override
+    public CompressedBitmap getProblemOrdinalsWithAuthor(Author author) {
+        return problems.getOrdinalsWithAuthor(author);
+    }
+
+    @Override
+    public CompressedBitmap getProblemOrdinalsWithSource(Source source) {
+        return problems.getOrdinalsWithSource(source);
+    }
+
+    /**
+     * Returns a view of the problems in this algobase that can be filtered with the bitmaps returned by the
+     * problem index lookups.
+     */
+    public FilteredProblemList createFilteredProblemList() {
+        return new FilteredProblemList(problems);
     }
 
     @Override
@@ -168,7 +224,7 @@ public class AlgoBase implements ReadOnlyAlgoBase {
      * @param newProblem the new problem to be added
      */
     void updateProblemInAllPlans(Problem oldProblem, Problem newProblem) {
-        plans.updateProblem(oldProblem, newProblem);
+        plans.updateProblem(oldProblem, problems.findById(newProblem.getId()).orElse(newProblem));
     }
 
     //========== Tag ====================================================================
@@ -198,13 +254,17 @@ public class AlgoBase implements ReadOnlyAlgoBase {
     }
 
     /**
-     * Replaces the given Tag {@code target} in the list with {@code editedTag}.
+     * Renames and recolors the given Tag {@code target} to match {@code editedTag}.
      * {@code target} must exist in the algobase.
      * The Tag identity of {@code editedTag} must not be the same as another existing Tag in the algobase.
+     * Problems share the algobase's tags, so none of them needs to be rewritten.
      */
     void setTag(Tag target, Tag editedTag) {
         requireNonNull(editedTag);
+        String oldName = target.getName();
         tags.setTag(target, editedTag);
+        problems.renameTag(oldName, editedTag.getName());
+        findRules.rematchTagRules();
     }
 
     /**
@@ -223,68 +283,61 @@ public class AlgoBase implements ReadOnlyAlgoBase {
     @Override
     public Tag findTagById(Id tagId) throws IllegalValueException {
         requireNonNull(tagId);
-        for (Tag tag : tags) {
-            if (tag.getId().equals(tagId)) {
-                return tag;
-            }
-        }
-        throw new IllegalValueException("No tag found");
+        return tags.findById(tagId)
+                .orElseThrow(() -> new IllegalValueException("No tag found"));
     }
 
-    /**
-     * reset tag for problems with tag
-     * @param oldTag tag that will reset
-     * @param newTag tag that reset to
-     */
-    public void resetTagForProblemsWithTag(Tag oldTag, Tag newTag) {
-        for (Problem problem : problems) {
-            if (problem.getTags().stream().anyMatch(x -> x.isSameTag(oldTag))) {
-                Problem newProblem = new
-                        Problem(problem.getId(),
-                        problem.getName(),
-                        problem.getAuthor(),
-                        problem.getWebLink(),
-                        problem.getDescription(),
-                        problem.getTags(),
-                        problem.getDifficulty(),
-                        problem.getRemark(),
-                        problem.getSource());
-                newProblem.setTag(oldTag, newTag);
-                problems.setProblem(problem, newProblem);
-            }
-        }
+    @Override
+    public CompressedBitmap getProblemOrdinalsWithAllTags(Collection<String> tagNames) {
+        return problems.getOrdinalsWithAllTags(tagNames);
+    }
+
+    @Override
+    public int countProblemsWithTag(Tag tag) {
+        return problems.countProblemsWithTag(tag);
     }
 
     /**
-     * delete tag for problems with tag
+     * delete tag from problems with tag
+     * The problems are replaced by copies without the tag, which the plans are updated to use.
+     * @param tag tag that will be deleted
      */
-    public void refreshTagForProblemsWithTag() {
-        for (Problem problem : problems) {
-            Problem newProblem = new
-                    Problem(problem.getId(),
-                    problem.getName(),
-                    problem.getAuthor(),
-                    problem.getWebLink(),
-                    problem.getDescription(),
-                    problem.getTags(),
-                    problem.getDifficulty(),
-                    problem.getRemark(),
-                    problem.getSource());
-            Tag newTag = new Tag("#forRefresh#");
-            newProblem.addTag(newTag);
-            newProblem.deleteTag(newTag);
-            problems.setProblem(problem, newProblem);
-
+    public void deleteTagForProblemsWithTag(Tag tag) {
+        for (Problem updatedProblem : problems.removeTagFromProblems(tag)) {
+            // plans find the problem to update by its Id, which the copy keeps
+            plans.updateProblem(updatedProblem, updatedProblem);
         }
+        findRules.rematchTagRules();
     }
+
     //========== Plan ===================================================================
 
     /**
      * Replaces the contents of the Plan list with {@code plans}.
      * {@code plans} must not contain duplicate plans.
+     * The tasks are updated to refer to the algobase's own problems with the same Id.
      */
     public void setPlans(List<Plan> plans) {
-        this.plans.setPlans(plans);
+        List<Plan> boundPlans = new ArrayList<>(plans.size());
+        for (Plan plan : plans) {
+            boundPlans.add(bindTasks(plan));
+        }
+        this.plans.setPlans(boundPlans);
+    }
+
+    /**
+     * Returns {@code plan} with its tasks referring to the algobase's own problems with the same Id.
+     * {@code plan} itself is returned if they already do.
+     */
+    private Plan bindTasks(Plan plan) {
+        Set<Task> boundTasks = new HashSet<>();
+        boolean isBound = true;
+        for (Task task : plan.getTaskList()) {
+            Problem problem = problems.findById(task.getProblem().getId()).orElse(task.getProblem());
+            isBound &= problem == task.getProblem();
+            boundTasks.add(problem == task.getProblem() ? task : task.updateProblem(problem));
+        }
+        return isBound ? plan : plan.updateTasks(boundTasks);
     }
 
     /**
@@ -329,12 +382,8 @@ public class AlgoBase implements ReadOnlyAlgoBase {
     @Override
     public Plan findPlanById(Id planId) throws IllegalValueException {
         requireNonNull(planId);
-        for (Plan plan : plans) {
-            if (plan.getId().equals(planId)) {
-                return plan;
-            }
-        }
-        throw new IllegalValueException("No plan found");
+        return plans.findById(planId)
+                .orElseThrow(() -> new IllegalValueException("No plan found"));
     }
 
     //========== Task ===================================================================
@@ -349,6 +398,34 @@ public class AlgoBase implements ReadOnlyAlgoBase {
         plans.setPlan(plan, plan.updateTasks(taskSet));
     }
 
+    /**
+     * Adds {@code task} to {@code plan}.
+     */
+    public void addTask(Plan plan, Task task) {
+        plans.addTask(plan, task);
+    }
+
+    /**
+     * Removes {@code task} from {@code plan}.
+     */
+    public void removeTask(Plan plan, Task task) {
+        plans.removeTask(plan, task);
+    }
+
+    /**
+     * Replaces {@code target} in {@code plan} with {@code updatedTask}.
+     */
+    public void updateTask(Plan plan, Task target, Task updatedTask) {
+        plans.updateTask(plan, target, updatedTask);
+    }
+
+    /**
+     * Moves {@code task} from {@code fromPlan} to {@code toPlan}.
+     */
+    public void moveTask(Plan fromPlan, Plan toPlan, Task task) {
+        plans.moveTask(fromPlan, toPlan, task);
+    }
+
     @Override
     public void setCurrentPlan(Plan plan) {
         plans.setCurrentPlan(plan);
@@ -446,6 +523,16 @@ public class AlgoBase implements ReadOnlyAlgoBase {
         return findRules.asUnmodifiableObservableList();
     }
 
+    @Override
+    public CompressedBitmap getProblemOrdinalsMatchingFindRule(ProblemSearchRule rule) {
+        return findRules.getMatchingProblemOrdinals(rule);
+    }
+
+    @Override
+    public ReadOnlyIntegerProperty getFindRuleMatchCount(ProblemSearchRule rule) {
+        return findRules.getMatchCount(rule);
+    }
+
     //========== Util ===================================================================
 
     @Override
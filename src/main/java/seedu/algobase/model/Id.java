@@ -1,22 +1,70 @@
 package seedu.algobase.model;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Unique ID for AlgoBase models.
+ * Ids in the canonical UUID text form are held as two {@code long}s, which keeps them small and makes
+ * {@code equals} and {@code hashCode} cheap. Any other id value is held as given.
  */
 public class Id {
-    private final String idValue;
+
+    /**
+     * Generates ids from {@code UUID#randomUUID()}, which draws on {@code SecureRandom}.
+     */
+    public static final Generator RANDOM_UUID_GENERATOR = () -> {
+        UUID uuid = UUID.randomUUID();
+        return new Id(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    };
+
+    /**
+     * Generates time-ordered ids in the UUID text form without gathering entropy for each id.
+     * The high bits hold the creation time in milliseconds and the low bits hold a counter that starts at a
+     * random value for each process, so ids are unique within a process and do not collide with ids created
+     * and saved by earlier runs.
+     */
+    public static final Generator MONOTONIC_GENERATOR = new MonotonicGenerator();
+
+    private static final int UUID_LENGTH = 36;
+    private static final int HEX_RADIX = 16;
+
+    private static Generator generator = MONOTONIC_GENERATOR;
+
+    private final long mostSigBits;
+    private final long leastSigBits;
+    /** The id value if it is not in the canonical UUID text form, or null otherwise. */
+    private final String legacyValue;
 
     public Id(String idValue) {
-        this.idValue = idValue;
+        requireNonNull(idValue);
+        if (isCanonicalUuid(idValue)) {
+            this.mostSigBits = parseHex(idValue, 0, 8) << 32 | parseHex(idValue, 9, 13) << 16
+                | parseHex(idValue, 14, 18);
+            this.leastSigBits = parseHex(idValue, 19, 23) << 48 | parseHex(idValue, 24, 36);
+            this.legacyValue = null;
+        } else {
+            this.mostSigBits = 0;
+            this.leastSigBits = 0;
+            this.legacyValue = idValue;
+        }
+    }
+
+    public Id(long mostSigBits, long leastSigBits) {
+        this.mostSigBits = mostSigBits;
+        this.leastSigBits = leastSigBits;
+        this.legacyValue = null;
     }
 
     /**
-     * Generate Id based on unix timestamp.
+     * Generate Id with the current {@code Generator}.
      */
     public static Id generateId() {
-        return new Id(UUID.randomUUID().toString());
+        return generator.generate();
     }
 
     /**
@@ -26,24 +74,98 @@ public class Id {
         return new Id(idValue);
     }
 
+    /**
+     * Sets the {@code Generator} used by {@link #generateId()}.
+     */
+    public static void setGenerator(Generator newGenerator) {
+        requireNonNull(newGenerator);
+        generator = newGenerator;
+    }
+
+    public static Generator getGenerator() {
+        return generator;
+    }
+
+    /**
+     * Returns true if {@code value} is a UUID as written by {@code UUID#toString()}: lower case hexadecimal digits
+     * in groups of 8, 4, 4, 4 and 12, separated by hyphens.
+     */
+    private static boolean isCanonicalUuid(String value) {
+        if (value.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = value.charAt(i);
+            boolean isValid = (i == 8 || i == 13 || i == 18 || i == 23)
+                ? c == '-'
+                : (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f');
+            if (!isValid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseHex(String value, int beginIndex, int endIndex) {
+        return Long.parseUnsignedLong(value.substring(beginIndex, endIndex), HEX_RADIX);
+    }
+
     public String getIdValue() {
-        return this.idValue;
+        return legacyValue != null ? legacyValue : new UUID(mostSigBits, leastSigBits).toString();
     }
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-            || (other instanceof Id // instanceof handles nulls
-            && idValue.equals(((Id) other).idValue)); // state check
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof Id)) {
+            return false;
+        }
+
+        Id otherId = (Id) other;
+        return mostSigBits == otherId.mostSigBits
+            && leastSigBits == otherId.leastSigBits
+            && Objects.equals(legacyValue, otherId.legacyValue);
     }
 
     @Override
     public int hashCode() {
-        return idValue.hashCode();
+        return legacyValue != null ? legacyValue.hashCode() : Long.hashCode(mostSigBits ^ leastSigBits);
     }
 
     @Override
     public String toString() {
-        return idValue;
+        return getIdValue();
+    }
+
+    /**
+     * A strategy for generating the values of new ids.
+     */
+    @FunctionalInterface
+    public interface Generator {
+        /**
+         * Returns a new id, distinct from every id returned before.
+         */
+        Id generate();
+    }
+
+    /**
+     * Generates ids laid out as version 7 UUIDs, with the counter in place of the random low bits.
+     */
+    private static class MonotonicGenerator implements Generator {
+        private static final long VERSION_BITS = 0x7000L;
+        private static final long VARIANT_BITS = 0x8000000000000000L;
+        private static final long COUNTER_BOUND = 1L << 61;
+
+        private final AtomicLong counter = new AtomicLong(ThreadLocalRandom.current().nextLong(COUNTER_BOUND));
+
+        @Override
+        public Id generate() {
+            long mostSigBits = (System.currentTimeMillis() << 16) | VERSION_BITS;
+            long leastSigBits = VARIANT_BITS | counter.getAndIncrement();
+            return new Id(mostSigBits, leastSigBits);
+        }
     }
 }
@@ -1,7 +1,6 @@
 package seedu.algobase.model;
 
 import java.nio.file.Path;
-import java.util.Comparator;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -12,9 +11,12 @@ import seedu.algobase.commons.core.GuiSettings;
 import seedu.algobase.model.gui.GuiState;
 import seedu.algobase.model.plan.Plan;
 import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.problem.ProblemListPage;
+import seedu.algobase.model.problem.ProblemOrder;
 import seedu.algobase.model.searchrule.problemsearchrule.ProblemSearchRule;
 import seedu.algobase.model.tag.Tag;
 import seedu.algobase.model.task.Task;
+import seedu.algobase.model.util.CompressedBitmap;
 
 /**
  * The API of the Model component.
@@ -96,6 +98,7 @@ public interface Model {
     /**
      * Adds the given Problem.
      * {@code Problem} must not already exist in the algobase.
+     * The filtered Problem list keeps its filter, and shows the problem at its sorted position only if it matches.
      * @param problem the problem to be added
      */
     void addProblem(Problem problem);
@@ -104,6 +107,7 @@ public interface Model {
      * Replaces the given Problem {@code target} with {@code editedProblem}.
      * {@code target} must exist in the algobase.
      * The Problem identity of {@code editedProblem} must not be the same as another existing Problem in the algobase.
+     * The filtered Problem list keeps its filter, and shows {@code editedProblem} only if it matches.
      * @param target the problem to be updated
      * @param editedProblem the updated problem
      */
@@ -114,17 +118,67 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered Problem list to filter by the given {@code predicate}.
+     * The list goes back to showing every matching problem on a single page.
      * @param predicate the predicate used to filter the Problem List
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredProblemList(Predicate<Problem> predicate);
 
     /**
-     * Updates the Problem list according to the given {@code problemComparator}.
-     * @param problemComparator the comparator to be used to sort the problem list
-     * @throws NullPointerException if {@code problemComparator} is null;
+     * Updates the filter of the filtered Problem list to filter by the given {@code predicate}, which matches
+     * exactly the problems whose ordinals are in {@code matchingOrdinals}.
+     * The list is filled from {@code matchingOrdinals} without testing every problem. Problems added or edited
+     * later are tested against {@code predicate}, so it must test the problem itself rather than look it up in
+     * a snapshot of the algobase. The list goes back to showing every matching problem on a single page.
+     * @param predicate the predicate used to filter the Problem List
+     * @param matchingOrdinals the ordinals of the problems matched by {@code predicate}
+     * @throws NullPointerException if {@code predicate} or {@code matchingOrdinals} is null.
+     */
+    void updateFilteredProblemList(Predicate<Problem> predicate, CompressedBitmap matchingOrdinals);
+
+    /**
+     * Updates the filter of the filtered Problem list as in
+     * {@link #updateFilteredProblemList(Predicate, CompressedBitmap)}, and shows only the problems on {@code page}.
+     * @param predicate the predicate used to filter the Problem List
+     * @param matchingOrdinals the ordinals of the problems matched by {@code predicate}
+     * @param page the page of matching problems to show
+     * @throws NullPointerException if any argument is null.
+     */
+    void updateFilteredProblemList(Predicate<Problem> predicate, CompressedBitmap matchingOrdinals,
+            ProblemListPage page);
+
+    /**
+     * Sorts the Problem list in the given {@code problemOrder}.
+     * The list goes back to showing every matching problem on a single page.
+     * @param problemOrder the order, possibly by several fields, to sort the problem list in
+     * @throws NullPointerException if {@code problemOrder} is null;
+     */
+    void updateSortedProblemList(ProblemOrder problemOrder);
+
+    /**
+     * Sorts the Problem list in the given {@code problemOrder}, and shows only the problems on {@code page}.
+     * @param problemOrder the order, possibly by several fields, to sort the problem list in
+     * @param page the page of sorted problems to show
+     * @throws NullPointerException if any argument is null;
+     */
+    void updateSortedProblemList(ProblemOrder problemOrder, ProblemListPage page);
+
+    /**
+     * Shows only the problems on {@code page} of the sorted Problem list.
+     * Only the problems up to the end of the page are sorted.
+     * @param page the page to show, or {@code ProblemListPage.ALL} to show every problem
+     * @throws NullPointerException if {@code page} is null;
      */
-    void updateSortedProblemList(Comparator<Problem> problemComparator);
+    void updateProblemListPage(ProblemListPage page);
+
+    /** Returns the page of the sorted Problem list that is shown. */
+    ProblemListPage getProblemListPage();
+
+    /** Returns the number of pages that the problems matching the filter take up, which is at least 1. */
+    int getProblemListPageCount();
+
+    /** Returns the number of problems that match the filter, on every page. */
+    int getFilteredProblemCount();
 
     //=========== Tag ===================================================================
 
@@ -151,6 +205,7 @@ public interface Model {
     /**
      * Adds the given Tag.
      * {@code Tag} must not already exist in the algobase.
+     * The filtered Tag list keeps its filter.
      * @param tag the tag to be added
      */
     void addTag(Tag tag);
@@ -163,7 +218,7 @@ public interface Model {
     void addTags(Set<Tag> tags);
 
     /**
-     * Replaces the given Tag {@code target} with {@code editedTag}.
+     * Replaces the given Tag {@code target} with {@code editedTag}, for every problem that carries it.
      * {@code target} must exist in the algobase.
      * The Tag identity of {@code editedTag} must not be the same as another existing Tag in the algobase.
      * @param target the tag to be updated
@@ -171,15 +226,6 @@ public interface Model {
      */
     void setTag(Tag target, Tag editedTag);
 
-    /**
-     * Replaces the given Tag {@code target} with {@code editedTag} for all problems in AlgoBase.
-     * {@code target} must exist in the algobase.
-     * The Tag identity of {@code editedTag} must not be the same as another existing Tag in the algobase.
-     * @param target the tag to be updated
-     * @param editedTag the updated tag
-     */
-    void setTags(Tag target, Tag editedTag);
-
     /** Returns an unmodifiable view of the filtered Tag list */
     ObservableList<Tag> getFilteredTagList();
 
@@ -208,6 +254,7 @@ public interface Model {
     /**
      * Adds the given Plan.
      * {@code Plan} must not already exist in the algobase.
+     * The filtered Plan list keeps its filter.
      * @param plan the plan to be added
      */
     void addPlan(Plan plan);
@@ -216,6 +263,7 @@ public interface Model {
      * Replaces the given Plan {@code target} with {@code editedPlan}.
      * {@code target} must exist in the algobase.
      * The Plan identity of {@code editedPlan} must not be the same as another existing Plan in the algobase.
+     * The filtered Plan list keeps its filter.
      * @param target the plan to be updated
      * @param editedPlan the updated plan
      */
@@ -259,6 +307,30 @@ public interface Model {
      */
     void updateTasks(Set<Task> taskSet, Plan plan);
 
+    /**
+     * Adds {@code task} to {@code plan}, which must not have it yet.
+     * The plan becomes the current plan.
+     */
+    void addTask(Plan plan, Task task);
+
+    /**
+     * Removes {@code task} from {@code plan}, which must have it.
+     * The plan becomes the current plan.
+     */
+    void removeTask(Plan plan, Task task);
+
+    /**
+     * Replaces the task {@code target} in {@code plan} with {@code updatedTask}.
+     * The plan becomes the current plan.
+     */
+    void updateTask(Plan plan, Task target, Task updatedTask);
+
+    /**
+     * Moves {@code task} from {@code fromPlan} to {@code toPlan}, which must not have it yet.
+     * {@code toPlan} becomes the current plan.
+     */
+    void moveTask(Plan fromPlan, Plan toPlan, Task task);
+
     /**
      * Sets the given {@code Plan} as the current plan in main display.
      * @param plan the plan to be set as current plan
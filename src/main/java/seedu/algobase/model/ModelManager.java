@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.algobase.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.Comparator;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -13,16 +12,19 @@ import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.algobase.commons.core.GuiSettings;
 import seedu.algobase.commons.core.LogsCenter;
-import seedu.algobase.logic.commands.problem.SortCommand;
 import seedu.algobase.model.gui.GuiState;
 import seedu.algobase.model.plan.Plan;
+import seedu.algobase.model.problem.FilteredProblemList;
 import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.problem.ProblemListPage;
+import seedu.algobase.model.problem.ProblemOrder;
+import seedu.algobase.model.problem.SortedProblemList;
 import seedu.algobase.model.searchrule.problemsearchrule.ProblemSearchRule;
 import seedu.algobase.model.tag.Tag;
 import seedu.algobase.model.task.Task;
+import seedu.algobase.model.util.CompressedBitmap;
 
 /**
  * Represents the in-memory model of the algobase data.
@@ -32,8 +34,8 @@ public class ModelManager implements Model {
 
     private final AlgoBase algoBase;
     private final UserPrefs userPrefs;
-    private final FilteredList<Problem> filteredProblems;
-    private final SortedList<Problem> sortedProblems;
+    private final FilteredProblemList filteredProblems;
+    private final SortedProblemList sortedProblems;
     private final FilteredList<Tag> filteredTags;
     private final FilteredList<Plan> filteredPlans;
     private final FilteredList<Task> filteredTasks;
@@ -50,10 +52,9 @@ public class ModelManager implements Model {
 
         this.algoBase = new AlgoBase(algoBase);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredProblems = new FilteredList<>(this.algoBase.getProblemList());
+        filteredProblems = this.algoBase.createFilteredProblemList();
         filteredTags = new FilteredList<>(this.algoBase.getTagList());
-        sortedProblems = new SortedList<>(filteredProblems);
-        sortedProblems.setComparator(SortCommand.PROBLEM_NAME_COMPARATOR);
+        sortedProblems = new SortedProblemList(filteredProblems, ProblemOrder.by(ProblemOrder.Field.NAME, true));
         filteredPlans = new FilteredList<>(this.algoBase.getPlanList());
         filteredTasks = new FilteredList<>(this.algoBase.getCurrentTaskList());
         filteredFindRules = new FilteredList<>(this.algoBase.getFindRules());
@@ -132,7 +133,6 @@ public class ModelManager implements Model {
     @Override
     public void addProblem(Problem problem) {
         algoBase.addProblem(problem);
-        updateFilteredProblemList(PREDICATE_SHOW_ALL_PROBLEMS);
     }
 
     @Override
@@ -149,19 +149,76 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredProblemList(Predicate<Problem> predicate) {
         requireNonNull(predicate);
-        filteredProblems.setPredicate(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_PROBLEMS) {
+            filteredProblems.setFilter(predicate, algoBase.getProblemOrdinals());
+        } else {
+            filteredProblems.setPredicate(predicate);
+        }
+        sortedProblems.setPage(ProblemListPage.ALL);
+    }
+
+    @Override
+    public void updateFilteredProblemList(Predicate<Problem> predicate, CompressedBitmap matchingOrdinals) {
+        updateFilteredProblemList(predicate, matchingOrdinals, ProblemListPage.ALL);
+    }
+
+    @Override
+    public void updateFilteredProblemList(Predicate<Problem> predicate, CompressedBitmap matchingOrdinals,
+            ProblemListPage page) {
+        requireAllNonNull(predicate, matchingOrdinals, page);
+        // The page is set on the side that keeps the sorting to the problems up to the end of the page.
+        if (page.equals(ProblemListPage.ALL)) {
+            filteredProblems.setFilter(predicate, matchingOrdinals);
+            sortedProblems.setPage(page);
+        } else {
+            sortedProblems.setPage(page);
+            filteredProblems.setFilter(predicate, matchingOrdinals);
+        }
     }
 
     /**
-     * Updates the Problem list according to the given {@code problemComparator}.
+     * Sorts the Problem list in the given {@code problemOrder}.
      *
-     * @param problemComparator a comparator of problems
-     * @throws NullPointerException if {@code problemComparator} is null;
+     * @param problemOrder an order of problems
+     * @throws NullPointerException if {@code problemOrder} is null;
      */
     @Override
-    public void updateSortedProblemList(Comparator<Problem> problemComparator) {
-        requireNonNull(problemComparator);
-        sortedProblems.setComparator(problemComparator);
+    public void updateSortedProblemList(ProblemOrder problemOrder) {
+        updateSortedProblemList(problemOrder, ProblemListPage.ALL);
+    }
+
+    @Override
+    public void updateSortedProblemList(ProblemOrder problemOrder, ProblemListPage page) {
+        requireAllNonNull(problemOrder, page);
+        // The page is set on the side that keeps the sorting to the problems up to the end of the page.
+        if (page.equals(ProblemListPage.ALL)) {
+            sortedProblems.setOrder(problemOrder);
+            sortedProblems.setPage(page);
+        } else {
+            sortedProblems.setPage(page);
+            sortedProblems.setOrder(problemOrder);
+        }
+    }
+
+    @Override
+    public void updateProblemListPage(ProblemListPage page) {
+        requireNonNull(page);
+        sortedProblems.setPage(page);
+    }
+
+    @Override
+    public ProblemListPage getProblemListPage() {
+        return sortedProblems.getPage();
+    }
+
+    @Override
+    public int getProblemListPageCount() {
+        return sortedProblems.getPageCount();
+    }
+
+    @Override
+    public int getFilteredProblemCount() {
+        return filteredProblems.size();
     }
 
     //=========== Tag ===================================================================
@@ -179,19 +236,13 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteTags(Tag target) {
-        for (Problem problem : filteredProblems) {
-            Set<Tag> targetTags = problem.getTags();
-            if (targetTags.contains(target)) {
-                problem.deleteTag(target);
-            }
-        }
-        algoBase.refreshTagForProblemsWithTag();
+        requireNonNull(target);
+        algoBase.deleteTagForProblemsWithTag(target);
     }
 
     @Override
     public void addTag(Tag tag) {
         algoBase.addTag(tag);
-        updateFilteredTagList(PREDICATE_SHOW_ALL_TAGS);
     }
 
     @Override
@@ -208,19 +259,6 @@ public class ModelManager implements Model {
         algoBase.setTag(target, editedTag);
     }
 
-    @Override
-    public void setTags(Tag target, Tag editedTag) {
-        requireAllNonNull(target, editedTag);
-        for (Problem problem : filteredProblems) {
-            Set<Tag> targetTags = problem.getTags();
-            if (targetTags.contains(target)) {
-                problem.deleteTag(target);
-                problem.addTag(editedTag);
-            }
-        }
-        algoBase.resetTagForProblemsWithTag(target, editedTag);
-    }
-
     @Override
     public ObservableList<Tag> getFilteredTagList() {
         return filteredTags;
@@ -248,7 +286,6 @@ public class ModelManager implements Model {
     @Override
     public void addPlan(Plan plan) {
         algoBase.addPlan(plan);
-        updateFilteredPlanList(PREDICATE_SHOW_ALL_PLANS);
     }
 
     @Override
@@ -294,6 +331,30 @@ public class ModelManager implements Model {
         this.algoBase.updateTasks(taskSet, plan);
     }
 
+    @Override
+    public void addTask(Plan plan, Task task) {
+        requireAllNonNull(plan, task);
+        algoBase.addTask(plan, task);
+    }
+
+    @Override
+    public void removeTask(Plan plan, Task task) {
+        requireAllNonNull(plan, task);
+        algoBase.removeTask(plan, task);
+    }
+
+    @Override
+    public void updateTask(Plan plan, Task target, Task updatedTask) {
+        requireAllNonNull(plan, target, updatedTask);
+        algoBase.updateTask(plan, target, updatedTask);
+    }
+
+    @Override
+    public void moveTask(Plan fromPlan, Plan toPlan, Task task) {
+        requireAllNonNull(fromPlan, toPlan, task);
+        algoBase.moveTask(fromPlan, toPlan, task);
+    }
+
     @Override
     public void setCurrentPlan(Plan plan) {
         this.algoBase.setCurrentPlan(plan);
@@ -1,15 +1,21 @@
 package seedu.algobase.model;
 
+import java.util.Collection;
+
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.ObservableList;
 import seedu.algobase.commons.exceptions.IllegalValueException;
 import seedu.algobase.model.gui.GuiState;
 import seedu.algobase.model.plan.Plan;
+import seedu.algobase.model.problem.Author;
 import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.problem.Source;
 import seedu.algobase.model.searchrule.problemsearchrule.ProblemSearchRule;
 import seedu.algobase.model.tag.Tag;
 import seedu.algobase.model.task.Task;
+import seedu.algobase.model.util.CompressedBitmap;
 
 /**
  * Unmodifiable view of an algobase
@@ -27,6 +33,47 @@ public interface ReadOnlyAlgoBase {
      */
     Problem findProblemById(Id problemId) throws IllegalValueException;
 
+    /**
+     * Returns the ordinals of every problem in the algobase.
+     * Each problem has a small, stable ordinal, so that sets of problems can be held as {@code CompressedBitmap}s.
+     */
+    CompressedBitmap getProblemOrdinals();
+
+    /**
+     * Returns the ordinal of {@code problem}, or -1 if it is not in the algobase.
+     */
+    int getProblemOrdinal(Problem problem);
+
+    /**
+     * Returns the problem with the given {@code ordinal}.
+     */
+    Problem getProblemByOrdinal(int ordinal);
+
+    /**
+     * Returns the ordinals of the problems whose name contains any of {@code words}, ignoring case.
+     */
+    CompressedBitmap getProblemOrdinalsWithAnyNameWord(Collection<String> words);
+
+    /**
+     * Returns the ordinals of the problems whose description contains all of {@code words}, ignoring case.
+     */
+    CompressedBitmap getProblemOrdinalsWithAllDescriptionWords(Collection<String> words);
+
+    /**
+     * Returns the ordinals of the problems whose difficulty is in the range [{@code lowerBound}, {@code upperBound}].
+     */
+    CompressedBitmap getProblemOrdinalsWithDifficultyInRange(double lowerBound, double upperBound);
+
+    /**
+     * Returns the ordinals of the problems whose author is {@code author}.
+     */
+    CompressedBitmap getProblemOrdinalsWithAuthor(Author author);
+
+    /**
+     * Returns the ordinals of the problems whose source is {@code source}.
+     */
+    CompressedBitmap getProblemOrdinalsWithSource(Source source);
+
     /**
      * Checks whether a problem is used in any plan.
      */
@@ -43,6 +90,16 @@ public interface ReadOnlyAlgoBase {
      */
     Tag findTagById(Id tagId) throws IllegalValueException;
 
+    /**
+     * Returns the ordinals of the problems that carry every tag named in {@code tagNames}.
+     */
+    CompressedBitmap getProblemOrdinalsWithAllTags(Collection<String> tagNames);
+
+    /**
+     * Returns the number of problems that carry {@code tag}.
+     */
+    int countProblemsWithTag(Tag tag);
+
     /**
      * Returns an unmodifiable view of the plans list.
      */
@@ -94,6 +151,16 @@ public interface ReadOnlyAlgoBase {
      */
     ObservableList<ProblemSearchRule> getFindRules();
 
+    /**
+     * Returns the ordinals of the problems matched by the find rule {@code rule}, which must be in the algobase.
+     */
+    CompressedBitmap getProblemOrdinalsMatchingFindRule(ProblemSearchRule rule);
+
+    /**
+     * Returns the number of problems matched by the find rule {@code rule}, which must be in the algobase.
+     */
+    ReadOnlyIntegerProperty getFindRuleMatchCount(ProblemSearchRule rule);
+
 
     /**
      * Returns a view of the GuiState.
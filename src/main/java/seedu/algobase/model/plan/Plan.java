@@ -3,8 +3,6 @@ package seedu.algobase.model.plan;
 import static seedu.algobase.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
@@ -15,13 +13,21 @@ import java.util.stream.Collectors;
 import seedu.algobase.model.Id;
 import seedu.algobase.model.problem.Problem;
 import seedu.algobase.model.task.Task;
+import seedu.algobase.model.task.exceptions.DuplicateTaskException;
+import seedu.algobase.model.task.exceptions.TaskNotFoundException;
+import seedu.algobase.model.util.PersistentSortedList;
 
 /**
  * Represents a Plan in the algobase.
+ * Tasks are kept sorted by name, so they are looked up by index without sorting or copying them.
+ * The number of done tasks is counted once when the plan is created and carried over as single tasks change.
+ * Tasks are matched by the id of their problem, and the hash code leaves out the tasks so that it is computed once.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Plan {
 
+    private static final Comparator<Task> TASK_ORDER = Comparator.comparing(Task::getName);
+
     // Identity fields
     private final Id id;
     private final PlanName planName;
@@ -30,7 +36,9 @@ public class Plan {
     private final PlanDescription planDescription;
     private final LocalDate startDate;
     private final LocalDate endDate;
-    private final Set<Task> tasks;
+    private final PersistentSortedList<Task> tasks;
+    private final int doneTaskCount;
+    private final int hash;
 
     /**
      * Every field must be present and not null.
@@ -43,8 +51,9 @@ public class Plan {
         this.planDescription = planDescription;
         this.startDate = startDate;
         this.endDate = endDate;
-        this.tasks = new HashSet<>();
-        this.tasks.addAll(tasks);
+        this.tasks = PersistentSortedList.of(TASK_ORDER, tasks);
+        this.doneTaskCount = (int) tasks.stream().filter(Task::getIsDone).count();
+        this.hash = hashOf(planName, planDescription, startDate, endDate);
     }
 
     public Plan(Id id, PlanName planName, PlanDescription planDescription, LocalDate startDate,
@@ -55,8 +64,20 @@ public class Plan {
         this.planDescription = planDescription;
         this.startDate = startDate;
         this.endDate = endDate;
-        this.tasks = new HashSet<>();
-        this.tasks.addAll(tasks);
+        this.tasks = PersistentSortedList.of(TASK_ORDER, tasks);
+        this.doneTaskCount = (int) tasks.stream().filter(Task::getIsDone).count();
+        this.hash = hashOf(planName, planDescription, startDate, endDate);
+    }
+
+    private Plan(Plan plan, PersistentSortedList<Task> tasks, int doneTaskCount) {
+        this.id = plan.id;
+        this.planName = plan.planName;
+        this.planDescription = plan.planDescription;
+        this.startDate = plan.startDate;
+        this.endDate = plan.endDate;
+        this.tasks = tasks;
+        this.doneTaskCount = doneTaskCount;
+        this.hash = plan.hash;
     }
 
     /**
@@ -69,6 +90,70 @@ public class Plan {
         return new Plan(id, planName, planDescription, startDate, endDate, taskSet);
     }
 
+    /**
+     * Creates and returns a {@code Plan} with the details of the original plan and {@code task} added.
+     * Only the tasks on the way to the new task are copied.
+     */
+    Plan addTask(Task task) {
+        requireAllNonNull(task);
+        if (containsTask(task)) {
+            throw new DuplicateTaskException();
+        }
+        return new Plan(this, tasks.with(task), doneTaskCount + countIfDone(task));
+    }
+
+    /**
+     * Creates and returns a {@code Plan} with the details of the original plan and {@code task} removed.
+     * Only the tasks on the way to the removed task are copied.
+     */
+    Plan removeTask(Task task) {
+        requireAllNonNull(task);
+        int index = indexOfTask(task);
+        return new Plan(this, tasks.without(index), doneTaskCount - countIfDone(tasks.get(index)));
+    }
+
+    /**
+     * Creates and returns a {@code Plan} with the details of the original plan and {@code target} replaced by
+     * {@code updatedTask}. Only the tasks on the way to the two tasks are copied.
+     */
+    Plan updateTask(Task target, Task updatedTask) {
+        requireAllNonNull(target, updatedTask);
+        int index = indexOfTask(target);
+        if (!target.isSameTask(updatedTask) && containsTask(updatedTask)) {
+            throw new DuplicateTaskException();
+        }
+        return new Plan(this, tasks.withReplaced(index, updatedTask),
+            doneTaskCount - countIfDone(tasks.get(index)) + countIfDone(updatedTask));
+    }
+
+    /**
+     * Returns true if the plan has a task for the same problem as {@code task}.
+     */
+    public boolean containsTask(Task task) {
+        requireAllNonNull(task);
+        return tasks.indexOfMatch(task, task::isSameTask) >= 0;
+    }
+
+    /**
+     * Returns the index of the task for the same problem as {@code task} in the task list.
+     *
+     * @throws TaskNotFoundException if the plan has no such task.
+     */
+    int indexOfTask(Task task) {
+        int index = tasks.indexOfMatch(task, task::isSameTask);
+        if (index < 0) {
+            throw new TaskNotFoundException();
+        }
+        return index;
+    }
+
+    /**
+     * Returns 1 if {@code task} is done, 0 otherwise.
+     */
+    private static int countIfDone(Task task) {
+        return task.getIsDone() ? 1 : 0;
+    }
+
     /**
      * Check whether a given date lies inside its own date range.
      * @return true/false based on whether the given date is within plan date range.
@@ -86,7 +171,7 @@ public class Plan {
     boolean containsProblem(Problem problem) {
         requireAllNonNull(problem);
 
-        return this.tasks.stream().anyMatch(task -> task.getProblem().equals(problem));
+        return this.tasks.stream().anyMatch(task -> task.getProblem().getId().equals(problem.getId()));
     }
 
     /**
@@ -95,7 +180,7 @@ public class Plan {
     Plan removeProblem(Problem problem) {
         requireAllNonNull(problem);
 
-        Set<Task> taskSet = this.tasks.stream().filter(task -> !task.getProblem().equals(problem))
+        Set<Task> taskSet = this.tasks.stream().filter(task -> !task.getProblem().getId().equals(problem.getId()))
             .collect(Collectors.toSet());
         return this.updateTasks(taskSet);
     }
@@ -106,7 +191,7 @@ public class Plan {
     Plan updateProblem(Problem oldProblem, Problem newProblem) {
         Set<Task> taskSet = new HashSet<>();
         this.tasks.forEach(task -> {
-            if (task.getProblem().equals(oldProblem)) {
+            if (task.getProblem().getId().equals(oldProblem.getId())) {
                 taskSet.add(task.updateProblem(newProblem));
             } else {
                 taskSet.add(task);
@@ -119,14 +204,14 @@ public class Plan {
      * Returns number of done tasks within plan.
      */
     int getDoneTaskCount() {
-        return (int) this.getTasks().stream().filter(Task::getIsDone).count();
+        return doneTaskCount;
     }
 
     /**
      * Returns number of undone tasks within plan.
      */
     int getUndoneTaskCount() {
-        return (int) this.getTasks().stream().filter((task) -> !task.getIsDone()).count();
+        return tasks.size() - doneTaskCount;
     }
 
     public Id getId() {
@@ -154,16 +239,14 @@ public class Plan {
      * if modification is attempted.
      */
     public Set<Task> getTasks() {
-        return Collections.unmodifiableSet(tasks);
+        return tasks.asSet();
     }
 
     /**
-     * Returns a list of all tasks, sorted by name.
+     * Returns an immutable list of all tasks, sorted by name. A task is looked up by index in O(log n).
      */
     public List<Task> getTaskList() {
-        List<Task> taskList = new ArrayList<>(this.getTasks());
-        taskList.sort(Comparator.comparing(Task::getName));
-        return taskList;
+        return tasks;
     }
 
     /**
@@ -194,7 +277,8 @@ public class Plan {
         }
 
         Plan otherPlan = (Plan) other;
-        return otherPlan.getPlanName().equals(getPlanName())
+        return otherPlan.hash == hash
+                && otherPlan.getPlanName().equals(getPlanName())
                 && otherPlan.getPlanDescription().equals(getPlanDescription())
                 && otherPlan.getStartDate().equals(getStartDate())
                 && otherPlan.getEndDate().equals(getEndDate())
@@ -203,8 +287,17 @@ public class Plan {
 
     @Override
     public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Returns the hash code of a plan with the given fields. The tasks are left out, as they change far more often
+     * than the other fields.
+     */
+    private static int hashOf(PlanName planName, PlanDescription planDescription, LocalDate startDate,
+                              LocalDate endDate) {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(planName, planDescription, startDate, endDate, tasks);
+        return Objects.hash(planName, planDescription, startDate, endDate);
     }
 
     @Override
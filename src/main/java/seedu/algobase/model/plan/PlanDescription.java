@@ -3,6 +3,11 @@ package seedu.algobase.model.plan;
 import static java.util.Objects.requireNonNull;
 import static seedu.algobase.commons.util.AppUtil.checkArgument;
 
+import java.util.Collections;
+import java.util.Set;
+
+import seedu.algobase.commons.util.StringUtil;
+
 /**
  * Represents a Plan's description in the algobase.
  * Guarantees: immutable; is valid as declared in {@link #isValidDescription(String)}
@@ -19,6 +24,8 @@ public class PlanDescription {
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
     public final String value;
+    /** The case-folded words, which are set once on first use and may be read from several threads. */
+    private volatile Set<String> words;
 
     /**
      * Constructs an {@code PlanDescription}.
@@ -51,6 +58,20 @@ public class PlanDescription {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the case-folded words of this description, which are computed once and cached.
+     *
+     * @see StringUtil#toFoldedWordSet(String)
+     */
+    public Set<String> getWords() {
+        Set<String> cachedWords = words;
+        if (cachedWords == null) {
+            cachedWords = Collections.unmodifiableSet(StringUtil.toFoldedWordSet(value));
+            words = cachedWords;
+        }
+        return cachedWords;
+    }
+
     @Override
     public String toString() {
         return value;
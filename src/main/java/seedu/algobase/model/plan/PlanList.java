@@ -4,8 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static seedu.algobase.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
@@ -13,13 +18,25 @@ import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.algobase.model.Id;
 import seedu.algobase.model.plan.exceptions.PlanNotFoundException;
 import seedu.algobase.model.problem.Problem;
 import seedu.algobase.model.task.Task;
+import seedu.algobase.model.task.exceptions.DuplicateTaskException;
+import seedu.algobase.model.task.exceptions.TaskNotFoundException;
 
 /**
  * A list of plans.
  *
+ * Keeps a reverse index from each {@code Problem} Id to the Ids of the plans with a task on that problem,
+ * so that problem lookups, edits and deletions only touch the plans that actually reference the problem.
+ *
+ * Each plan's position in the list is also kept by Id, so that a plan is found without scanning the list. Removing a
+ * plan renumbers the plans after it.
+ *
+ * Tasks are added, removed and updated one at a time in their plan. When the plan is the current plan, the task list
+ * is told of the one task that changed instead of being refilled.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Plan#isSamePlan(Plan)
@@ -36,31 +53,66 @@ public class PlanList implements Iterable<Plan> {
     private final IntegerProperty doneCount = new SimpleIntegerProperty();
     private final IntegerProperty undoneCount = new SimpleIntegerProperty();
     private final IntegerProperty taskCount = new SimpleIntegerProperty();
+    private final Map<Id, Plan> idIndex = new HashMap<>();
+    private final Map<Id, Integer> positionIndex = new HashMap<>();
+    private final Map<Id, Set<Id>> problemIndex = new HashMap<>();
+    private Id currentPlanId;
 
     /**
      * Check whether any plan in the list contains the given problem.
      * @return true/false based on whether the given problem is contained in one of the plans.
      */
     public boolean containsProblem(Problem problem) {
-        return internalList.stream().anyMatch(plan -> plan.containsProblem(problem));
+        requireNonNull(problem);
+        return getPlansUsingProblem(problem).stream().anyMatch(plan -> plan.containsProblem(problem));
     }
 
     /**
      * Removes the given problem from all tasks.
      */
     public void removeProblem(Problem problem) {
-        List<Plan> updatedList = new ArrayList<>();
-        internalList.forEach(plan -> updatedList.add(plan.removeProblem(problem)));
-        setPlans(updatedList);
+        requireNonNull(problem);
+        for (Plan plan : getPlansUsingProblem(problem)) {
+            if (plan.containsProblem(problem)) {
+                replacePlan(plan, plan.removeProblem(problem));
+            }
+        }
     }
 
     /**
      * Updates the given problem in all tasks.
      */
     public void updateProblem(Problem oldProblem, Problem newProblem) {
-        List<Plan> updatedList = new ArrayList<>();
-        internalList.forEach(plan -> updatedList.add(plan.updateProblem(oldProblem, newProblem)));
-        setPlans(updatedList);
+        requireAllNonNull(oldProblem, newProblem);
+        for (Plan plan : getPlansUsingProblem(oldProblem)) {
+            if (plan.containsProblem(oldProblem)) {
+                replacePlan(plan, plan.updateProblem(oldProblem, newProblem));
+            }
+        }
+    }
+
+    /**
+     * Returns the plans that have a task on a problem with the same Id as {@code problem}.
+     */
+    private List<Plan> getPlansUsingProblem(Problem problem) {
+        List<Plan> plansUsingProblem = new ArrayList<>();
+        for (Id planId : problemIndex.getOrDefault(problem.getId(), Set.of())) {
+            plansUsingProblem.add(idIndex.get(planId));
+        }
+        return plansUsingProblem;
+    }
+
+    /**
+     * Replaces {@code target} with {@code updatedPlan} in place, keeping the current plan on display
+     * unless it is the plan being replaced.
+     */
+    private void replacePlan(Plan target, Plan updatedPlan) {
+        internalList.set(indexOfId(target.getId()), updatedPlan);
+        unindex(target);
+        index(updatedPlan);
+        if (target.getId().equals(currentPlanId)) {
+            setCurrentPlan(updatedPlan);
+        }
     }
 
     /**
@@ -69,34 +121,177 @@ public class PlanList implements Iterable<Plan> {
     public void add(Plan toAdd) {
         requireNonNull(toAdd);
         internalList.add(toAdd);
+        positionIndex.put(toAdd.getId(), internalList.size() - 1);
+        index(toAdd);
         setCurrentPlan(toAdd);
     }
 
     /**
      * Replaces the Plan {@code target} in the list with {@code editedPlan}.
-     * {@code target} must exist in the list.
+     * A Plan with the same Id as {@code target} must exist in the list.
      */
     public void setPlan(Plan target, Plan updatedPlan) {
         requireAllNonNull(target, updatedPlan);
 
-        int index = internalList.indexOf(target);
+        int index = indexOfId(target.getId());
         if (index == -1) {
             throw new PlanNotFoundException();
         }
 
-        internalList.set(index, updatedPlan);
+        Plan replaced = internalList.set(index, updatedPlan);
+        positionIndex.remove(replaced.getId());
+        positionIndex.put(updatedPlan.getId(), index);
+        unindex(replaced);
+        index(updatedPlan);
         setCurrentPlan(updatedPlan);
     }
 
     /**
-     * Removes the equivalent Plan from the list.
+     * Adds {@code task} to {@code plan}, which becomes the current plan.
+     *
+     * @throws PlanNotFoundException if there is no plan with the Id of {@code plan}.
+     * @throws DuplicateTaskException if {@code plan} already has the task.
+     */
+    public void addTask(Plan plan, Task task) {
+        requireAllNonNull(plan, task);
+        Plan target = getPlanById(plan.getId());
+        Plan updatedPlan = target.addTask(task);
+        boolean isCurrentPlan = replaceForTaskChange(target, updatedPlan);
+        indexTask(updatedPlan, task);
+        if (isCurrentPlan) {
+            internalTaskList.add(updatedPlan.indexOfTask(task), task);
+            updateCounts(updatedPlan);
+        } else {
+            setCurrentPlan(updatedPlan);
+        }
+    }
+
+    /**
+     * Removes {@code task} from {@code plan}, which becomes the current plan.
+     *
+     * @throws PlanNotFoundException if there is no plan with the Id of {@code plan}.
+     * @throws TaskNotFoundException if {@code plan} does not have the task.
+     */
+    public void removeTask(Plan plan, Task task) {
+        requireAllNonNull(plan, task);
+        Plan target = getPlanById(plan.getId());
+        int index = target.indexOfTask(task);
+        Plan updatedPlan = target.removeTask(task);
+        boolean isCurrentPlan = replaceForTaskChange(target, updatedPlan);
+        unindexTask(updatedPlan, target.getTaskList().get(index));
+        if (isCurrentPlan) {
+            internalTaskList.remove(index);
+            updateCounts(updatedPlan);
+        } else {
+            setCurrentPlan(updatedPlan);
+        }
+    }
+
+    /**
+     * Replaces {@code target} in {@code plan} with {@code updatedTask}. The plan becomes the current plan.
+     *
+     * @throws PlanNotFoundException if there is no plan with the Id of {@code plan}.
+     * @throws TaskNotFoundException if {@code plan} does not have {@code target}.
+     * @throws DuplicateTaskException if {@code plan} already has another task like {@code updatedTask}.
+     */
+    public void updateTask(Plan plan, Task target, Task updatedTask) {
+        requireAllNonNull(plan, target, updatedTask);
+        Plan targetPlan = getPlanById(plan.getId());
+        int index = targetPlan.indexOfTask(target);
+        Plan updatedPlan = targetPlan.updateTask(target, updatedTask);
+        boolean isCurrentPlan = replaceForTaskChange(targetPlan, updatedPlan);
+        unindexTask(updatedPlan, targetPlan.getTaskList().get(index));
+        indexTask(updatedPlan, updatedTask);
+        if (isCurrentPlan) {
+            int updatedIndex = updatedPlan.indexOfTask(updatedTask);
+            if (updatedIndex == index) {
+                internalTaskList.set(index, updatedTask);
+            } else {
+                internalTaskList.remove(index);
+                internalTaskList.add(updatedIndex, updatedTask);
+            }
+            updateCounts(updatedPlan);
+        } else {
+            setCurrentPlan(updatedPlan);
+        }
+    }
+
+    /**
+     * Moves {@code task} from {@code fromPlan} to {@code toPlan}, which becomes the current plan.
+     *
+     * @throws PlanNotFoundException if there is no plan with the Id of either plan.
+     * @throws TaskNotFoundException if {@code fromPlan} does not have the task.
+     * @throws DuplicateTaskException if {@code toPlan} already has the task.
+     */
+    public void moveTask(Plan fromPlan, Plan toPlan, Task task) {
+        requireAllNonNull(fromPlan, toPlan, task);
+        Plan source = getPlanById(fromPlan.getId());
+        if (getPlanById(toPlan.getId()).containsTask(task)) {
+            throw new DuplicateTaskException();
+        }
+        Task movedTask = source.getTaskList().get(source.indexOfTask(task));
+        Plan updatedSource = source.removeTask(task);
+        if (replaceForTaskChange(source, updatedSource)) {
+            // The task list is refilled with the tasks of the destination plan below.
+            updateCounts(updatedSource);
+        }
+        unindexTask(updatedSource, movedTask);
+        addTask(toPlan, movedTask);
+    }
+
+    /**
+     * Returns the plan in the list with {@code id}.
+     *
+     * @throws PlanNotFoundException if there is no such plan.
+     */
+    private Plan getPlanById(Id id) {
+        Plan plan = idIndex.get(id);
+        if (plan == null) {
+            throw new PlanNotFoundException();
+        }
+        return plan;
+    }
+
+    /**
+     * Returns the index in the list of the plan with {@code id}, or -1 if there is none.
+     */
+    private int indexOfId(Id id) {
+        return positionIndex.getOrDefault(id, -1);
+    }
+
+    /**
+     * Records the positions of the plans in the list from {@code fromIndex} onwards.
+     */
+    private void indexPositions(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code updatedPlan}, which differs from it only in its tasks, in the list and in
+     * the Id index. Returns true if {@code target} is the current plan.
+     */
+    private boolean replaceForTaskChange(Plan target, Plan updatedPlan) {
+        internalList.set(indexOfId(target.getId()), updatedPlan);
+        idIndex.put(updatedPlan.getId(), updatedPlan);
+        return updatedPlan.getId().equals(currentPlanId);
+    }
+
+    /**
+     * Removes the Plan with the same Id as {@code toRemove} from the list.
      * The Plan must exist in the list.
      */
     public void remove(Plan toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOfId(toRemove.getId());
+        if (index == -1) {
             throw new PlanNotFoundException();
         }
+        Plan removed = internalList.remove(index);
+        positionIndex.remove(removed.getId());
+        indexPositions(index);
+        unindex(removed);
         clearCurrentPlan();
     }
 
@@ -114,6 +309,13 @@ public class PlanList implements Iterable<Plan> {
     public void setPlans(List<Plan> plans) {
         requireAllNonNull(plans);
         internalList.setAll(plans);
+        idIndex.clear();
+        positionIndex.clear();
+        problemIndex.clear();
+        indexPositions(0);
+        for (Plan plan : internalList) {
+            index(plan);
+        }
 
         if (plans.size() > 0) {
             // Default to first plan in list
@@ -123,6 +325,14 @@ public class PlanList implements Iterable<Plan> {
         }
     }
 
+    /**
+     * Returns the Plan with the given {@code id}, if any.
+     */
+    public Optional<Plan> findById(Id id) {
+        requireNonNull(id);
+        return Optional.ofNullable(idIndex.get(id));
+    }
+
     /**
      * Returns the current {@code Plan}.
      */
@@ -142,20 +352,29 @@ public class PlanList implements Iterable<Plan> {
      */
     public void setCurrentPlan(Plan plan) {
         if (plan != null) {
+            currentPlanId = plan.getId();
             currentPlan.set(plan.getPlanName().fullName);
-            doneCount.set(plan.getDoneTaskCount());
-            undoneCount.set(plan.getUndoneTaskCount());
-            taskCount.set(plan.getDoneTaskCount() + plan.getUndoneTaskCount());
+            updateCounts(plan);
             internalTaskList.setAll(plan.getTaskList());
         } else {
             clearCurrentPlan();
         }
     }
 
+    /**
+     * Sets the task counts of the current plan to those of {@code plan}.
+     */
+    private void updateCounts(Plan plan) {
+        doneCount.set(plan.getDoneTaskCount());
+        undoneCount.set(plan.getUndoneTaskCount());
+        taskCount.set(plan.getTaskList().size());
+    }
+
     /**
      * Sets the current {@code Plan} as empty.
      */
     private void clearCurrentPlan() {
+        currentPlanId = null;
         currentPlan.set("");
         doneCount.set(0);
         undoneCount.set(0);
@@ -163,6 +382,47 @@ public class PlanList implements Iterable<Plan> {
         internalTaskList.setAll();
     }
 
+    /**
+     * Adds {@code plan} to the Id index and the problem reverse index.
+     */
+    private void index(Plan plan) {
+        idIndex.put(plan.getId(), plan);
+        for (Task task : plan.getTasks()) {
+            indexTask(plan, task);
+        }
+    }
+
+    /**
+     * Removes {@code plan} from the Id index and the problem reverse index.
+     */
+    private void unindex(Plan plan) {
+        idIndex.remove(plan.getId());
+        for (Task task : plan.getTasks()) {
+            unindexTask(plan, task);
+        }
+    }
+
+    /**
+     * Records in the problem reverse index that {@code plan} has {@code task}.
+     */
+    private void indexTask(Plan plan, Task task) {
+        problemIndex.computeIfAbsent(task.getProblem().getId(), unused -> new HashSet<>()).add(plan.getId());
+    }
+
+    /**
+     * Removes the record in the problem reverse index that {@code plan} has {@code task}.
+     */
+    private void unindexTask(Plan plan, Task task) {
+        Set<Id> planIds = problemIndex.get(task.getProblem().getId());
+        if (planIds == null) {
+            return;
+        }
+        planIds.remove(plan.getId());
+        if (planIds.isEmpty()) {
+            problemIndex.remove(task.getProblem().getId());
+        }
+    }
+
     /**
      * Returns the number of done tasks in current plan.
      */
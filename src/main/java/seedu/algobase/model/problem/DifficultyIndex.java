@@ -0,0 +1,139 @@
+package seedu.algobase.model.problem;
+
+import java.util.Arrays;
+
+import seedu.algobase.model.util.CompressedBitmap;
+
+/**
+ * Keeps the ordinals of problems sorted by difficulty, so that the problems within a difficulty range form a
+ * contiguous slice that can be found by binary search.
+ * Entries of equal difficulty are ordered by ordinal, so that an entry can also be found by binary search when it is
+ * removed.
+ */
+class DifficultyIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private double[] difficulties = new double[INITIAL_CAPACITY];
+    private int[] ordinals = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Adds the problem with {@code ordinal} and {@code difficulty} to the index.
+     */
+    void add(int ordinal, double difficulty) {
+        if (size == ordinals.length) {
+            int capacity = ordinals.length * 2;
+            difficulties = Arrays.copyOf(difficulties, capacity);
+            ordinals = Arrays.copyOf(ordinals, capacity);
+        }
+        int position = findPosition(difficulty, ordinal);
+        System.arraycopy(difficulties, position, difficulties, position + 1, size - position);
+        System.arraycopy(ordinals, position, ordinals, position + 1, size - position);
+        difficulties[position] = difficulty;
+        ordinals[position] = ordinal;
+        size++;
+    }
+
+    /**
+     * Removes the problem with {@code ordinal} and {@code difficulty} from the index, if present.
+     */
+    void remove(int ordinal, double difficulty) {
+        int position = findPosition(difficulty, ordinal);
+        if (position < size && difficulties[position] == difficulty && ordinals[position] == ordinal) {
+            System.arraycopy(difficulties, position + 1, difficulties, position, size - position - 1);
+            System.arraycopy(ordinals, position + 1, ordinals, position, size - position - 1);
+            size--;
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the problems with ordinals 0 to {@code difficulties.length - 1},
+     * where {@code difficulties[ordinal]} is the difficulty of the problem with {@code ordinal}.
+     * The entries are sorted once, in O(n log n), instead of being inserted one at a time.
+     */
+    void rebuild(double[] difficulties) {
+        int count = difficulties.length;
+        // The distinct difficulties in ascending order, so that each difficulty can be counted by its rank.
+        double[] distinct = difficulties.clone();
+        Arrays.sort(distinct);
+        int distinctCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinctCount == 0 || Double.compare(distinct[distinctCount - 1], distinct[i]) != 0) {
+                distinct[distinctCount++] = distinct[i];
+            }
+        }
+        int[] ranks = new int[count];
+        int[] starts = new int[distinctCount + 1];
+        for (int ordinal = 0; ordinal < count; ordinal++) {
+            ranks[ordinal] = Arrays.binarySearch(distinct, 0, distinctCount, difficulties[ordinal]);
+            starts[ranks[ordinal] + 1]++;
+        }
+        for (int rank = 0; rank < distinctCount; rank++) {
+            starts[rank + 1] += starts[rank];
+        }
+        // Placing the ordinals in ascending order keeps the entries of equal difficulty ordered by ordinal.
+        int capacity = Math.max(INITIAL_CAPACITY, count);
+        this.difficulties = new double[capacity];
+        this.ordinals = new int[capacity];
+        for (int ordinal = 0; ordinal < count; ordinal++) {
+            int position = starts[ranks[ordinal]]++;
+            this.difficulties[position] = difficulties[ordinal];
+            this.ordinals[position] = ordinal;
+        }
+        size = count;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the ordinals of the problems whose difficulty is in the range [{@code lowerBound}, {@code upperBound}].
+     */
+    CompressedBitmap getOrdinalsInRange(double lowerBound, double upperBound) {
+        int from = findFirst(lowerBound, false);
+        int to = findFirst(upperBound, true);
+        int[] slice = Arrays.copyOfRange(ordinals, from, Math.max(from, to));
+        Arrays.sort(slice);
+        return CompressedBitmap.of(slice);
+    }
+
+    /**
+     * Returns the first position whose difficulty is greater than {@code difficulty} if {@code strictly},
+     * or not less than {@code difficulty} otherwise.
+     */
+    private int findFirst(double difficulty, boolean strictly) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            boolean isBefore = strictly ? difficulties[mid] <= difficulty : difficulties[mid] < difficulty;
+            if (isBefore) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first position whose entry is not ordered before ({@code difficulty}, {@code ordinal}).
+     */
+    private int findPosition(double difficulty, int ordinal) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            boolean isBefore = difficulties[mid] < difficulty
+                    || (difficulties[mid] == difficulty && ordinals[mid] < ordinal);
+            if (isBefore) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
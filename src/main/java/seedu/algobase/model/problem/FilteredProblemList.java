@@ -0,0 +1,323 @@
+package seedu.algobase.model.problem;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.algobase.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableListBase;
+import seedu.algobase.commons.core.LogsCenter;
+import seedu.algobase.model.util.CompressedBitmap;
+
+/**
+ * A view of the problems in a {@code UniqueProblemList} that match a filter, in the order of the list.
+ *
+ * The filter is held both as a predicate and as the bitmap of the ordinals of the problems it matches. When a filter
+ * is set together with its bitmap, the view is filled from the bitmap without testing any problem, and listeners are
+ * only told of the problems that enter or leave the view. Problems that are added, edited or updated afterwards are
+ * tested against the predicate one at a time, and problems that change together are reported in one change.
+ * A predicate that cannot test a problem, such as a saved find rule with a keyword containing spaces, does not match
+ * it, so that a later change to the list is not interrupted by the filter.
+ *
+ * @see UniqueProblemList#getOrdinal(Problem)
+ */
+public class FilteredProblemList extends ObservableListBase<Problem> implements ProblemOrdinalListener {
+
+    /**
+     * The largest number of problems entering or leaving the view that are reported one at a time. Larger changes
+     * are reported as a replacement of the whole view, which a {@code SortedList} over this view sorts in one pass
+     * instead of placing each problem in turn.
+     */
+    private static final int MAX_INCREMENTAL_CHANGES = 16;
+
+    private static final Logger logger = LogsCenter.getLogger(FilteredProblemList.class);
+
+    private final UniqueProblemList problems;
+    private Predicate<Problem> predicate;
+    /** Set once a failure of the predicate has been logged, so that it is logged once per filter. */
+    private volatile boolean hasLoggedFailure;
+    private CompressedBitmap members;
+    /** The problems in the view, in the order of their ordinals. */
+    private List<Problem> elements;
+    /** The ordinals and problems in the view when the current change to several problems started, if any. */
+    private int[] ordinalsBeforeChange;
+    private List<Problem> elementsBeforeChange;
+
+    /**
+     * Creates a view of every problem in {@code problems}.
+     */
+    public FilteredProblemList(UniqueProblemList problems) {
+        requireNonNull(problems);
+        this.problems = problems;
+        this.predicate = problem -> true;
+        this.members = problems.getOrdinals();
+        this.elements = getProblems(members);
+        problems.addOrdinalListener(this);
+        problems.asUnmodifiableObservableList().addListener(this::sourceChanged);
+    }
+
+    @Override
+    public Problem get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Returns the ordinals of the problems in the view.
+     */
+    public CompressedBitmap getOrdinals() {
+        return members.copy();
+    }
+
+    /**
+     * Returns the list the view is over.
+     */
+    UniqueProblemList getSource() {
+        return problems;
+    }
+
+    public Predicate<Problem> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Filters the view with {@code predicate}, testing every problem.
+     */
+    public void setPredicate(Predicate<Problem> predicate) {
+        requireNonNull(predicate);
+        hasLoggedFailure = false;
+        setFilter(predicate, match(predicate));
+    }
+
+    /**
+     * Filters the view with {@code predicate}, which matches exactly the problems whose ordinals are in
+     * {@code matchingOrdinals}. The view is filled from {@code matchingOrdinals}; {@code predicate} is only used
+     * for problems that change later on.
+     */
+    public void setFilter(Predicate<Problem> predicate, CompressedBitmap matchingOrdinals) {
+        requireAllNonNull(predicate, matchingOrdinals);
+        if (predicate != this.predicate) {
+            hasLoggedFailure = false;
+        }
+        this.predicate = predicate;
+        int enteringCount = CompressedBitmap.andNot(matchingOrdinals, members).getCardinality();
+        int leavingCount = CompressedBitmap.andNot(members, matchingOrdinals).getCardinality();
+        if (enteringCount == 0 && leavingCount == 0) {
+            return;
+        }
+
+        int[] oldOrdinals = members.toArray();
+        List<Problem> oldElements = elements;
+        members = matchingOrdinals.copy();
+        elements = getProblems(members);
+        reportChanges(oldOrdinals, oldElements);
+    }
+
+    @Override
+    public void problemIndexed(int ordinal, Problem problem) {
+        requireNonNull(problem);
+        if (!matches(predicate, problem)) {
+            return;
+        }
+        if (isChangingSeveral()) {
+            members.add(ordinal);
+            return;
+        }
+        beginChange();
+        enter(ordinal, problem);
+        endChange();
+    }
+
+    @Override
+    public void problemUnindexed(int ordinal) {
+        if (!members.contains(ordinal)) {
+            return;
+        }
+        if (isChangingSeveral()) {
+            members.remove(ordinal);
+            return;
+        }
+        beginChange();
+        leave(ordinal);
+        endChange();
+    }
+
+    @Override
+    public void problemsReindexed() {
+        List<Problem> oldElements = elements;
+        members = match(predicate);
+        elements = getProblems(members);
+        if (oldElements.isEmpty() && elements.isEmpty()) {
+            return;
+        }
+        beginChange();
+        nextReplace(0, elements.size(), oldElements);
+        endChange();
+    }
+
+    /**
+     * Remembers the problems in the view, so that the problems entering, leaving and replaced in the view until
+     * {@link #problemsChanged()} can be reported together. Until then, only the ordinals in the view are kept up to
+     * date.
+     */
+    @Override
+    public void problemsChanging() {
+        ordinalsBeforeChange = members.toArray();
+        elementsBeforeChange = elements;
+    }
+
+    /**
+     * Reports the problems that entered, left or were replaced in the view since {@link #problemsChanging()} in one
+     * change.
+     */
+    @Override
+    public void problemsChanged() {
+        int[] oldOrdinals = ordinalsBeforeChange;
+        List<Problem> oldElements = elementsBeforeChange;
+        ordinalsBeforeChange = null;
+        elementsBeforeChange = null;
+        elements = getProblems(members);
+        reportChanges(oldOrdinals, oldElements);
+    }
+
+    private boolean isChangingSeveral() {
+        return elementsBeforeChange != null;
+    }
+
+    /**
+     * Tells listeners how the view changed from the problems {@code oldElements}, which had the ordinals
+     * {@code oldOrdinals}, to its current problems. Problems that kept their ordinal but are no longer the same
+     * instance are reported as replaced.
+     */
+    private void reportChanges(int[] oldOrdinals, List<Problem> oldElements) {
+        int[] newOrdinals = members.toArray();
+        int changeCount = 0;
+        int i = 0;
+        int j = 0;
+        while (i < oldOrdinals.length || j < newOrdinals.length) {
+            if (j == newOrdinals.length || (i < oldOrdinals.length && oldOrdinals[i] < newOrdinals[j])) {
+                changeCount++;
+                i++;
+            } else if (i == oldOrdinals.length || oldOrdinals[i] > newOrdinals[j]) {
+                changeCount++;
+                j++;
+            } else {
+                changeCount += oldElements.get(i) == elements.get(j) ? 0 : 1;
+                i++;
+                j++;
+            }
+        }
+        if (changeCount == 0) {
+            return;
+        }
+
+        beginChange();
+        if (changeCount > MAX_INCREMENTAL_CHANGES) {
+            nextReplace(0, elements.size(), oldElements);
+        } else {
+            i = 0;
+            j = 0;
+            while (i < oldOrdinals.length || j < newOrdinals.length) {
+                if (j == newOrdinals.length || (i < oldOrdinals.length && oldOrdinals[i] < newOrdinals[j])) {
+                    nextRemove(j, oldElements.get(i));
+                    i++;
+                } else if (i == oldOrdinals.length || oldOrdinals[i] > newOrdinals[j]) {
+                    nextAdd(j, j + 1);
+                    j++;
+                } else {
+                    if (oldElements.get(i) != elements.get(j)) {
+                        nextSet(j, oldElements.get(i));
+                    }
+                    i++;
+                    j++;
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Tests the problems that were updated in place against the predicate.
+     * Problems entering and leaving the list are handled as their ordinals are given and taken back.
+     */
+    private void sourceChanged(ListChangeListener.Change<? extends Problem> change) {
+        while (change.next()) {
+            if (!change.wasUpdated()) {
+                continue;
+            }
+            beginChange();
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                Problem problem = change.getList().get(i);
+                int ordinal = problems.getOrdinal(problem);
+                boolean isMember = members.contains(ordinal);
+                boolean isMatched = matches(predicate, problem);
+                if (isMember && isMatched) {
+                    nextUpdate(members.rank(ordinal));
+                } else if (isMember) {
+                    leave(ordinal);
+                } else if (isMatched) {
+                    enter(ordinal, problem);
+                }
+            }
+            endChange();
+        }
+    }
+
+    /**
+     * Adds {@code problem}, which has {@code ordinal}, to the view and records the change.
+     */
+    private void enter(int ordinal, Problem problem) {
+        members.add(ordinal);
+        int position = members.rank(ordinal);
+        elements.add(position, problem);
+        nextAdd(position, position + 1);
+    }
+
+    /**
+     * Removes the problem with {@code ordinal} from the view and records the change.
+     */
+    private void leave(int ordinal) {
+        int position = members.rank(ordinal);
+        members.remove(ordinal);
+        nextRemove(position, elements.remove(position));
+    }
+
+    /**
+     * Returns the ordinals of the problems that match {@code predicate}.
+     */
+    private CompressedBitmap match(Predicate<Problem> predicate) {
+        return ProblemListEngine.match(problems.getOrdinals(), problems::getProblemByOrdinal,
+            problem -> matches(predicate, problem));
+    }
+
+    /**
+     * Returns true if {@code predicate} matches {@code problem}.
+     * A predicate that throws {@code IllegalArgumentException} does not match, and the first such failure of the
+     * filter is logged. May be called from several threads at once.
+     */
+    private boolean matches(Predicate<Problem> predicate, Problem problem) {
+        try {
+            return predicate.test(problem);
+        } catch (IllegalArgumentException e) {
+            if (!hasLoggedFailure) {
+                hasLoggedFailure = true;
+                logger.warning("The problem filter cannot be matched and matches no problem: " + e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private List<Problem> getProblems(CompressedBitmap ordinals) {
+        List<Problem> result = new ArrayList<>(ordinals.getCardinality());
+        ordinals.forEach(ordinal -> result.add(problems.getProblemByOrdinal(ordinal)));
+        return result;
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.algobase.model.problem;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.algobase.model.util.CompressedBitmap;
+
+/**
+ * Maps keys (such as words or tag names) to the ordinals of the problems they occur in.
+ */
+class InvertedIndex {
+
+    private final Map<String, CompressedBitmap> postings = new HashMap<>();
+
+    /**
+     * Records that every key in {@code keys} occurs in the problem with {@code ordinal}.
+     */
+    void add(int ordinal, Collection<String> keys) {
+        for (String key : keys) {
+            postings.computeIfAbsent(key, unused -> new CompressedBitmap()).add(ordinal);
+        }
+    }
+
+    /**
+     * Forgets that the keys in {@code keys} occur in the problem with {@code ordinal}.
+     */
+    void remove(int ordinal, Collection<String> keys) {
+        for (String key : keys) {
+            postings.computeIfPresent(key, (unused, posting) -> {
+                posting.remove(ordinal);
+                return posting.isEmpty() ? null : posting;
+            });
+        }
+    }
+
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the ordinals of the problems in which {@code key} occurs.
+     */
+    CompressedBitmap get(String key) {
+        CompressedBitmap posting = postings.get(key);
+        return posting == null ? new CompressedBitmap() : posting.copy();
+    }
+
+    /**
+     * Returns the number of problems in which {@code key} occurs.
+     */
+    int count(String key) {
+        CompressedBitmap posting = postings.get(key);
+        return posting == null ? 0 : posting.getCardinality();
+    }
+
+    /**
+     * Removes {@code key} from the index and returns the ordinals it occurred in.
+     */
+    CompressedBitmap removeKey(String key) {
+        CompressedBitmap posting = postings.remove(key);
+        return posting == null ? new CompressedBitmap() : posting;
+    }
+
+    /**
+     * Moves the ordinals recorded under {@code oldKey} to {@code newKey}.
+     */
+    void renameKey(String oldKey, String newKey) {
+        CompressedBitmap posting = postings.remove(oldKey);
+        if (posting != null) {
+            postings.put(newKey, posting);
+        }
+    }
+
+    /**
+     * Returns the ordinals of the problems in which every key in {@code keys} occurs.
+     * {@code keys} must not be empty. The posting lists are intersected starting from the smallest one.
+     */
+    CompressedBitmap getAll(Collection<String> keys) {
+        assert !keys.isEmpty();
+        List<CompressedBitmap> matches = new ArrayList<>();
+        for (String key : keys) {
+            CompressedBitmap posting = postings.get(key);
+            if (posting == null) {
+                return new CompressedBitmap();
+            }
+            matches.add(posting);
+        }
+        matches.sort(Comparator.comparingInt(CompressedBitmap::getCardinality));
+        CompressedBitmap result = matches.get(0).copy();
+        for (int i = 1; i < matches.size() && !result.isEmpty(); i++) {
+            result = CompressedBitmap.and(result, matches.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ordinals of the problems in which any key in {@code keys} occurs.
+     */
+    CompressedBitmap getAny(Collection<String> keys) {
+        CompressedBitmap result = new CompressedBitmap();
+        for (String key : keys) {
+            CompressedBitmap posting = postings.get(key);
+            if (posting != null) {
+                result = CompressedBitmap.or(result, posting);
+            }
+        }
+        return result;
+    }
+}
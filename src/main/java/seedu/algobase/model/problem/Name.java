@@ -3,6 +3,11 @@ package seedu.algobase.model.problem;
 import static java.util.Objects.requireNonNull;
 import static seedu.algobase.commons.util.AppUtil.checkArgument;
 
+import java.util.Collections;
+import java.util.Set;
+
+import seedu.algobase.commons.util.StringUtil;
+
 /**
  * Represents a Problem's name in the AlgoBase.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +24,8 @@ public class Name implements Comparable<Name> {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    /** The case-folded words, which are set once on first use and may be read from several threads. */
+    private volatile Set<String> words;
 
     /**
      * Constructs a {@code Name}.
@@ -39,6 +46,20 @@ public class Name implements Comparable<Name> {
     }
 
 
+    /**
+     * Returns the case-folded words of this name, which are computed once and cached.
+     *
+     * @see StringUtil#toFoldedWordSet(String)
+     */
+    public Set<String> getWords() {
+        Set<String> cachedWords = words;
+        if (cachedWords == null) {
+            cachedWords = Collections.unmodifiableSet(StringUtil.toFoldedWordSet(fullName));
+            words = cachedWords;
+        }
+        return cachedWords;
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -2,17 +2,27 @@ package seedu.algobase.model.problem;
 
 import static seedu.algobase.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import seedu.algobase.model.Id;
 import seedu.algobase.model.tag.Tag;
 
 /**
  * Represents a Problem in the algobase.
+ * Its hash code is computed once, when the problem is created.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * The tags of a problem in the algobase are the algobase's own instances, which its {@code UniqueTagList} may rename
+ * or recolor in place. The problem still holds the same tags, but their names can change while it is held, so they
+ * are left out of its hash code.
  */
 public class Problem {
 
@@ -24,10 +34,12 @@ public class Problem {
 
     // Data fields
     private final Description description;
-    private final Set<Tag> tags = new HashSet<>();
+    private final List<Tag> tags = new ArrayList<>();
+    private final Set<Tag> tagView = Collections.unmodifiableSet(new TagView());
     private final Difficulty difficulty;
     private final Remark remark;
     private final Source source;
+    private final int hash;
 
     /**
      * Every field must be present and not null.
@@ -45,10 +57,17 @@ public class Problem {
         this.author = author;
         this.webLink = webLink;
         this.description = description;
-        this.tags.addAll(tags);
+        for (Tag tag : tags) {
+            if (!this.tags.contains(tag)) {
+                this.tags.add(tag);
+            }
+        }
         this.difficulty = difficulty;
         this.remark = remark;
         this.source = source;
+        // use this method for custom fields hashing instead of implementing your own
+        // tags are left out as they can be renamed in place through the tag dictionary
+        this.hash = Objects.hash(name, author, webLink, description, difficulty, remark, source);
     }
 
     public Id getId() {
@@ -76,21 +95,49 @@ public class Problem {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tagView;
+    }
+
+    /**
+     * Returns true if this problem has a tag named {@code tagName}.
+     */
+    public boolean hasTagNamed(String tagName) {
+        for (int i = 0; i < tags.size(); i++) {
+            if (tags.get(i).getName().equals(tagName)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    public void addTag(Tag tag) {
-        tags.add(tag);
+    /**
+     * Creates and returns a {@code Problem} with the details of this problem whose tags are replaced by the tags
+     * returned by {@code dictionary}, which must have the same names. This lets problems share the tag instances held
+     * by the algobase. This problem is returned if {@code dictionary} returns each of its own tags.
+     */
+    public Problem internTags(UnaryOperator<Tag> dictionary) {
+        Set<Tag> internedTags = new LinkedHashSet<>();
+        boolean isInterned = true;
+        for (Tag tag : tags) {
+            Tag internedTag = dictionary.apply(tag);
+            isInterned &= internedTag == tag;
+            internedTags.add(internedTag);
+        }
+        return isInterned ? this : updateTags(internedTags);
     }
 
-    public void setTag(Tag oldTag, Tag newTag) {
-        // defensive here
-        tags.remove(oldTag);
-        tags.add(newTag);
+    /**
+     * Creates and returns a {@code Problem} with the details of this problem without the tag with the same name
+     * as {@code tag}.
+     */
+    public Problem deleteTag(Tag tag) {
+        Set<Tag> remainingTags = new LinkedHashSet<>(tags);
+        remainingTags.removeIf(existing -> existing.isSameTag(tag));
+        return updateTags(remainingTags);
     }
 
-    public void deleteTag(Tag tag) {
-        tags.remove(tag);
+    private Problem updateTags(Set<Tag> tags) {
+        return new Problem(id, name, author, webLink, description, tags, difficulty, remark, source);
     }
 
     public Difficulty getDifficulty() {
@@ -134,7 +181,8 @@ public class Problem {
         }
 
         Problem otherProblem = (Problem) other;
-        return otherProblem.getName().equals(getName())
+        return otherProblem.hash == hash
+                && otherProblem.getName().equals(getName())
                 && otherProblem.getAuthor().equals(getAuthor())
                 && otherProblem.getWebLink().equals(getWebLink())
                 && otherProblem.getDescription().equals(getDescription())
@@ -146,8 +194,7 @@ public class Problem {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, author, webLink, description, difficulty, remark, source, tags);
+        return hash;
     }
 
     @Override
@@ -171,4 +218,19 @@ public class Problem {
         return builder.toString();
     }
 
+    /**
+     * A {@code Set} view of the tags of this problem.
+     * Tags are kept in a list rather than hashed, so their names may change while they are held.
+     */
+    private class TagView extends AbstractSet<Tag> {
+        @Override
+        public Iterator<Tag> iterator() {
+            return tags.iterator();
+        }
+
+        @Override
+        public int size() {
+            return tags.size();
+        }
+    }
 }
@@ -0,0 +1,168 @@
+package seedu.algobase.model.problem;
+
+import static seedu.algobase.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.algobase.commons.core.Config;
+import seedu.algobase.commons.core.LogsCenter;
+import seedu.algobase.model.util.CompressedBitmap;
+
+/**
+ * Filters and sorts runs of problems, spreading the work over the common fork-join pool when there are at least as
+ * many problems as the parallel threshold given in the {@code Config}.
+ *
+ * Predicates are tested on a snapshot array of the problems taken on the calling thread, so they must not change any
+ * state and must be safe to call from several threads at once, including any values they cache on the problems.
+ * The results are gathered back in order on the calling thread, which then publishes them to the views in a single
+ * change as before.
+ */
+public class ProblemListEngine {
+
+    private static final Logger logger = LogsCenter.getLogger(ProblemListEngine.class);
+    /** Below this length, runs are sorted by insertion instead of being split further. */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    private static int parallelThreshold = Config.DEFAULT_PARALLEL_PROBLEM_THRESHOLD;
+
+    /**
+     * Uses the parallel threshold specified in the {@code config} object.
+     */
+    public static void init(Config config) {
+        parallelThreshold = config.getParallelProblemThreshold();
+        logger.info("parallelThreshold: " + parallelThreshold);
+    }
+
+    /**
+     * Returns true if {@code problemCount} problems are processed in parallel.
+     */
+    static boolean isParallel(int problemCount) {
+        return problemCount >= parallelThreshold;
+    }
+
+    /**
+     * Returns the ordinals among {@code candidates} of the problems that match {@code predicate}, looking up each
+     * problem with {@code problemByOrdinal}.
+     * {@code predicate} may be tested on fork-join worker threads, so it must be thread-safe.
+     */
+    public static CompressedBitmap match(CompressedBitmap candidates, IntFunction<Problem> problemByOrdinal,
+                                         Predicate<? super Problem> predicate) {
+        requireAllNonNull(candidates, problemByOrdinal, predicate);
+        CompressedBitmap matches = new CompressedBitmap();
+        if (!isParallel(candidates.getCardinality())) {
+            candidates.forEach(ordinal -> {
+                if (predicate.test(problemByOrdinal.apply(ordinal))) {
+                    matches.add(ordinal);
+                }
+            });
+            return matches;
+        }
+
+        int[] ordinals = candidates.toArray();
+        Problem[] snapshot = new Problem[ordinals.length];
+        for (int i = 0; i < ordinals.length; i++) {
+            snapshot[i] = problemByOrdinal.apply(ordinals[i]);
+        }
+        boolean[] isMatched = new boolean[ordinals.length];
+        IntStream.range(0, ordinals.length).parallel().forEach(i -> isMatched[i] = predicate.test(snapshot[i]));
+        for (int i = 0; i < ordinals.length; i++) {
+            if (isMatched[i]) {
+                matches.add(ordinals[i]);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Sorts {@code ordinals} with {@code comparator}, which compares two ordinals by their precomputed sort keys,
+     * must not change any state, and must order any two distinct ordinals.
+     * The ordinals are merge sorted as primitives, and the halves of runs at least as long as the parallel threshold
+     * are sorted on fork-join worker threads.
+     */
+    static void sort(int[] ordinals, IntBinaryOperator comparator) {
+        requireAllNonNull(ordinals, comparator);
+        int[] buffer = ordinals.clone();
+        if (isParallel(ordinals.length)) {
+            ForkJoinPool.commonPool().invoke(new SortTask(ordinals, buffer, 0, ordinals.length, comparator));
+        } else {
+            mergeSort(ordinals, buffer, 0, ordinals.length, comparator);
+        }
+    }
+
+    /**
+     * Sorts {@code ordinals[from, to)}, using the same range of {@code buffer}, which holds the same elements,
+     * as scratch space.
+     */
+    private static void mergeSort(int[] ordinals, int[] buffer, int from, int to, IntBinaryOperator comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int ordinal = ordinals[i];
+                int j = i;
+                while (j > from && comparator.applyAsInt(ordinals[j - 1], ordinal) > 0) {
+                    ordinals[j] = ordinals[j - 1];
+                    j--;
+                }
+                ordinals[j] = ordinal;
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        mergeSort(buffer, ordinals, from, middle, comparator);
+        mergeSort(buffer, ordinals, middle, to, comparator);
+        merge(buffer, ordinals, from, middle, to, comparator);
+    }
+
+    /**
+     * Merges the sorted runs {@code source[from, middle)} and {@code source[middle, to)} into
+     * {@code target[from, to)}.
+     */
+    private static void merge(int[] source, int[] target, int from, int middle, int to,
+                              IntBinaryOperator comparator) {
+        int i = from;
+        int j = middle;
+        for (int k = from; k < to; k++) {
+            if (j == to || (i < middle && comparator.applyAsInt(source[i], source[j]) < 0)) {
+                target[k] = source[i++];
+            } else {
+                target[k] = source[j++];
+            }
+        }
+    }
+
+    /**
+     * Sorts a run of ordinals as {@link #mergeSort} does, sorting the two halves of the run in parallel while the
+     * run is at least as long as the parallel threshold.
+     */
+    private static class SortTask extends RecursiveAction {
+        private final int[] ordinals;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+        private final IntBinaryOperator comparator;
+
+        SortTask(int[] ordinals, int[] buffer, int from, int to, IntBinaryOperator comparator) {
+            this.ordinals = ordinals;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= INSERTION_SORT_THRESHOLD || !isParallel(to - from)) {
+                mergeSort(ordinals, buffer, from, to, comparator);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SortTask(buffer, ordinals, from, middle, comparator),
+                new SortTask(buffer, ordinals, middle, to, comparator));
+            merge(buffer, ordinals, from, middle, to, comparator);
+        }
+    }
+}
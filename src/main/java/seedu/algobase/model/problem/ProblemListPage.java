@@ -0,0 +1,80 @@
+package seedu.algobase.model.problem;
+
+import static seedu.algobase.commons.util.AppUtil.checkArgument;
+
+/**
+ * A page of the sorted problem list: the {@code pageNumber}-th run of {@code pageSize} problems, counting from 1.
+ * Guarantees: immutable; page number and page size are positive, except for {@link #ALL}.
+ */
+public class ProblemListPage {
+
+    public static final String MESSAGE_CONSTRAINTS = "Page number and page size should be positive integers.";
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /** The single page that holds every problem. */
+    public static final ProblemListPage ALL = new ProblemListPage();
+
+    private final int pageNumber;
+    private final int pageSize;
+
+    /**
+     * Constructs the {@code pageNumber}-th page of {@code pageSize} problems.
+     */
+    public ProblemListPage(int pageNumber, int pageSize) {
+        checkArgument(pageNumber > 0 && pageSize > 0, MESSAGE_CONSTRAINTS);
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+    }
+
+    private ProblemListPage() {
+        this.pageNumber = 1;
+        this.pageSize = Integer.MAX_VALUE;
+    }
+
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Returns the position in the sorted problem list of the first problem on this page.
+     */
+    public int getOffset() {
+        return (int) Math.min(Integer.MAX_VALUE, (long) (pageNumber - 1) * pageSize);
+    }
+
+    /**
+     * Returns the position in the sorted problem list just past the last problem on this page.
+     */
+    public int getEnd() {
+        return (int) Math.min(Integer.MAX_VALUE, (long) pageNumber * pageSize);
+    }
+
+    /**
+     * Returns the number of pages needed to show {@code problemCount} problems, which is at least 1.
+     */
+    public int getPageCount(int problemCount) {
+        return Math.max(1, (int) (((long) problemCount + pageSize - 1) / pageSize));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ProblemListPage // instanceof handles nulls
+                && pageNumber == ((ProblemListPage) other).pageNumber
+                && pageSize == ((ProblemListPage) other).pageSize); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * pageNumber + pageSize;
+    }
+
+    @Override
+    public String toString() {
+        return this == ALL ? "all" : "page " + pageNumber + " of size " + pageSize;
+    }
+}
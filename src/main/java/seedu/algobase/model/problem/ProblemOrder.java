@@ -0,0 +1,224 @@
+package seedu.algobase.model.problem;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.algobase.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import seedu.algobase.commons.util.StringUtil;
+import seedu.algobase.model.util.CompressedBitmap;
+
+/**
+ * An order of problems by one or more fields, each ascending or descending.
+ * Problems are compared by the first field, then by the next one among those that tie, and so on.
+ * String fields are compared ignoring case. Problems that tie on every field keep the order of the problem list.
+ * Guarantees: immutable.
+ */
+public class ProblemOrder {
+
+    /**
+     * The fields a problem can be ordered by.
+     */
+    public enum Field {
+        NAME,
+        AUTHOR,
+        WEB_LINK,
+        DIFFICULTY,
+        SOURCE
+    }
+
+    private final Field[] fields;
+    private final boolean[] isAscending;
+
+    private ProblemOrder(Field[] fields, boolean[] isAscending) {
+        this.fields = fields;
+        this.isAscending = isAscending;
+    }
+
+    /**
+     * Returns the order of problems by {@code field}.
+     */
+    public static ProblemOrder by(Field field, boolean isAscending) {
+        requireNonNull(field);
+        return new ProblemOrder(new Field[] {field}, new boolean[] {isAscending});
+    }
+
+    /**
+     * Returns this order with ties broken by {@code field}.
+     */
+    public ProblemOrder then(Field field, boolean isAscending) {
+        requireNonNull(field);
+        Field[] newFields = Arrays.copyOf(fields, fields.length + 1);
+        boolean[] newIsAscending = Arrays.copyOf(this.isAscending, this.isAscending.length + 1);
+        newFields[fields.length] = field;
+        newIsAscending[fields.length] = isAscending;
+        return new ProblemOrder(newFields, newIsAscending);
+    }
+
+    /**
+     * Returns a comparator of problems in this order, which reads the fields of the problems on every comparison.
+     * Problems that tie on every field compare as equal.
+     */
+    public Comparator<Problem> toComparator() {
+        return (first, second) -> {
+            for (int i = 0; i < fields.length; i++) {
+                int result = compareField(fields[i], first, second);
+                if (result != 0) {
+                    return isAscending[i] ? result : -result;
+                }
+            }
+            return 0;
+        };
+    }
+
+    /**
+     * Compares the problems with ordinals {@code first} and {@code second} by their keys in {@code keys}.
+     * Problems that tie on every field are ordered by ordinal, so no two problems compare as equal.
+     */
+    int compare(ProblemSortKeys keys, int first, int second) {
+        for (int i = 0; i < fields.length; i++) {
+            int result;
+            if (fields[i] == Field.DIFFICULTY) {
+                double[] difficulties = keys.getDifficulties();
+                result = Double.compare(difficulties[first], difficulties[second]);
+            } else {
+                String[] strings = keys.getStrings(fields[i]);
+                result = strings[first].compareTo(strings[second]);
+            }
+            if (result != 0) {
+                return isAscending[i] ? result : -result;
+            }
+        }
+        return Integer.compare(first, second);
+    }
+
+    /**
+     * Sorts {@code ordinals} in this order by their keys in {@code keys}.
+     */
+    void sort(int[] ordinals, ProblemSortKeys keys) {
+        requireAllNonNull(ordinals, keys);
+        ProblemListEngine.sort(ordinals, (first, second) -> compare(keys, first, second));
+    }
+
+    /**
+     * Returns the first {@code count} of {@code ordinals} in this order, sorted, or all of them if there are fewer.
+     * Fewer than all of the ordinals are picked with a bounded heap, in O(n log count) comparisons.
+     */
+    int[] selectFirst(CompressedBitmap ordinals, int count, ProblemSortKeys keys) {
+        requireAllNonNull(ordinals, keys);
+        if (count >= ordinals.getCardinality()) {
+            int[] all = ordinals.toArray();
+            sort(all, keys);
+            return all;
+        }
+        // A max-heap of the best ordinals seen so far, whose root is the last of them in this order.
+        int[] heap = new int[count];
+        int[] heapSize = {0};
+        ordinals.forEach(ordinal -> {
+            if (heapSize[0] < count) {
+                heap[heapSize[0]] = ordinal;
+                siftUp(heap, heapSize[0]++, keys);
+            } else if (count > 0 && compare(keys, ordinal, heap[0]) < 0) {
+                heap[0] = ordinal;
+                siftDown(heap, count, keys);
+            }
+        });
+        sort(heap, keys);
+        return heap;
+    }
+
+    /**
+     * Moves {@code heap[index]} up the max-heap in {@code heap} until its parent comes after it.
+     */
+    private void siftUp(int[] heap, int index, ProblemSortKeys keys) {
+        int ordinal = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (compare(keys, heap[parent], ordinal) >= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = ordinal;
+    }
+
+    /**
+     * Moves the root of the max-heap in {@code heap[0, size)} down until both its children come before it.
+     */
+    private void siftDown(int[] heap, int size, ProblemSortKeys keys) {
+        int ordinal = heap[0];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && compare(keys, heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+            if (compare(keys, heap[child], ordinal) <= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = ordinal;
+    }
+
+    /**
+     * Returns the position at which {@code ordinal} belongs among the first {@code size} elements of
+     * {@code sortedOrdinals}, which are sorted in this order.
+     */
+    int findInsertionPoint(int[] sortedOrdinals, int size, int ordinal, ProblemSortKeys keys) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(keys, sortedOrdinals[middle], ordinal) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compares {@code first} and {@code second} by {@code field} in ascending order.
+     */
+    private static int compareField(Field field, Problem first, Problem second) {
+        switch (field) {
+        case NAME:
+            return compareIgnoringCase(first.getName().fullName, second.getName().fullName);
+        case AUTHOR:
+            return compareIgnoringCase(first.getAuthor().value, second.getAuthor().value);
+        case WEB_LINK:
+            return compareIgnoringCase(first.getWebLink().value, second.getWebLink().value);
+        case DIFFICULTY:
+            return Double.compare(first.getDifficulty().value, second.getDifficulty().value);
+        case SOURCE:
+            return compareIgnoringCase(first.getSource().value, second.getSource().value);
+        default:
+            throw new IllegalArgumentException("Field doesn't exist.");
+        }
+    }
+
+    private static int compareIgnoringCase(String first, String second) {
+        return StringUtil.foldCase(first).compareTo(StringUtil.foldCase(second));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ProblemOrder // instanceof handles nulls
+                && Arrays.equals(fields, ((ProblemOrder) other).fields)
+                && Arrays.equals(isAscending, ((ProblemOrder) other).isAscending)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(fields) + Arrays.hashCode(isAscending);
+    }
+}
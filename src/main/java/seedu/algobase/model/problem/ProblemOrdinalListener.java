@@ -0,0 +1,38 @@
+package seedu.algobase.model.problem;
+
+/**
+ * Listens to the problems entering and leaving a {@code UniqueProblemList}, identified by their ordinals.
+ *
+ * @see UniqueProblemList#getOrdinal(Problem)
+ */
+public interface ProblemOrdinalListener {
+
+    /**
+     * Called when {@code problem} has been added to the list with {@code ordinal}, including when it replaces
+     * another problem in an edit.
+     */
+    void problemIndexed(int ordinal, Problem problem);
+
+    /**
+     * Called when the problem with {@code ordinal} has been removed from the list, including when it is replaced
+     * by another problem in an edit.
+     */
+    void problemUnindexed(int ordinal);
+
+    /**
+     * Called after the contents of the list have been replaced and every problem has been given a new ordinal.
+     * The problems in the new contents are not announced one at a time.
+     */
+    void problemsReindexed();
+
+    /**
+     * Called before several problems are indexed and unindexed together, such as when a tag is removed from every
+     * problem carrying it. Listeners may hold back their own notifications until {@link #problemsChanged()}.
+     */
+    void problemsChanging();
+
+    /**
+     * Called after the problems announced since {@link #problemsChanging()} have all been indexed and unindexed.
+     */
+    void problemsChanged();
+}
@@ -0,0 +1,66 @@
+package seedu.algobase.model.problem;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+import seedu.algobase.commons.util.StringUtil;
+
+/**
+ * The sort keys of the problems in a {@code UniqueProblemList}, kept by ordinal.
+ *
+ * The string fields of each problem are stored case-folded and its difficulty as a primitive double, so that sorting
+ * compares them directly instead of going through the value objects of the problem on every comparison.
+ * The keys of a removed problem stay in place until its ordinal is given to another problem.
+ *
+ * @see ProblemOrder
+ */
+class ProblemSortKeys {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final String[][] strings = new String[ProblemOrder.Field.values().length][INITIAL_CAPACITY];
+    private double[] difficulties = new double[INITIAL_CAPACITY];
+
+    /**
+     * Stores the sort keys of {@code problem} under {@code ordinal}.
+     */
+    void put(int ordinal, Problem problem) {
+        requireNonNull(problem);
+        ensureCapacity(ordinal + 1);
+        strings[ProblemOrder.Field.NAME.ordinal()][ordinal] = StringUtil.foldCase(problem.getName().fullName);
+        strings[ProblemOrder.Field.AUTHOR.ordinal()][ordinal] = StringUtil.foldCase(problem.getAuthor().value);
+        strings[ProblemOrder.Field.WEB_LINK.ordinal()][ordinal] = StringUtil.foldCase(problem.getWebLink().value);
+        strings[ProblemOrder.Field.SOURCE.ordinal()][ordinal] = StringUtil.foldCase(problem.getSource().value);
+        difficulties[ordinal] = problem.getDifficulty().value;
+    }
+
+    /**
+     * Returns the case-folded string keys of {@code field}, indexed by ordinal.
+     * {@code field} must not be {@code DIFFICULTY}.
+     */
+    String[] getStrings(ProblemOrder.Field field) {
+        return strings[field.ordinal()];
+    }
+
+    /**
+     * Returns the difficulties of the problems, indexed by ordinal.
+     */
+    double[] getDifficulties() {
+        return difficulties;
+    }
+
+    /**
+     * Grows the key arrays to hold at least {@code capacity} ordinals.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= difficulties.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, difficulties.length * 2);
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = Arrays.copyOf(strings[i], newCapacity);
+        }
+        difficulties = Arrays.copyOf(difficulties, newCapacity);
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.algobase.model.problem;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.algobase.commons.util.AppUtil.checkArgument;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares one instance of each distinct {@code Author}, {@code Source} and {@code Difficulty} among all problems.
+ *
+ * An algobase holds far more problems than distinct authors, sources and difficulties, so the parsers and the storage
+ * adapters take these values from the pool rather than creating a copy, and its own string, for every problem. Equal
+ * values are then usually the same instance, which {@code equals} checks before comparing their contents.
+ *
+ * Values are kept for the life of the application, so the pool holds at most one instance for each distinct value
+ * that has been entered or loaded. Tags are not pooled here, as the algobase's {@code UniqueTagList} already shares
+ * one instance for each tag name.
+ */
+public class ProblemValuePool {
+
+    private static final Map<String, Author> authors = new ConcurrentHashMap<>();
+    private static final Map<String, Source> sources = new ConcurrentHashMap<>();
+    private static final Map<Double, Difficulty> difficulties = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared {@code Author} with the value {@code author}.
+     *
+     * @throws IllegalArgumentException if {@code author} is not a valid author.
+     */
+    public static Author getAuthor(String author) {
+        requireNonNull(author);
+        return authors.computeIfAbsent(author, Author::new);
+    }
+
+    /**
+     * Returns the shared {@code Source} with the value {@code source}.
+     *
+     * @throws IllegalArgumentException if {@code source} is not a valid source.
+     */
+    public static Source getSource(String source) {
+        requireNonNull(source);
+        return sources.computeIfAbsent(source, Source::new);
+    }
+
+    /**
+     * Returns the shared {@code Difficulty} with the value of {@code difficulty}. Strings that parse to the same
+     * number, such as "2.0" and "2.00", share one instance.
+     *
+     * @throws IllegalArgumentException if {@code difficulty} is not a valid difficulty.
+     */
+    public static Difficulty getDifficulty(String difficulty) {
+        requireNonNull(difficulty);
+        checkArgument(Difficulty.isValidDifficulty(difficulty), Difficulty.MESSAGE_CONSTRAINTS);
+        return difficulties.computeIfAbsent(Double.parseDouble(difficulty), unused -> new Difficulty(difficulty));
+    }
+}
@@ -0,0 +1,310 @@
+package seedu.algobase.model.problem;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.algobase.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A page of the problems in a {@code FilteredProblemList}, sorted in a {@code ProblemOrder}.
+ *
+ * The view is sorted by the ordinals of its problems, comparing the sort keys that the underlying
+ * {@code UniqueProblemList} keeps for each ordinal, so the fields of the problems are not read while sorting.
+ * Only the problems up to the end of the page are kept in order: when the page ends before the last problem, they are
+ * picked with a bounded heap instead of sorting every problem in the filtered view.
+ *
+ * The problems are only sorted again when the order or page is changed, when many problems enter or leave the
+ * filtered view at once, or when a problem on or before the page leaves while problems after the page are not kept.
+ * Otherwise, problems that enter the filtered view are placed by binary search.
+ *
+ * @see ProblemSortKeys
+ */
+public class SortedProblemList extends ObservableListBase<Problem> {
+
+    /**
+     * The largest number of problems entering or leaving the filtered view in one change that are placed one at a
+     * time. Larger changes sort the problems again.
+     */
+    private static final int MAX_INCREMENTAL_CHANGES = 16;
+
+    private final FilteredProblemList source;
+    private final UniqueProblemList problems;
+    private ProblemOrder order;
+    private ProblemListPage page;
+    /** The ordinals of the first problems of the filtered view in order, up to the end of the page. */
+    private int[] sortedOrdinals;
+    /** The problems with {@code sortedOrdinals}, which also tells how many of them are in use. */
+    private List<Problem> sortedProblems;
+
+    /**
+     * Creates a view of every problem in {@code source}, sorted in {@code order}.
+     */
+    public SortedProblemList(FilteredProblemList source, ProblemOrder order) {
+        requireAllNonNull(source, order);
+        this.source = source;
+        this.problems = source.getSource();
+        this.order = order;
+        this.page = ProblemListPage.ALL;
+        sortAll();
+        source.addListener(this::sourceChanged);
+    }
+
+    @Override
+    public Problem get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " is not on the page.");
+        }
+        return sortedProblems.get(page.getOffset() + index);
+    }
+
+    @Override
+    public int size() {
+        return Math.max(0, sortedProblems.size() - page.getOffset());
+    }
+
+    public ProblemOrder getOrder() {
+        return order;
+    }
+
+    public ProblemListPage getPage() {
+        return page;
+    }
+
+    /**
+     * Returns the number of pages that the problems in the filtered view take up.
+     */
+    public int getPageCount() {
+        return page.getPageCount(source.size());
+    }
+
+    /**
+     * Sorts the view in {@code order}. When every problem is shown, listeners are told of the new order as a single
+     * permutation; otherwise the page is replaced.
+     */
+    public void setOrder(ProblemOrder order) {
+        requireNonNull(order);
+        if (order.equals(this.order)) {
+            return;
+        }
+        this.order = order;
+        if (!page.equals(ProblemListPage.ALL)) {
+            replacePage(new ArrayList<>(this));
+            return;
+        }
+        int size = sortedProblems.size();
+        if (size == 0) {
+            return;
+        }
+
+        int[] oldOrdinals = Arrays.copyOf(sortedOrdinals, size);
+        sortAll();
+        int maxOrdinal = 0;
+        for (int ordinal : oldOrdinals) {
+            maxOrdinal = Math.max(maxOrdinal, ordinal);
+        }
+        int[] newPositionByOrdinal = new int[maxOrdinal + 1];
+        for (int i = 0; i < size; i++) {
+            newPositionByOrdinal[sortedOrdinals[i]] = i;
+        }
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            permutation[i] = newPositionByOrdinal[oldOrdinals[i]];
+        }
+
+        beginChange();
+        nextPermutation(0, size, permutation);
+        endChange();
+    }
+
+    /**
+     * Shows only the problems on {@code page}.
+     */
+    public void setPage(ProblemListPage page) {
+        requireNonNull(page);
+        if (page.equals(this.page)) {
+            return;
+        }
+        List<Problem> oldPage = new ArrayList<>(this);
+        this.page = page;
+        replacePage(oldPage);
+    }
+
+    /**
+     * Sorts the problems up to the end of the page again and tells listeners that {@code oldPage} was replaced.
+     */
+    private void replacePage(List<Problem> oldPage) {
+        sortAll();
+        if (oldPage.isEmpty() && isEmpty()) {
+            return;
+        }
+        beginChange();
+        nextReplace(0, size(), oldPage);
+        endChange();
+    }
+
+    /**
+     * Applies the changes in the filtered view. Large changes sort the problems again; otherwise each problem
+     * leaving is looked up and each problem entering is placed by binary search. All the problems leaving are taken
+     * out before any problem entering is placed, as an edited problem may have given its sort keys to its successor.
+     * When only a page is shown, listeners are told that the page was replaced, if it changed.
+     */
+    private void sourceChanged(ListChangeListener.Change<? extends Problem> change) {
+        boolean isPaged = !page.equals(ProblemListPage.ALL);
+        List<Problem> oldPage = isPaged ? new ArrayList<>(this) : sortedProblems;
+        if (countChanges(change) > MAX_INCREMENTAL_CHANGES) {
+            replacePage(oldPage);
+            return;
+        }
+
+        List<Problem> removedProblems = new ArrayList<>();
+        List<Problem> addedProblems = new ArrayList<>();
+        List<Problem> updatedProblems = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    updatedProblems.add(change.getList().get(i));
+                }
+            } else if (!change.wasPermutated()) {
+                removedProblems.addAll(change.getRemoved());
+                addedProblems.addAll(change.getAddedSubList());
+            }
+        }
+
+        boolean isSortNeeded = false;
+        beginChange();
+        for (Problem removed : removedProblems) {
+            int position = positionOf(removed);
+            if (position < 0) {
+                continue;
+            }
+            // The problems after the page are not kept, so one of them may have to take the place of this one.
+            isSortNeeded |= sortedProblems.size() == page.getEnd();
+            removeAt(position);
+            if (!isPaged) {
+                nextRemove(position, removed);
+            }
+        }
+        for (Problem added : addedProblems) {
+            int position = insert(problems.getOrdinal(added), added);
+            if (!isPaged && position >= 0) {
+                nextAdd(position, position + 1);
+            }
+        }
+        if (isSortNeeded) {
+            sortAll();
+        }
+        if (isPaged && !isSamePage(oldPage)) {
+            nextReplace(0, size(), oldPage);
+        } else {
+            for (Problem updated : updatedProblems) {
+                int position = positionOf(updated) - page.getOffset();
+                if (position >= 0) {
+                    nextUpdate(position);
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Returns the number of problems added and removed in {@code change}, and resets it.
+     */
+    private static int countChanges(ListChangeListener.Change<? extends Problem> change) {
+        int count = 0;
+        while (change.next()) {
+            if (!change.wasUpdated() && !change.wasPermutated()) {
+                count += change.getRemovedSize() + change.getAddedSize();
+            }
+        }
+        change.reset();
+        return count;
+    }
+
+    /**
+     * Sorts the problems in the filtered view into {@code sortedOrdinals} and {@code sortedProblems}, up to the end
+     * of the page.
+     */
+    private void sortAll() {
+        int[] ordinals = order.selectFirst(source.getOrdinals(), page.getEnd(), problems.getSortKeys());
+        List<Problem> sorted = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            sorted.add(problems.getProblemByOrdinal(ordinal));
+        }
+        sortedOrdinals = ordinals;
+        sortedProblems = sorted;
+    }
+
+    /**
+     * Places {@code problem}, which has {@code ordinal}, in order and returns its position, or -1 if it comes after
+     * the end of the page. The last problem is dropped if there are more problems than the page holds.
+     */
+    private int insert(int ordinal, Problem problem) {
+        int size = sortedProblems.size();
+        int position = order.findInsertionPoint(sortedOrdinals, size, ordinal, problems.getSortKeys());
+        if (position >= page.getEnd()) {
+            return -1;
+        }
+        if (size == sortedOrdinals.length) {
+            sortedOrdinals = Arrays.copyOf(sortedOrdinals, Math.max(16, size * 2));
+        }
+        System.arraycopy(sortedOrdinals, position, sortedOrdinals, position + 1, size - position);
+        sortedOrdinals[position] = ordinal;
+        sortedProblems.add(position, problem);
+        if (sortedProblems.size() > page.getEnd()) {
+            sortedProblems.remove(sortedProblems.size() - 1);
+        }
+        return position;
+    }
+
+    private void removeAt(int position) {
+        int size = sortedProblems.size();
+        System.arraycopy(sortedOrdinals, position + 1, sortedOrdinals, position, size - position - 1);
+        sortedProblems.remove(position);
+    }
+
+    /**
+     * Returns the position of {@code problem} among the sorted problems, or -1 if it is after the end of the page.
+     * The problem is found by binary search on its own fields, since its ordinal may have been taken back or given
+     * to its successor in an edit. Only the problems that tie with it on every field are compared by reference.
+     */
+    private int positionOf(Problem problem) {
+        Comparator<Problem> comparator = order.toComparator();
+        int low = 0;
+        int high = sortedProblems.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(sortedProblems.get(middle), problem) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        for (int i = low; i < sortedProblems.size() && comparator.compare(sortedProblems.get(i), problem) == 0; i++) {
+            if (sortedProblems.get(i) == problem) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if the page holds the same problems as {@code oldPage}, in the same order.
+     */
+    private boolean isSamePage(List<Problem> oldPage) {
+        if (oldPage.size() != size()) {
+            return false;
+        }
+        for (int i = 0; i < oldPage.size(); i++) {
+            if (oldPage.get(i) != get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
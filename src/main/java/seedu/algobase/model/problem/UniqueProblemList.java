@@ -3,20 +3,46 @@ package seedu.algobase.model.problem;
 import static java.util.Objects.requireNonNull;
 import static seedu.algobase.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.algobase.commons.util.StringUtil;
+import seedu.algobase.model.Id;
 import seedu.algobase.model.problem.exceptions.DuplicateProblemException;
 import seedu.algobase.model.problem.exceptions.ProblemNotFoundException;
+import seedu.algobase.model.tag.Tag;
+import seedu.algobase.model.util.CompressedBitmap;
+import seedu.algobase.model.util.RefreshableObservableList;
 
 /**
  * A list of problems that enforces uniqueness between its elements and does not allow nulls.
  * A Problem is considered unique by comparing using {@code Problem#isSameProblem(Problem)}. As such, adding and
  * updating of problems uses Problem#isSameProblem(Problem) for equality so as to ensure that the Problem being added
- * or updated is unique in terms of identity in the UniqueProblemList. However, the removal of a Problem uses
- * Problem#equals(Object) so as to ensure that the Problem with exactly the same fields will be removed.
+ * or updated is unique in terms of identity in the UniqueProblemList. However, the target of an update or removal
+ * is found by its Id through the ordinal index, without comparing the fields of any Problem, which also finds a
+ * Problem whose fields have changed since the target was read.
+ *
+ * Identity checks are answered from an index keyed on (name, author) and (name, weblink), which mirrors
+ * Problem#isSameProblem(Problem) without scanning the list. Problems are also indexed by author, source, tag name and
+ * by the case-folded words of their name and description, and kept sorted by difficulty, so that searches can be
+ * answered from the indexes. The sort keys of every problem are kept alongside, so that views of the list can be
+ * sorted without reading the fields of the problems.
+ *
+ * Each problem in the list is also given a small, stable ordinal, so that sets of problems can be kept as compressed
+ * bitmaps, and the indexes answer searches with such bitmaps. Ordinals follow the order of the list: a new problem
+ * takes the next unused ordinal, an edited problem keeps the ordinal of the problem it replaces, and the ordinals of
+ * removed problems are only reused once the contents of the list are replaced.
  *
  * Supports a minimal set of list operations.
  *
@@ -24,16 +50,30 @@ import seedu.algobase.model.problem.exceptions.ProblemNotFoundException;
  */
 public class UniqueProblemList implements Iterable<Problem> {
 
-    private final ObservableList<Problem> internalList = FXCollections.observableArrayList();
+    private final RefreshableObservableList<Problem> internalList = new RefreshableObservableList<>();
     private final ObservableList<Problem> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Id, Problem> idIndex = new HashMap<>();
+    private final Map<IdentityKey, Integer> identityIndex = new HashMap<>();
+    private final InvertedIndex tagIndex = new InvertedIndex();
+    private final InvertedIndex nameWordIndex = new InvertedIndex();
+    private final InvertedIndex descriptionWordIndex = new InvertedIndex();
+    private final DifficultyIndex difficultyIndex = new DifficultyIndex();
+    private final InvertedIndex authorIndex = new InvertedIndex();
+    private final InvertedIndex sourceIndex = new InvertedIndex();
+    private final ProblemSortKeys sortKeys = new ProblemSortKeys();
+    private final Map<Id, Integer> ordinalIndex = new HashMap<>();
+    private final List<Problem> problemsByOrdinal = new ArrayList<>();
+    private final CompressedBitmap allOrdinals = new CompressedBitmap();
+    private final List<ProblemOrdinalListener> ordinalListeners = new ArrayList<>();
 
     /**
      * Returns true if the list contains an equivalent Problem as the given argument.
      */
     public boolean contains(Problem toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameProblem);
+        return identityIndex.containsKey(IdentityKey.byAuthor(toCheck))
+                || identityIndex.containsKey(IdentityKey.byWebLink(toCheck));
     }
 
     /**
@@ -46,17 +86,20 @@ public class UniqueProblemList implements Iterable<Problem> {
             throw new DuplicateProblemException();
         }
         internalList.add(toAdd);
+        int ordinal = problemsByOrdinal.size();
+        index(toAdd, ordinal);
+        fireProblemIndexed(ordinal, toAdd);
     }
 
     /**
      * Replaces the Problem {@code target} in the list with {@code editedProblem}.
-     * {@code target} must exist in the list.
+     * A Problem with the same Id as {@code target} must exist in the list.
      * The Problem identity of {@code editedProblem} must not be the same as another existing Problem in the list.
      */
     public void setProblem(Problem target, Problem editedProblem) {
         requireAllNonNull(target, editedProblem);
 
-        int index = internalList.indexOf(target);
+        int index = indexOfId(target.getId());
         if (index == -1) {
             throw new ProblemNotFoundException();
         }
@@ -65,23 +108,31 @@ public class UniqueProblemList implements Iterable<Problem> {
             throw new DuplicateProblemException();
         }
 
-        internalList.set(index, editedProblem);
+        Problem replaced = internalList.set(index, editedProblem);
+        int ordinal = unindex(replaced);
+        fireProblemUnindexed(ordinal);
+        index(editedProblem, ordinal);
+        fireProblemIndexed(ordinal, editedProblem);
     }
 
     /**
-     * Removes the equivalent Problem from the list.
+     * Removes the Problem with the same Id as {@code toRemove} from the list.
      * The Problem must exist in the list.
      */
     public void remove(Problem toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOfId(toRemove.getId());
+        if (index == -1) {
             throw new ProblemNotFoundException();
         }
+        Problem removed = internalList.remove(index);
+        fireProblemUnindexed(unindex(removed));
     }
 
     public void setProblems(UniqueProblemList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -95,6 +146,167 @@ public class UniqueProblemList implements Iterable<Problem> {
         }
 
         internalList.setAll(problems);
+        rebuildIndexes();
+    }
+
+    /**
+     * Registers {@code listener} to be told of the problems entering and leaving this list.
+     */
+    public void addOrdinalListener(ProblemOrdinalListener listener) {
+        requireNonNull(listener);
+        ordinalListeners.add(listener);
+    }
+
+    /**
+     * Returns the ordinal of {@code problem}, or -1 if it is not in the list.
+     */
+    public int getOrdinal(Problem problem) {
+        requireNonNull(problem);
+        Integer ordinal = ordinalIndex.get(problem.getId());
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * Returns the ordinals of every problem in the list.
+     */
+    public CompressedBitmap getOrdinals() {
+        return allOrdinals.copy();
+    }
+
+    /**
+     * Returns the problem with the given {@code ordinal}.
+     */
+    public Problem getProblemByOrdinal(int ordinal) {
+        Problem problem = problemsByOrdinal.get(ordinal);
+        if (problem == null) {
+            throw new ProblemNotFoundException();
+        }
+        return problem;
+    }
+
+    /**
+     * Returns the sort keys of the problems in the list, indexed by ordinal.
+     */
+    ProblemSortKeys getSortKeys() {
+        return sortKeys;
+    }
+
+    /**
+     * Returns the Problem with the given {@code id}, if any.
+     */
+    public Optional<Problem> findById(Id id) {
+        requireNonNull(id);
+        return Optional.ofNullable(idIndex.get(id));
+    }
+
+    /**
+     * Returns the problems that carry {@code tag}, in no particular order.
+     */
+    public List<Problem> getProblemsWithTag(Tag tag) {
+        requireNonNull(tag);
+        List<Problem> problemsWithTag = new ArrayList<>();
+        tagIndex.get(tag.getName()).forEach(ordinal -> problemsWithTag.add(problemsByOrdinal.get(ordinal)));
+        return problemsWithTag;
+    }
+
+    /**
+     * Returns the number of problems that carry {@code tag}.
+     */
+    public int countProblemsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return tagIndex.count(tag.getName());
+    }
+
+    /**
+     * Returns the ordinals of the problems that carry every tag named in {@code tagNames}.
+     * The posting lists are intersected starting from the smallest one.
+     */
+    public CompressedBitmap getOrdinalsWithAllTags(Collection<String> tagNames) {
+        requireAllNonNull(tagNames);
+        if (tagNames.isEmpty()) {
+            return getOrdinals();
+        }
+        return tagIndex.getAll(tagNames);
+    }
+
+    /**
+     * Returns the ordinals of the problems whose name contains any of {@code words}, ignoring case.
+     */
+    public CompressedBitmap getOrdinalsWithAnyNameWord(Collection<String> words) {
+        requireAllNonNull(words);
+        return nameWordIndex.getAny(foldWords(words));
+    }
+
+    /**
+     * Returns the ordinals of the problems whose description contains all of {@code words}, ignoring case.
+     */
+    public CompressedBitmap getOrdinalsWithAllDescriptionWords(Collection<String> words) {
+        requireAllNonNull(words);
+        if (words.isEmpty()) {
+            return getOrdinals();
+        }
+        return descriptionWordIndex.getAll(foldWords(words));
+    }
+
+    /**
+     * Returns the ordinals of the problems whose difficulty is in the range [{@code lowerBound}, {@code upperBound}].
+     */
+    public CompressedBitmap getOrdinalsWithDifficultyInRange(double lowerBound, double upperBound) {
+        return difficultyIndex.getOrdinalsInRange(lowerBound, upperBound);
+    }
+
+    /**
+     * Returns the ordinals of the problems whose author is {@code author}.
+     */
+    public CompressedBitmap getOrdinalsWithAuthor(Author author) {
+        requireNonNull(author);
+        return authorIndex.get(author.value);
+    }
+
+    /**
+     * Returns the ordinals of the problems whose source is {@code source}.
+     */
+    public CompressedBitmap getOrdinalsWithSource(Source source) {
+        requireNonNull(source);
+        return sourceIndex.get(source.value);
+    }
+
+    /**
+     * Moves the problems indexed under the tag name {@code oldName} to {@code newName}.
+     * To be called after the shared tag instance held by those problems has been renamed.
+     */
+    public void renameTag(String oldName, String newName) {
+        requireAllNonNull(oldName, newName);
+        tagIndex.renameKey(oldName, newName);
+    }
+
+    /**
+     * Replaces every problem that carries {@code tag} with a copy without it, and returns the copies.
+     * Only the problems in the tag's posting are visited. Each copy keeps the ordinal and the position of the problem
+     * it replaces, and only the tag index changes, as the other fields of the problem are the same.
+     * Listeners of the list and ordinal listeners are notified of the replaced problems in a single change.
+     */
+    public List<Problem> removeTagFromProblems(Tag tag) {
+        requireNonNull(tag);
+        CompressedBitmap posting = tagIndex.removeKey(tag.getName());
+        List<Problem> updatedProblems = new ArrayList<>(posting.getCardinality());
+        internalList.changeAtOnce(() -> {
+            fireProblemsChanging();
+            try {
+                posting.forEach(ordinal -> {
+                    Problem updatedProblem = problemsByOrdinal.get(ordinal).deleteTag(tag);
+                    internalList.set(allOrdinals.rank(ordinal), updatedProblem);
+                    fireProblemUnindexed(ordinal);
+                    problemsByOrdinal.set(ordinal, updatedProblem);
+                    idIndex.put(updatedProblem.getId(), updatedProblem);
+                    fireProblemIndexed(ordinal, updatedProblem);
+                    updatedProblems.add(updatedProblem);
+                });
+            } finally {
+                fireProblemsChanged();
+            }
+        });
+        return updatedProblems;
     }
 
     /**
@@ -121,17 +333,183 @@ public class UniqueProblemList implements Iterable<Problem> {
         return internalList.hashCode();
     }
 
+    /**
+     * Returns the index in the list of the problem with {@code id}, or -1 if there is none.
+     * Ordinals follow the order of the list, so the index is the number of ordinals in use below that of the problem.
+     */
+    private int indexOfId(Id id) {
+        Integer ordinal = ordinalIndex.get(id);
+        return ordinal == null ? -1 : allOrdinals.rank(ordinal);
+    }
+
+    /**
+     * Rebuilds every index from the backing list.
+     */
+    private void rebuildIndexes() {
+        idIndex.clear();
+        identityIndex.clear();
+        tagIndex.clear();
+        nameWordIndex.clear();
+        descriptionWordIndex.clear();
+        authorIndex.clear();
+        sourceIndex.clear();
+        ordinalIndex.clear();
+        problemsByOrdinal.clear();
+        allOrdinals.clear();
+        double[] difficulties = new double[internalList.size()];
+        for (Problem problem : internalList) {
+            difficulties[problemsByOrdinal.size()] = problem.getDifficulty().value;
+            indexExceptDifficulty(problem, problemsByOrdinal.size());
+        }
+        difficultyIndex.rebuild(difficulties);
+        for (ProblemOrdinalListener listener : ordinalListeners) {
+            listener.problemsReindexed();
+        }
+    }
+
+    /**
+     * Adds {@code problem} to every index under {@code ordinal}, which must be the next unused ordinal or the
+     * ordinal of the problem it replaces.
+     */
+    private void index(Problem problem, int ordinal) {
+        indexExceptDifficulty(problem, ordinal);
+        difficultyIndex.add(ordinal, problem.getDifficulty().value);
+    }
+
+    /**
+     * Adds {@code problem} to every index but the difficulty index under {@code ordinal}, as {@link #index} does.
+     * The difficulty index is left to be built once for many problems.
+     */
+    private void indexExceptDifficulty(Problem problem, int ordinal) {
+        if (ordinal == problemsByOrdinal.size()) {
+            problemsByOrdinal.add(problem);
+        } else {
+            problemsByOrdinal.set(ordinal, problem);
+        }
+        ordinalIndex.put(problem.getId(), ordinal);
+        allOrdinals.add(ordinal);
+        idIndex.put(problem.getId(), problem);
+        identityIndex.merge(IdentityKey.byAuthor(problem), 1, Integer::sum);
+        identityIndex.merge(IdentityKey.byWebLink(problem), 1, Integer::sum);
+        tagIndex.add(ordinal, getTagNames(problem));
+        nameWordIndex.add(ordinal, problem.getName().getWords());
+        descriptionWordIndex.add(ordinal, problem.getDescription().getWords());
+        authorIndex.add(ordinal, Collections.singleton(problem.getAuthor().value));
+        sourceIndex.add(ordinal, Collections.singleton(problem.getSource().value));
+        sortKeys.put(ordinal, problem);
+    }
+
+    /**
+     * Removes {@code problem} from every index and returns the ordinal it held.
+     */
+    private int unindex(Problem problem) {
+        int ordinal = ordinalIndex.remove(problem.getId());
+        problemsByOrdinal.set(ordinal, null);
+        allOrdinals.remove(ordinal);
+        idIndex.remove(problem.getId());
+        identityIndex.computeIfPresent(IdentityKey.byAuthor(problem), (key, count) -> count > 1 ? count - 1 : null);
+        identityIndex.computeIfPresent(IdentityKey.byWebLink(problem), (key, count) -> count > 1 ? count - 1 : null);
+        tagIndex.remove(ordinal, getTagNames(problem));
+        nameWordIndex.remove(ordinal, problem.getName().getWords());
+        descriptionWordIndex.remove(ordinal, problem.getDescription().getWords());
+        difficultyIndex.remove(ordinal, problem.getDifficulty().value);
+        authorIndex.remove(ordinal, Collections.singleton(problem.getAuthor().value));
+        sourceIndex.remove(ordinal, Collections.singleton(problem.getSource().value));
+        return ordinal;
+    }
+
+    private void fireProblemIndexed(int ordinal, Problem problem) {
+        for (ProblemOrdinalListener listener : ordinalListeners) {
+            listener.problemIndexed(ordinal, problem);
+        }
+    }
+
+    private void fireProblemUnindexed(int ordinal) {
+        for (ProblemOrdinalListener listener : ordinalListeners) {
+            listener.problemUnindexed(ordinal);
+        }
+    }
+
+    private void fireProblemsChanging() {
+        for (ProblemOrdinalListener listener : ordinalListeners) {
+            listener.problemsChanging();
+        }
+    }
+
+    private void fireProblemsChanged() {
+        for (ProblemOrdinalListener listener : ordinalListeners) {
+            listener.problemsChanged();
+        }
+    }
+
+    private static List<String> getTagNames(Problem problem) {
+        List<String> tagNames = new ArrayList<>();
+        for (Tag tag : problem.getTags()) {
+            tagNames.add(tag.getName());
+        }
+        return tagNames;
+    }
+
+    /**
+     * Returns the case-folded forms of the search keywords {@code words}.
+     */
+    private static List<String> foldWords(Collection<String> words) {
+        List<String> folded = new ArrayList<>();
+        for (String word : words) {
+            folded.add(StringUtil.foldCase(word.trim()));
+        }
+        return folded;
+    }
+
     /**
      * Returns true if {@code problems} contains only unique problems.
      */
     private boolean problemsAreUnique(List<Problem> problems) {
-        for (int i = 0; i < problems.size() - 1; i++) {
-            for (int j = i + 1; j < problems.size(); j++) {
-                if (problems.get(i).isSameProblem(problems.get(j))) {
-                    return false;
-                }
+        Set<IdentityKey> seen = new HashSet<>();
+        for (Problem problem : problems) {
+            IdentityKey byAuthor = IdentityKey.byAuthor(problem);
+            IdentityKey byWebLink = IdentityKey.byWebLink(problem);
+            if (seen.contains(byAuthor) || seen.contains(byWebLink)) {
+                return false;
             }
+            seen.add(byAuthor);
+            seen.add(byWebLink);
         }
         return true;
     }
+
+    /**
+     * A hashable pairing of a Problem's name with one of its other identity fields.
+     * Two problems are the same problem iff they share at least one such key.
+     */
+    private static class IdentityKey {
+        private final Name name;
+        private final Object other;
+
+        private IdentityKey(Name name, Object other) {
+            this.name = name;
+            this.other = other;
+        }
+
+        static IdentityKey byAuthor(Problem problem) {
+            return new IdentityKey(problem.getName(), problem.getAuthor());
+        }
+
+        static IdentityKey byWebLink(Problem problem) {
+            return new IdentityKey(problem.getName(), problem.getWebLink());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IdentityKey // instanceof handles nulls
+                    && name.equals(((IdentityKey) other).name)
+                    && this.other.equals(((IdentityKey) other).other)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, other);
+        }
+    }
 }
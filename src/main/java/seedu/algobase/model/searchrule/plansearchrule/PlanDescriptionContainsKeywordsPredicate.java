@@ -1,7 +1,9 @@
 package seedu.algobase.model.searchrule.plansearchrule;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.algobase.commons.util.StringUtil;
 import seedu.algobase.model.plan.Plan;
@@ -20,13 +22,19 @@ public class PlanDescriptionContainsKeywordsPredicate implements Predicate<Plan>
         };
 
     private final List<Keyword> keywords;
+    private final List<String> foldedKeywords;
 
     public PlanDescriptionContainsKeywordsPredicate(List<Keyword> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = keywords == null
+            ? null
+            : StringUtil.foldWords(keywords.stream().map(Keyword::toString).collect(Collectors.toList()))
+                .orElse(null);
     }
 
     private PlanDescriptionContainsKeywordsPredicate() {
         this.keywords = null;
+        this.foldedKeywords = null;
     }
 
     public List<Keyword> getKeywords() {
@@ -36,6 +44,16 @@ public class PlanDescriptionContainsKeywordsPredicate implements Predicate<Plan>
     @Override
     public boolean test(Plan plan) {
         assert keywords != null;
+        if (foldedKeywords != null) {
+            Set<String> words = plan.getPlanDescription().getWords();
+            for (String word : foldedKeywords) {
+                if (!words.contains(word)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        // reports the invalid keywords
         return keywords.stream()
                 .allMatch(keyword ->
                         StringUtil.containsWordIgnoreCase(plan.getPlanDescription().value, keyword.toString()));
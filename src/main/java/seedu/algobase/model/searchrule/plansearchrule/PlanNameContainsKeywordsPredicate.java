@@ -1,7 +1,9 @@
 package seedu.algobase.model.searchrule.plansearchrule;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.algobase.commons.util.StringUtil;
 import seedu.algobase.model.plan.Plan;
@@ -18,13 +20,19 @@ public class PlanNameContainsKeywordsPredicate implements Predicate<Plan> {
             }
         };
     private final List<Keyword> keywords;
+    private final List<String> foldedKeywords;
 
     public PlanNameContainsKeywordsPredicate(List<Keyword> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = keywords == null
+            ? null
+            : StringUtil.foldWords(keywords.stream().map(Keyword::toString).collect(Collectors.toList()))
+                .orElse(null);
     }
 
     private PlanNameContainsKeywordsPredicate() {
         this.keywords = null;
+        this.foldedKeywords = null;
     }
 
     public List<Keyword> getKeywords() {
@@ -34,6 +42,16 @@ public class PlanNameContainsKeywordsPredicate implements Predicate<Plan> {
     @Override
     public boolean test(Plan plan) {
         assert keywords != null;
+        if (foldedKeywords != null) {
+            Set<String> words = plan.getPlanName().getWords();
+            for (String word : foldedKeywords) {
+                if (words.contains(word)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        // reports the invalid keywords
         return keywords.stream()
                 .anyMatch(keyword ->
                         StringUtil.containsWordIgnoreCase(plan.getPlanName().fullName, keyword.toString()));
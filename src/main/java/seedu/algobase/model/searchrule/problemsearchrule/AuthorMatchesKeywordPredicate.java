@@ -2,31 +2,42 @@ package seedu.algobase.model.searchrule.problemsearchrule;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.function.Predicate;
+import java.util.Optional;
 
+import seedu.algobase.model.ReadOnlyAlgoBase;
 import seedu.algobase.model.problem.Author;
 import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.util.CompressedBitmap;
 
 /**
  * Tests that a {@code Problem}'s {@code Author} matches the given keyword exactly.
  */
-public class AuthorMatchesKeywordPredicate implements Predicate<Problem> {
+public class AuthorMatchesKeywordPredicate implements IndexedProblemPredicate {
     public static final AuthorMatchesKeywordPredicate DEFAULT_AUTHOR_PREDICATE =
         new AuthorMatchesKeywordPredicate() {
             @Override
             public boolean test(Problem problem) {
                 return true;
             }
+
+            @Override
+            public Optional<CompressedBitmap> lookUpCandidates(ReadOnlyAlgoBase algoBase) {
+                return Optional.empty();
+            }
         };
     private final Keyword keyword;
+    /** The {@code Author} named by {@code keyword}, or null if the keyword is not a valid author. */
+    private final Author author;
 
     public AuthorMatchesKeywordPredicate(Keyword keyword) {
         requireNonNull(keyword);
         this.keyword = keyword;
+        this.author = Author.isValidAuthor(keyword.toString()) ? new Author(keyword.toString()) : null;
     }
 
     private AuthorMatchesKeywordPredicate() {
         this.keyword = null;
+        this.author = null;
     }
 
     public Keyword getKeyword() {
@@ -36,10 +47,16 @@ public class AuthorMatchesKeywordPredicate implements Predicate<Problem> {
     @Override
     public boolean test(Problem problem) {
         requireNonNull(problem);
-        if (!Author.isValidAuthor(keyword.toString())) {
-            return false;
+        return author != null && problem.getAuthor().equals(author);
+    }
+
+    @Override
+    public Optional<CompressedBitmap> lookUpCandidates(ReadOnlyAlgoBase algoBase) {
+        requireNonNull(algoBase);
+        if (author == null) {
+            return Optional.of(new CompressedBitmap());
         }
-        return problem.getAuthor().equals(new Author(keyword.toString()));
+        return Optional.of(algoBase.getProblemOrdinalsWithAuthor(author));
     }
 
     @Override
@@ -4,31 +4,44 @@ import static java.util.Objects.requireNonNull;
 import static seedu.algobase.commons.util.AppUtil.isTwoListsEqual;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.algobase.commons.util.StringUtil;
+import seedu.algobase.model.ReadOnlyAlgoBase;
 import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.util.CompressedBitmap;
 
 /**
  * Tests that a {@code Problem}'s {@code Description} includes all of the given keywords (ignoring cases).
  */
-public class DescriptionContainsKeywordsPredicate implements Predicate<Problem> {
+public class DescriptionContainsKeywordsPredicate implements IndexedProblemPredicate {
     public static final DescriptionContainsKeywordsPredicate DEFAULT_DESCRIPTION_PREDICATE =
         new DescriptionContainsKeywordsPredicate() {
             @Override
             public boolean test(Problem problem) {
                 return true;
             }
+
+            @Override
+            public Optional<CompressedBitmap> lookUpCandidates(ReadOnlyAlgoBase algoBase) {
+                return Optional.empty();
+            }
         };
     private final List<Keyword> keywords;
+    private final List<String> foldedKeywords;
 
     public DescriptionContainsKeywordsPredicate(List<Keyword> keywords) {
         requireNonNull(keywords);
         this.keywords = keywords;
+        this.foldedKeywords = StringUtil.foldWords(
+            keywords.stream().map(Keyword::toString).collect(Collectors.toList())).orElse(null);
     }
 
     private DescriptionContainsKeywordsPredicate() {
         this.keywords = null;
+        this.foldedKeywords = null;
     }
 
     public List<Keyword> getKeywords() {
@@ -38,11 +51,31 @@ public class DescriptionContainsKeywordsPredicate implements Predicate<Problem>
     @Override
     public boolean test(Problem problem) {
         requireNonNull(problem);
+        if (foldedKeywords != null) {
+            Set<String> words = problem.getDescription().getWords();
+            for (String word : foldedKeywords) {
+                if (!words.contains(word)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        // reports the invalid keywords
         return keywords.stream()
                 .allMatch(keyword ->
                     StringUtil.containsWordIgnoreCase(problem.getDescription().value, keyword.toString()));
     }
 
+    @Override
+    public Optional<CompressedBitmap> lookUpCandidates(ReadOnlyAlgoBase algoBase) {
+        requireNonNull(algoBase);
+        if (foldedKeywords == null) {
+            // leaves invalid keywords to be reported by test(Problem)
+            return Optional.empty();
+        }
+        return Optional.of(algoBase.getProblemOrdinalsWithAllDescriptionWords(foldedKeywords));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
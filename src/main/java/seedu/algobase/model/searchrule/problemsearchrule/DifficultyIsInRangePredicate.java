@@ -3,15 +3,17 @@ package seedu.algobase.model.searchrule.problemsearchrule;
 import static java.util.Objects.requireNonNull;
 import static seedu.algobase.commons.util.AppUtil.checkArgument;
 
-import java.util.function.Predicate;
+import java.util.Optional;
 
+import seedu.algobase.model.ReadOnlyAlgoBase;
 import seedu.algobase.model.problem.Difficulty;
 import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.util.CompressedBitmap;
 
 /**
  * Tests that a {@code Problem}'s {@code Difficulty} is in the range [{@code lowerBound}, {@code upperBound}].
  */
-public class DifficultyIsInRangePredicate implements Predicate<Problem> {
+public class DifficultyIsInRangePredicate implements IndexedProblemPredicate {
 
     public static final DifficultyIsInRangePredicate DEFAULT_DIFFICULTY_PREDICATE =
         new DifficultyIsInRangePredicate() {
@@ -19,6 +21,11 @@ public class DifficultyIsInRangePredicate implements Predicate<Problem> {
             public boolean test(Problem problem) {
                 return true;
             }
+
+            @Override
+            public Optional<CompressedBitmap> lookUpCandidates(ReadOnlyAlgoBase algoBase) {
+                return Optional.empty();
+            }
         };
     public static final String MESSAGE_CONSTRAINTS = "Both the lower and upper bound for a valid difficulty range "
         + "should be between (0,5] and lower bound should be no greater than upper bound";
@@ -63,6 +70,12 @@ public class DifficultyIsInRangePredicate implements Predicate<Problem> {
         return difficulty.value >= lowerBound && difficulty.value <= upperBound;
     }
 
+    @Override
+    public Optional<CompressedBitmap> lookUpCandidates(ReadOnlyAlgoBase algoBase) {
+        requireNonNull(algoBase);
+        return Optional.of(algoBase.getProblemOrdinalsWithDifficultyInRange(lowerBound, upperBound));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
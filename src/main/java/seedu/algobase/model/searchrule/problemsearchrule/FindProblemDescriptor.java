@@ -12,7 +12,9 @@ import java.util.Optional;
 import java.util.function.Predicate;
 
 import seedu.algobase.commons.util.CollectionUtil;
+import seedu.algobase.model.ReadOnlyAlgoBase;
 import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.util.CompressedBitmap;
 
 /**
  * Stores the details to find the {@code Problem}. Each non-empty field value will replace the
@@ -120,13 +122,13 @@ public class FindProblemDescriptor {
      */
     public Predicate<Problem> getFindProblemPredicate() {
         NameContainsKeywordsPredicate namePredicate = getNamePredicate().orElse(DEFAULT_NAME_PREDICATE);
-        AuthorMatchesKeywordPredicate authorPredicate = getAuthorPredicate().orElse(DEFAULT_AUTHOR_PREDICATE);
         DescriptionContainsKeywordsPredicate descriptionPredicate =
                 getDescriptionPredicate().orElse(DEFAULT_DESCRIPTION_PREDICATE);
-        SourceMatchesKeywordPredicate sourcePredicate = getSourcePredicate().orElse(DEFAULT_SOURCE_PREDICATE);
         DifficultyIsInRangePredicate difficultyPredicate =
                 getDifficultyPredicate().orElse(DEFAULT_DIFFICULTY_PREDICATE);
         TagIncludesKeywordsPredicate tagPredicate = getTagPredicate().orElse(DEFAULT_TAG_PREDICATE);
+        AuthorMatchesKeywordPredicate authorPredicate = getAuthorPredicate().orElse(DEFAULT_AUTHOR_PREDICATE);
+        SourceMatchesKeywordPredicate sourcePredicate = getSourcePredicate().orElse(DEFAULT_SOURCE_PREDICATE);
         return namePredicate
             .and(authorPredicate)
             .and(descriptionPredicate)
@@ -135,6 +137,16 @@ public class FindProblemDescriptor {
             .and(tagPredicate);
     }
 
+    /**
+     * Returns the ordinals of the problems in {@code algoBase} that match the details of
+     * {@code findProblemDescriptor}, looked up from the indexes of {@code algoBase}.
+     *
+     * @see FindProblemQueryPlanner
+     */
+    public CompressedBitmap getMatchingProblemOrdinals(ReadOnlyAlgoBase algoBase) {
+        return FindProblemQueryPlanner.plan(this, algoBase);
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
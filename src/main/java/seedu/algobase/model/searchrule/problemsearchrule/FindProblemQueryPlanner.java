@@ -0,0 +1,104 @@
+package seedu.algobase.model.searchrule.problemsearchrule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.algobase.model.ReadOnlyAlgoBase;
+import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.problem.ProblemListEngine;
+import seedu.algobase.model.util.CompressedBitmap;
+
+/**
+ * Plans how the constraints of a {@code FindProblemDescriptor} are evaluated against an algobase.
+ *
+ * Constraints that were not given are dropped. The others are taken from the most selective to the least: exact
+ * author and source matches, then tags, difficulty and name keywords. Each is looked up in the indexes of the
+ * algobase as a bitmap of problem ordinals, and the bitmaps are intersected from the smallest. Description keywords
+ * are the costliest to match, so they are only looked up when no other constraint narrows the candidates; otherwise
+ * they are tested against the candidates alone, as are constraints that cannot be answered from the indexes.
+ */
+class FindProblemQueryPlanner {
+
+    private final ReadOnlyAlgoBase algoBase;
+    private final List<CompressedBitmap> candidateSets = new ArrayList<>();
+    private Predicate<Problem> residualPredicate = null;
+
+    private FindProblemQueryPlanner(ReadOnlyAlgoBase algoBase) {
+        this.algoBase = algoBase;
+    }
+
+    /**
+     * Returns the ordinals of the problems of {@code algoBase} described by {@code descriptor}.
+     */
+    static CompressedBitmap plan(FindProblemDescriptor descriptor, ReadOnlyAlgoBase algoBase) {
+        requireNonNull(descriptor);
+        requireNonNull(algoBase);
+        FindProblemQueryPlanner planner = new FindProblemQueryPlanner(algoBase);
+        List<Optional<? extends IndexedProblemPredicate>> constraints = List.of(
+            descriptor.getAuthorPredicate(),
+            descriptor.getSourcePredicate(),
+            descriptor.getTagPredicate(),
+            descriptor.getDifficultyPredicate(),
+            descriptor.getNamePredicate());
+        for (Optional<? extends IndexedProblemPredicate> constraint : constraints) {
+            if (constraint.isPresent() && !planner.lookUp(constraint.get())) {
+                return new CompressedBitmap();
+            }
+        }
+        Optional<DescriptionContainsKeywordsPredicate> descriptionPredicate = descriptor.getDescriptionPredicate();
+        if (descriptionPredicate.isPresent()) {
+            if (planner.candidateSets.isEmpty()) {
+                if (!planner.lookUp(descriptionPredicate.get())) {
+                    return new CompressedBitmap();
+                }
+            } else {
+                planner.addResidual(descriptionPredicate.get());
+            }
+        }
+        return planner.build();
+    }
+
+    /**
+     * Looks up the candidates of {@code predicate}, or keeps it to be tested if it cannot be answered from the
+     * indexes. Returns false if no problem can match.
+     */
+    private boolean lookUp(IndexedProblemPredicate predicate) {
+        Optional<CompressedBitmap> candidates = predicate.lookUpCandidates(algoBase);
+        if (candidates.isEmpty()) {
+            addResidual(predicate);
+            return true;
+        }
+        candidateSets.add(candidates.get());
+        return !candidates.get().isEmpty();
+    }
+
+    private void addResidual(Predicate<Problem> predicate) {
+        residualPredicate = residualPredicate == null ? predicate : residualPredicate.and(predicate);
+    }
+
+    /**
+     * Intersects the candidate sets from the smallest and keeps the candidates that satisfy the remaining
+     * predicates.
+     */
+    private CompressedBitmap build() {
+        CompressedBitmap candidates;
+        if (candidateSets.isEmpty()) {
+            candidates = algoBase.getProblemOrdinals();
+        } else {
+            candidateSets.sort(Comparator.comparingInt(CompressedBitmap::getCardinality));
+            candidates = candidateSets.get(0);
+            for (int i = 1; i < candidateSets.size() && !candidates.isEmpty(); i++) {
+                candidates = CompressedBitmap.and(candidates, candidateSets.get(i));
+            }
+        }
+        if (residualPredicate == null) {
+            return candidates;
+        }
+        return ProblemListEngine.match(candidates, algoBase::getProblemByOrdinal, residualPredicate);
+    }
+}
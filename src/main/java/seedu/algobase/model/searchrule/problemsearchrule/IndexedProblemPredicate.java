@@ -0,0 +1,20 @@
+package seedu.algobase.model.searchrule.problemsearchrule;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.algobase.model.ReadOnlyAlgoBase;
+import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.util.CompressedBitmap;
+
+/**
+ * A {@code Problem} predicate that can also be answered from the indexes of an algobase.
+ */
+public interface IndexedProblemPredicate extends Predicate<Problem> {
+
+    /**
+     * Returns the ordinals of the problems in {@code algoBase} that satisfy this predicate, looked up from its
+     * indexes, or an empty {@code Optional} if this predicate can only be answered by {@link #test(Object)}.
+     */
+    Optional<CompressedBitmap> lookUpCandidates(ReadOnlyAlgoBase algoBase);
+}
@@ -4,31 +4,44 @@ import static java.util.Objects.requireNonNull;
 import static seedu.algobase.commons.util.AppUtil.isTwoListsEqual;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.algobase.commons.util.StringUtil;
+import seedu.algobase.model.ReadOnlyAlgoBase;
 import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.util.CompressedBitmap;
 
 /**
  * Tests that a {@code Problem}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Problem> {
+public class NameContainsKeywordsPredicate implements IndexedProblemPredicate {
     public static final NameContainsKeywordsPredicate DEFAULT_NAME_PREDICATE =
         new NameContainsKeywordsPredicate() {
             @Override
             public boolean test(Problem problem) {
                 return true;
             }
+
+            @Override
+            public Optional<CompressedBitmap> lookUpCandidates(ReadOnlyAlgoBase algoBase) {
+                return Optional.empty();
+            }
         };
     private final List<Keyword> keywords;
+    private final List<String> foldedKeywords;
 
     public NameContainsKeywordsPredicate(List<Keyword> keywords) {
         requireNonNull(keywords);
         this.keywords = keywords;
+        this.foldedKeywords = StringUtil.foldWords(
+            keywords.stream().map(Keyword::toString).collect(Collectors.toList())).orElse(null);
     }
 
     private NameContainsKeywordsPredicate() {
         this.keywords = null;
+        this.foldedKeywords = null;
     }
 
     public List<Keyword> getKeywords() {
@@ -38,11 +51,31 @@ public class NameContainsKeywordsPredicate implements Predicate<Problem> {
     @Override
     public boolean test(Problem problem) {
         requireNonNull(problem);
+        if (foldedKeywords != null) {
+            Set<String> words = problem.getName().getWords();
+            for (String word : foldedKeywords) {
+                if (words.contains(word)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        // reports the invalid keywords
         return keywords.stream()
                 .anyMatch(keyword ->
                     StringUtil.containsWordIgnoreCase(problem.getName().fullName, keyword.toString()));
     }
 
+    @Override
+    public Optional<CompressedBitmap> lookUpCandidates(ReadOnlyAlgoBase algoBase) {
+        requireNonNull(algoBase);
+        if (foldedKeywords == null) {
+            // leaves invalid keywords to be reported by test(Problem)
+            return Optional.empty();
+        }
+        return Optional.of(algoBase.getProblemOrdinalsWithAnyNameWord(foldedKeywords));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
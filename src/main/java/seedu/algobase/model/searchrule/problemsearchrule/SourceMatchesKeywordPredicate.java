@@ -2,15 +2,17 @@ package seedu.algobase.model.searchrule.problemsearchrule;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.function.Predicate;
+import java.util.Optional;
 
+import seedu.algobase.model.ReadOnlyAlgoBase;
 import seedu.algobase.model.problem.Problem;
 import seedu.algobase.model.problem.Source;
+import seedu.algobase.model.util.CompressedBitmap;
 
 /**
  * Tests that a {@code Problem}'s {@code Source} matches the given keyword exactly.
  */
-public class SourceMatchesKeywordPredicate implements Predicate<Problem> {
+public class SourceMatchesKeywordPredicate implements IndexedProblemPredicate {
 
     public static final SourceMatchesKeywordPredicate DEFAULT_SOURCE_PREDICATE =
         new SourceMatchesKeywordPredicate() {
@@ -18,16 +20,25 @@ public class SourceMatchesKeywordPredicate implements Predicate<Problem> {
             public boolean test(Problem problem) {
                 return true;
             }
+
+            @Override
+            public Optional<CompressedBitmap> lookUpCandidates(ReadOnlyAlgoBase algoBase) {
+                return Optional.empty();
+            }
         };
     private final Keyword keyword;
+    /** The {@code Source} named by {@code keyword}, or null if the keyword is not a valid source. */
+    private final Source source;
 
     public SourceMatchesKeywordPredicate(Keyword keyword) {
         requireNonNull(keyword);
         this.keyword = keyword;
+        this.source = Source.isValidSource(keyword.toString()) ? new Source(keyword.toString()) : null;
     }
 
     private SourceMatchesKeywordPredicate() {
         this.keyword = null;
+        this.source = null;
     }
 
     public Keyword getKeyword() {
@@ -37,10 +48,16 @@ public class SourceMatchesKeywordPredicate implements Predicate<Problem> {
     @Override
     public boolean test(Problem problem) {
         requireNonNull(problem);
-        if (!Source.isValidSource(keyword.toString())) {
-            return false;
+        return source != null && problem.getSource().equals(source);
+    }
+
+    @Override
+    public Optional<CompressedBitmap> lookUpCandidates(ReadOnlyAlgoBase algoBase) {
+        requireNonNull(algoBase);
+        if (source == null) {
+            return Optional.of(new CompressedBitmap());
         }
-        return problem.getSource().equals(new Source(keyword.toString()));
+        return Optional.of(algoBase.getProblemOrdinalsWithSource(source));
     }
 
     @Override
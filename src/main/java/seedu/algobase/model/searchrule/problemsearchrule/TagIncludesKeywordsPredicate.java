@@ -4,15 +4,18 @@ import static java.util.Objects.requireNonNull;
 import static seedu.algobase.commons.util.AppUtil.isTwoListsEqual;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
+import seedu.algobase.model.ReadOnlyAlgoBase;
 import seedu.algobase.model.problem.Problem;
 import seedu.algobase.model.tag.Tag;
+import seedu.algobase.model.util.CompressedBitmap;
 
 /**
  * Tests that the given set of keywords is a subset of a {@code Problem}'s set of {@code Tag}.
  */
-public class TagIncludesKeywordsPredicate implements Predicate<Problem> {
+public class TagIncludesKeywordsPredicate implements IndexedProblemPredicate {
 
     public static final TagIncludesKeywordsPredicate DEFAULT_TAG_PREDICATE =
         new TagIncludesKeywordsPredicate() {
@@ -20,16 +23,27 @@ public class TagIncludesKeywordsPredicate implements Predicate<Problem> {
             public boolean test(Problem problem) {
                 return true;
             }
+
+            @Override
+            public Optional<CompressedBitmap> lookUpCandidates(ReadOnlyAlgoBase algoBase) {
+                return Optional.empty();
+            }
         };
     private final List<Keyword> keywords;
+    /** The tag names given by {@code keywords}, or null if any keyword is not a valid tag name. */
+    private final List<String> tagNames;
 
     public TagIncludesKeywordsPredicate(List<Keyword> keywords) {
         requireNonNull(keywords);
         this.keywords = keywords;
+        this.tagNames = keywords.stream().allMatch(keyword -> Tag.isValidTagName(keyword.toString()))
+            ? keywords.stream().map(Keyword::toString).collect(Collectors.toList())
+            : null;
     }
 
     private TagIncludesKeywordsPredicate() {
         this.keywords = null;
+        this.tagNames = null;
     }
 
     public List<Keyword> getKeywords() {
@@ -39,11 +53,24 @@ public class TagIncludesKeywordsPredicate implements Predicate<Problem> {
     @Override
     public boolean test(Problem problem) {
         requireNonNull(problem);
-        if (keywords.stream().anyMatch(
-            keyword -> (!Tag.isValidTagName(keyword.toString()) || keyword.equals("#forRefresh#")))) {
+        if (tagNames == null) {
             return false;
         }
-        return keywords.stream().allMatch(keyword -> problem.getTags().contains(new Tag(keyword.toString())));
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (!problem.hasTagNamed(tagNames.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<CompressedBitmap> lookUpCandidates(ReadOnlyAlgoBase algoBase) {
+        requireNonNull(algoBase);
+        if (tagNames == null) {
+            return Optional.of(new CompressedBitmap());
+        }
+        return Optional.of(algoBase.getProblemOrdinalsWithAllTags(tagNames));
     }
 
     @Override
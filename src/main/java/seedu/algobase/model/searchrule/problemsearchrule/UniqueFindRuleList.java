@@ -3,13 +3,26 @@ package seedu.algobase.model.searchrule.problemsearchrule;
 import static java.util.Objects.requireNonNull;
 import static seedu.algobase.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
 
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.algobase.commons.core.LogsCenter;
+import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.problem.ProblemListEngine;
+import seedu.algobase.model.problem.ProblemOrdinalListener;
+import seedu.algobase.model.problem.UniqueProblemList;
 import seedu.algobase.model.searchrule.problemsearchrule.exceptions.DuplicateProblemSearchRuleException;
 import seedu.algobase.model.searchrule.problemsearchrule.exceptions.ProblemSearchRuleNotFoundException;
+import seedu.algobase.model.util.CompressedBitmap;
 
 /**
  * A list of find rules that enforces uniqueness between its elements and does not allow nulls.
@@ -19,15 +32,31 @@ import seedu.algobase.model.searchrule.problemsearchrule.exceptions.ProblemSearc
  * However, the removal of a find rule uses ProblemSearchRule#equals(Object) so as to ensure that the find rule
  * with exactly the same fields will be removed.
  *
+ * Each find rule also keeps the set of problems it matches, as a bitmap of the ordinals of the problems in the
+ * {@code UniqueProblemList} it was created with. The list listens to that problem list, and updates the sets one
+ * problem at a time as problems are added, edited and removed. Applying a rule then does not refilter every
+ * problem, and each rule's match count stays up to date. The match counts are kept by the list rather than by the
+ * rules, so that lists holding the same rule, such as a copy of an algobase, count their own problems.
+ *
  * Supports a minimal set of list operations.
  *
  * @see ProblemSearchRule#isSameProblemSearchRule(ProblemSearchRule)
  */
-public class UniqueFindRuleList implements Iterable<ProblemSearchRule> {
+public class UniqueFindRuleList implements Iterable<ProblemSearchRule>, ProblemOrdinalListener {
 
     private final ObservableList<ProblemSearchRule> internalList = FXCollections.observableArrayList();
     private final ObservableList<ProblemSearchRule> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final UniqueProblemList problems;
+    private Map<ProblemSearchRule, RuleMatches> matches = new IdentityHashMap<>();
+    /** Set between {@link #problemsChanging()} and {@link #problemsChanged()}, while the match counts are held. */
+    private boolean isChangingSeveral = false;
+
+    public UniqueFindRuleList(UniqueProblemList problems) {
+        requireNonNull(problems);
+        this.problems = problems;
+        problems.addOrdinalListener(this);
+    }
 
     /**
      * Returns true if the list contains an equivalent ProblemSearchRule as the {@code toCheck}.
@@ -48,6 +77,7 @@ public class UniqueFindRuleList implements Iterable<ProblemSearchRule> {
         if (contains(rule)) {
             throw new DuplicateProblemSearchRuleException();
         }
+        matchAll(rule);
         internalList.add(rule);
     }
 
@@ -69,6 +99,10 @@ public class UniqueFindRuleList implements Iterable<ProblemSearchRule> {
             throw new DuplicateProblemSearchRuleException();
         }
 
+        if (target != editedRule) {
+            matches.remove(target);
+        }
+        matchAll(editedRule);
         internalList.set(index, editedRule);
     }
 
@@ -79,9 +113,11 @@ public class UniqueFindRuleList implements Iterable<ProblemSearchRule> {
      */
     public void remove(ProblemSearchRule toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new ProblemSearchRuleNotFoundException();
         }
+        matches.remove(internalList.remove(index));
     }
 
     /**
@@ -91,6 +127,7 @@ public class UniqueFindRuleList implements Iterable<ProblemSearchRule> {
      */
     public void setFindRules(UniqueFindRuleList replacement) {
         requireNonNull(replacement);
+        rematchAll(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -100,9 +137,119 @@ public class UniqueFindRuleList implements Iterable<ProblemSearchRule> {
             throw new DuplicateProblemSearchRuleException();
         }
 
+        rematchAll(rules);
         internalList.setAll(rules);
     }
 
+    /**
+     * Returns the ordinals of the problems matched by {@code rule}, which must be in the list.
+     */
+    public CompressedBitmap getMatchingProblemOrdinals(ProblemSearchRule rule) {
+        requireNonNull(rule);
+        RuleMatches ruleMatches = matches.get(rule);
+        if (ruleMatches == null) {
+            throw new ProblemSearchRuleNotFoundException();
+        }
+        return ruleMatches.ordinals.copy();
+    }
+
+    /**
+     * Returns the number of problems matched by {@code rule}, which must be in the list.
+     * The count follows the rule for as long as it stays in the list, and changes at most once per change of the
+     * problem list.
+     */
+    public ReadOnlyIntegerProperty getMatchCount(ProblemSearchRule rule) {
+        requireNonNull(rule);
+        RuleMatches ruleMatches = matches.get(rule);
+        if (ruleMatches == null) {
+            throw new ProblemSearchRuleNotFoundException();
+        }
+        return ruleMatches.matchCount;
+    }
+
+    @Override
+    public void problemIndexed(int ordinal, Problem problem) {
+        requireNonNull(problem);
+        for (RuleMatches ruleMatches : matches.values()) {
+            ruleMatches.set(ordinal, ruleMatches.test(problem));
+        }
+        publishMatchCounts();
+    }
+
+    @Override
+    public void problemUnindexed(int ordinal) {
+        for (RuleMatches ruleMatches : matches.values()) {
+            ruleMatches.set(ordinal, false);
+        }
+        publishMatchCounts();
+    }
+
+    @Override
+    public void problemsReindexed() {
+        rematchAll(internalList);
+    }
+
+    @Override
+    public void problemsChanging() {
+        isChangingSeveral = true;
+    }
+
+    @Override
+    public void problemsChanged() {
+        isChangingSeveral = false;
+        publishMatchCounts();
+    }
+
+    /**
+     * Updates the match count of every rule, unless several problems are being changed at once.
+     */
+    private void publishMatchCounts() {
+        if (isChangingSeveral) {
+            return;
+        }
+        for (RuleMatches ruleMatches : matches.values()) {
+            ruleMatches.publishCount();
+        }
+    }
+
+    /**
+     * Matches every rule in {@code rules}, which are to be the rules of the list, against every problem again.
+     * A rule that was already in the list keeps its match count.
+     */
+    private void rematchAll(List<ProblemSearchRule> rules) {
+        Map<ProblemSearchRule, RuleMatches> previous = matches;
+        matches = new IdentityHashMap<>();
+        for (ProblemSearchRule rule : rules) {
+            RuleMatches ruleMatches = previous.get(rule);
+            if (ruleMatches != null) {
+                matches.put(rule, ruleMatches);
+            }
+            matchAll(rule);
+        }
+    }
+
+    /**
+     * Matches every rule that constrains tags against every problem again, after tags were renamed or deleted.
+     */
+    public void rematchTagRules() {
+        for (ProblemSearchRule rule : internalList) {
+            if (rule.getTagPredicate().isPresent()) {
+                matchAll(rule);
+            }
+        }
+    }
+
+    /**
+     * Matches {@code rule} against every problem, and updates its match count once.
+     */
+    private void matchAll(ProblemSearchRule rule) {
+        RuleMatches ruleMatches = matches.computeIfAbsent(rule, RuleMatches::new);
+        ruleMatches.clear();
+        ProblemListEngine.match(problems.getOrdinals(), problems::getProblemByOrdinal, ruleMatches::test)
+            .forEach(ordinal -> ruleMatches.set(ordinal, true));
+        ruleMatches.publishCount();
+    }
+
     public ObservableList<ProblemSearchRule> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
     }
@@ -123,6 +270,76 @@ public class UniqueFindRuleList implements Iterable<ProblemSearchRule> {
         return true;
     }
 
+    /**
+     * The problems matched by a find rule.
+     */
+    private static class RuleMatches {
+        private static final Logger logger = LogsCenter.getLogger(RuleMatches.class);
+
+        private final ProblemSearchRule rule;
+        private final Predicate<Problem> predicate;
+        private final CompressedBitmap ordinals = new CompressedBitmap();
+        private final IntegerProperty matchCount = new SimpleIntegerProperty(0);
+        private int count = 0;
+        /** Set once a failure of the predicate has been logged, so that it is logged once per rule. */
+        private volatile boolean hasLoggedFailure = false;
+
+        RuleMatches(ProblemSearchRule rule) {
+            this.rule = rule;
+            this.predicate = rule.getFindProblemPredicate();
+        }
+
+        /**
+         * Returns true if the rule matches {@code problem}.
+         * Keywords that cannot be matched, such as keywords with spaces in hand-edited data, match no problem, and
+         * the first such failure of the rule is logged.
+         * May be called from several threads at once.
+         */
+        boolean test(Problem problem) {
+            try {
+                return predicate.test(problem);
+            } catch (IllegalArgumentException e) {
+                if (!hasLoggedFailure) {
+                    hasLoggedFailure = true;
+                    logger.warning("Find rule " + rule.getName() + " cannot be matched and matches no problem: "
+                        + e.getMessage());
+                }
+                return false;
+            }
+        }
+
+        /**
+         * Records whether the problem with {@code ordinal} is matched.
+         * The match count is updated by {@link #publishCount()}.
+         */
+        void set(int ordinal, boolean isMatched) {
+            if (ordinals.contains(ordinal) == isMatched) {
+                return;
+            }
+            if (isMatched) {
+                ordinals.add(ordinal);
+            } else {
+                ordinals.remove(ordinal);
+            }
+            count += isMatched ? 1 : -1;
+        }
+
+        /**
+         * Forgets every matched problem, without updating the match count.
+         */
+        void clear() {
+            ordinals.clear();
+            count = 0;
+        }
+
+        /**
+         * Updates the match count to the number of problems recorded as matched.
+         */
+        void publishCount() {
+            matchCount.set(count);
+        }
+    }
+
     @Override
     public Iterator<ProblemSearchRule> iterator() {
         return internalList.iterator();
@@ -4,13 +4,18 @@ import static java.util.Objects.requireNonNull;
 import static seedu.algobase.commons.util.AppUtil.checkArgument;
 import static seedu.algobase.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Objects;
-
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
 import seedu.algobase.model.Id;
 
 /**
  * Represents a Tag in the algobase.
- * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * Guarantees: name is valid as declared in {@link #isValidTagName(String)}; immutable outside this package.
+ *
+ * The tags in an algobase's {@code UniqueTagList} act as its dictionary: every problem in that algobase refers to
+ * the same Tag instance for a given name. Only the {@code UniqueTagList} holding a tag renames or recolors it, and it
+ * holds its own copy of every tag, so the change is seen by the problems of that algobase and by nothing else.
  */
 public class Tag {
 
@@ -31,8 +36,8 @@ public class Tag {
 
     public static final String DEFAULT_COLOR = "#3e7b91";
     public final Id id;
-    public final String tagName;
-    private String tagColor;
+    private final StringProperty tagName;
+    private final StringProperty tagColor;
 
     /**
      * Constructs a {@code Tag}.
@@ -41,34 +46,34 @@ public class Tag {
      */
     public Tag(String tagName) {
         requireNonNull(tagName);
-        checkArgument((isValidTagName(tagName) || tagName.equals("#forRefresh#")), MESSAGE_NAME_CONSTRAINTS);
+        checkArgument(isValidTagName(tagName), MESSAGE_NAME_CONSTRAINTS);
         this.id = Id.generateId();
-        this.tagName = tagName;
-        this.tagColor = DEFAULT_COLOR;
+        this.tagName = new SimpleStringProperty(tagName);
+        this.tagColor = new SimpleStringProperty(DEFAULT_COLOR);
     }
     public Tag(String tagName, String tagColor) {
         requireAllNonNull(tagName, tagColor);
-        checkArgument((isValidTagName(tagName) || tagName.equals("#forRefresh#")), MESSAGE_NAME_CONSTRAINTS);
+        checkArgument(isValidTagName(tagName), MESSAGE_NAME_CONSTRAINTS);
         checkArgument(isValidTagColor(tagColor), MESSAGE_COLOR_CONSTRAINTS);
         this.id = Id.generateId();
-        this.tagName = tagName;
-        this.tagColor = tagColor;
+        this.tagName = new SimpleStringProperty(tagName);
+        this.tagColor = new SimpleStringProperty(tagColor);
     }
 
     public Tag(Id id, String tagName) {
         requireAllNonNull(id, tagName);
-        checkArgument((isValidTagName(tagName) || tagName.equals("#forRefresh#")), MESSAGE_NAME_CONSTRAINTS);
+        checkArgument(isValidTagName(tagName), MESSAGE_NAME_CONSTRAINTS);
         this.id = id;
-        this.tagName = tagName;
-        this.tagColor = DEFAULT_COLOR;
+        this.tagName = new SimpleStringProperty(tagName);
+        this.tagColor = new SimpleStringProperty(DEFAULT_COLOR);
     }
     public Tag(Id id, String tagName, String tagColor) {
         requireAllNonNull(tagName, tagColor);
-        checkArgument((isValidTagName(tagName) || tagName.equals("#forRefresh#")), MESSAGE_NAME_CONSTRAINTS);
+        checkArgument(isValidTagName(tagName), MESSAGE_NAME_CONSTRAINTS);
         checkArgument(isValidTagColor(tagColor), MESSAGE_COLOR_CONSTRAINTS);
         this.id = id;
-        this.tagName = tagName;
-        this.tagColor = tagColor;
+        this.tagName = new SimpleStringProperty(tagName);
+        this.tagColor = new SimpleStringProperty(tagColor);
     }
 
     public Id getId() {
@@ -76,15 +81,39 @@ public class Tag {
     }
 
     public String getName() {
-        return this.tagName;
+        return tagName.get();
+    }
+
+    /**
+     * Renames this tag to {@code name}, which must be a valid tag name.
+     * Only called by the {@code UniqueTagList} holding this tag.
+     */
+    void setName(String name) {
+        requireNonNull(name);
+        checkArgument(isValidTagName(name), MESSAGE_NAME_CONSTRAINTS);
+        tagName.set(name);
+    }
+
+    public ReadOnlyStringProperty nameProperty() {
+        return tagName;
     }
 
     public String getColor() {
-        return tagColor;
+        return tagColor.get();
+    }
+
+    /**
+     * Recolors this tag to {@code color}, which must be a valid tag color.
+     * Only called by the {@code UniqueTagList} holding this tag.
+     */
+    void setColor(String color) {
+        requireNonNull(color);
+        checkArgument(isValidTagColor(color), MESSAGE_COLOR_CONSTRAINTS);
+        tagColor.set(color);
     }
 
-    public void setColor(String color) {
-        this.tagColor = color;
+    public ReadOnlyStringProperty colorProperty() {
+        return tagColor;
     }
     /**
      * Returns true if a given string is a valid tag name.
@@ -119,19 +148,19 @@ public class Tag {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Tag // instanceof handles nulls
-                && tagName.equals(((Tag) other).tagName)); // state check
+                && getName().equals(((Tag) other).getName())); // state check
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(tagName.hashCode(), tagColor.hashCode());
+        return getName().hashCode();
     }
 
     /**
      * Format state as text for viewing.
      */
     public String toString() {
-        return '[' + tagName + " " + tagColor + ']';
+        return '[' + getName() + " " + getColor() + ']';
     }
 
     /**
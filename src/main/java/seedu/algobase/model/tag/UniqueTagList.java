@@ -3,13 +3,22 @@ package seedu.algobase.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.algobase.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.algobase.model.Id;
 import seedu.algobase.model.tag.exceptions.DuplicateTagException;
 import seedu.algobase.model.tag.exceptions.TagNotFoundException;
+import seedu.algobase.model.util.RefreshableObservableList;
 
 /**
  * A list of tags that enforces uniqueness between its elements and does not allow nulls.
@@ -18,45 +27,65 @@ import seedu.algobase.model.tag.exceptions.TagNotFoundException;
  * or updated is unique in terms of identity in the UniqueTagList. However, the removal of a Tag uses
  * Tag#equals(Object) so as to ensure that the Tag with exactly the same fields will be removed.
  *
+ * The list doubles as the tag dictionary of the algobase: {@link #resolve(Tag)} maps a tag to the instance held here,
+ * and {@link #setTag(Tag, Tag)} edits that instance in place so that every problem referring to it sees the change.
+ * The list holds its own copy of every tag added to it, so an edit never reaches a tag held by the caller or by
+ * another list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Tag#isSameTag(Tag)
  */
 public class UniqueTagList implements Iterable<Tag> {
 
-    private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
+    private final RefreshableObservableList<Tag> internalList = new RefreshableObservableList<>();
     private final ObservableList<Tag> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Id, Tag> idIndex = new HashMap<>();
+    private final Map<String, Tag> nameIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent Tag as the given argument.
      */
     public boolean contains(Tag toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTag);
+        return nameIndex.containsKey(toCheck.getName());
     }
 
     /**
-     * Adds a Tag to the list.
+     * Adds a copy of a Tag to the list.
      * The Tag must not already exist in the list.
      */
     public void add(Tag toAdd) {
         requireNonNull(toAdd);
         if (!contains(toAdd)) {
-            internalList.add(toAdd);
+            Tag entry = copyOf(toAdd);
+            internalList.add(entry);
+            idIndex.put(entry.getId(), entry);
+            nameIndex.put(entry.getName(), entry);
         }
     }
 
     /**
-     * Replaces the Tag {@code target} in the list with {@code editedTag}.
+     * Returns the Tag in the list with the same name as {@code tag}, adding a copy of {@code tag} if there is none.
+     */
+    public Tag resolve(Tag tag) {
+        requireNonNull(tag);
+        add(tag);
+        return nameIndex.get(tag.getName());
+    }
+
+    /**
+     * Updates the Tag {@code target} in the list to the name and color of {@code editedTag}.
      * {@code target} must exist in the list.
      * The Tag identity of {@code editedTag} must not be the same as another existing Tag in the list.
+     * The Tag held by the list is edited in place, so every reference to it observes the new name and color.
      */
     public void setTag(Tag target, Tag editedTag) {
         requireAllNonNull(target, editedTag);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Tag entry = nameIndex.get(target.getName());
+        if (entry == null) {
             throw new TagNotFoundException();
         }
 
@@ -64,7 +93,11 @@ public class UniqueTagList implements Iterable<Tag> {
             throw new DuplicateTagException();
         }
 
-        internalList.set(index, editedTag);
+        nameIndex.remove(entry.getName());
+        entry.setName(editedTag.getName());
+        entry.setColor(editedTag.getColor());
+        nameIndex.put(entry.getName(), entry);
+        internalList.refresh(Collections.singletonList(internalList.indexOf(entry)));
     }
 
     /**
@@ -73,18 +106,25 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public void remove(Tag toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new TagNotFoundException();
         }
+        Tag removed = internalList.remove(index);
+        idIndex.remove(removed.getId());
+        nameIndex.remove(removed.getName());
     }
 
+    /**
+     * Replaces the contents of this list with copies of the tags in {@code replacement}.
+     */
     public void setTags(UniqueTagList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setTags(replacement.internalList);
     }
 
     /**
-     * Replaces the contents of this list with {@code tags}.
+     * Replaces the contents of this list with copies of {@code tags}.
      * {@code tags} must not contain duplicate tags.
      */
     public void setTags(List<Tag> tags) {
@@ -93,7 +133,20 @@ public class UniqueTagList implements Iterable<Tag> {
             throw new DuplicateTagException();
         }
 
-        internalList.setAll(tags);
+        List<Tag> entries = new ArrayList<>(tags.size());
+        for (Tag tag : tags) {
+            entries.add(copyOf(tag));
+        }
+        internalList.setAll(entries);
+        rebuildIndexes();
+    }
+
+    /**
+     * Returns the Tag with the given {@code id}, if any.
+     */
+    public Optional<Tag> findById(Id id) {
+        requireNonNull(id);
+        return Optional.ofNullable(idIndex.get(id));
     }
 
     /**
@@ -120,15 +173,33 @@ public class UniqueTagList implements Iterable<Tag> {
         return internalList.hashCode();
     }
 
+    /**
+     * Rebuilds the Id and name indexes from the backing list.
+     */
+    private void rebuildIndexes() {
+        idIndex.clear();
+        nameIndex.clear();
+        for (Tag tag : internalList) {
+            idIndex.put(tag.getId(), tag);
+            nameIndex.put(tag.getName(), tag);
+        }
+    }
+
+    /**
+     * Returns a copy of {@code tag} with the same Id, name and color, to be held by this list.
+     */
+    private static Tag copyOf(Tag tag) {
+        return new Tag(tag.getId(), tag.getName(), tag.getColor());
+    }
+
     /**
      * Returns true if {@code tags} contains only unique tags.
      */
     private boolean tagsAreUnique(List<Tag> tags) {
-        for (int i = 0; i < tags.size() - 1; i++) {
-            for (int j = i + 1; j < tags.size(); j++) {
-                if (tags.get(i).isSameTag(tags.get(j))) {
-                    return false;
-                }
+        Set<String> names = new HashSet<>();
+        for (Tag tag : tags) {
+            if (!names.add(tag.getName())) {
+                return false;
             }
         }
         return true;
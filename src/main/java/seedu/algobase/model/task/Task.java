@@ -3,7 +3,6 @@ package seedu.algobase.model.task;
 import static seedu.algobase.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
-import java.util.Objects;
 import java.util.Set;
 
 import seedu.algobase.model.Id;
@@ -19,6 +18,7 @@ import seedu.algobase.model.tag.Tag;
 
 /**
  * Represents a Task in the algobase.
+ * Its hash code is computed once, when the task is created.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Task {
@@ -27,6 +27,7 @@ public class Task {
     private final Problem problem;
     private final Boolean isDone;
     private final LocalDate dueDate;
+    private final int hash;
 
     /**
      * Problem field must be present and not null.
@@ -41,6 +42,7 @@ public class Task {
         this.problem = problem;
         this.dueDate = dueDate;
         this.isDone = isDone;
+        this.hash = problem.hashCode();
     }
 
     /**
@@ -136,6 +138,19 @@ public class Task {
         //CHECKSTYLE.ON: AvoidEscapedUnicodeCharactersCheck
     }
 
+    /**
+     * Returns true if both tasks are for the problem with the same id.
+     * This defines a weaker notion of equality between two tasks, which keeps the tasks of a plan unique.
+     */
+    public boolean isSameTask(Task otherTask) {
+        if (otherTask == this) {
+            return true;
+        }
+
+        return otherTask != null
+            && otherTask.getProblem().getId().equals(getProblem().getId());
+    }
+
     /**
      * Returns true if both tasks have the same fields.
      */
@@ -150,13 +165,13 @@ public class Task {
         }
 
         Task otherTask = (Task) other;
-        return otherTask.getProblem().equals(getProblem());
+        return otherTask.hash == hash
+            && otherTask.getProblem().equals(getProblem());
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(problem);
+        return hash;
     }
 
     @Override
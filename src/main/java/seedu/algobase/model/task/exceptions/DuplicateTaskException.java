@@ -0,0 +1,11 @@
+package seedu.algobase.model.task.exceptions;
+
+/**
+ * Signals that the operation will result in duplicate Tasks in a Plan (Tasks are considered duplicates if they are
+ * on the same problem).
+ */
+public class DuplicateTaskException extends RuntimeException {
+    public DuplicateTaskException() {
+        super("Operation would result in duplicate tasks");
+    }
+}
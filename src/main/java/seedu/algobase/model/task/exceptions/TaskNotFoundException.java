@@ -0,0 +1,6 @@
+package seedu.algobase.model.task.exceptions;
+
+/**
+ * Signals that the operation is unable to find the specified Task.
+ */
+public class TaskNotFoundException extends RuntimeException {}
@@ -0,0 +1,619 @@
+package seedu.algobase.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of non-negative {@code int}s, laid out like a Roaring bitmap.
+ *
+ * Values are grouped by their high 16 bits into chunks of 65536. Each chunk is held in a container that suits its
+ * density: a sorted array of the low 16 bits when it holds at most {@value #ARRAY_CONTAINER_MAX} values, or a bitmap
+ * of 65536 bits otherwise. Sparse sets stay small, dense sets cost one bit per value, and {@code and}, {@code or}
+ * and {@code andNot} work a chunk at a time, mostly on whole words.
+ */
+public class CompressedBitmap {
+
+    /** The largest number of values held in an array container. */
+    private static final int ARRAY_CONTAINER_MAX = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private char[] keys;
+    private Container[] containers;
+    private int size;
+
+    public CompressedBitmap() {
+        this.keys = new char[INITIAL_CAPACITY];
+        this.containers = new Container[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    private CompressedBitmap(int capacity) {
+        this.keys = new char[Math.max(capacity, INITIAL_CAPACITY)];
+        this.containers = new Container[keys.length];
+        this.size = 0;
+    }
+
+    /**
+     * Returns a bitmap holding {@code values}.
+     */
+    public static CompressedBitmap of(int... values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Returns a copy of this bitmap.
+     */
+    public CompressedBitmap copy() {
+        CompressedBitmap copy = new CompressedBitmap(size);
+        for (int i = 0; i < size; i++) {
+            copy.append(keys[i], containers[i].copy());
+        }
+        return copy;
+    }
+
+    /**
+     * Adds {@code value}, which must not be negative.
+     */
+    public void add(int value) {
+        checkValue(value);
+        char key = highBits(value);
+        int position = findKey(key);
+        if (position < 0) {
+            position = -position - 1;
+            insert(position, key, new ArrayContainer());
+        }
+        containers[position] = containers[position].add(lowBits(value));
+    }
+
+    /**
+     * Removes {@code value}, if present.
+     */
+    public void remove(int value) {
+        if (value < 0) {
+            return;
+        }
+        int position = findKey(highBits(value));
+        if (position < 0) {
+            return;
+        }
+        Container container = containers[position].remove(lowBits(value));
+        if (container.cardinality() == 0) {
+            System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+            System.arraycopy(containers, position + 1, containers, position, size - position - 1);
+            size--;
+            containers[size] = null;
+        } else {
+            containers[position] = container;
+        }
+    }
+
+    /**
+     * Removes every value.
+     */
+    public void clear() {
+        Arrays.fill(containers, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Returns true if this bitmap holds {@code value}.
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int position = findKey(highBits(value));
+        return position >= 0 && containers[position].contains(lowBits(value));
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this bitmap.
+     */
+    public int getCardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * Returns the number of values in this bitmap that are less than {@code value}.
+     */
+    public int rank(int value) {
+        if (value <= 0) {
+            return 0;
+        }
+        char key = highBits(value);
+        int rank = 0;
+        for (int i = 0; i < size && keys[i] <= key; i++) {
+            rank += keys[i] < key ? containers[i].cardinality() : containers[i].rank(lowBits(value));
+        }
+        return rank;
+    }
+
+    /**
+     * Passes each value to {@code action}, in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        requireNonNull(action);
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Returns the values in ascending order.
+     */
+    public int[] toArray() {
+        int[] values = new int[getCardinality()];
+        int[] next = {0};
+        forEach(value -> values[next[0]++] = value);
+        return values;
+    }
+
+    /**
+     * Returns the values that are in both {@code first} and {@code second}.
+     */
+    public static CompressedBitmap and(CompressedBitmap first, CompressedBitmap second) {
+        requireNonNull(first);
+        requireNonNull(second);
+        CompressedBitmap result = new CompressedBitmap(Math.min(first.size, second.size));
+        int i = 0;
+        int j = 0;
+        while (i < first.size && j < second.size) {
+            if (first.keys[i] < second.keys[j]) {
+                i++;
+            } else if (first.keys[i] > second.keys[j]) {
+                j++;
+            } else {
+                result.appendIfNotEmpty(first.keys[i], first.containers[i].and(second.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values that are in {@code first} or {@code second}.
+     */
+    public static CompressedBitmap or(CompressedBitmap first, CompressedBitmap second) {
+        requireNonNull(first);
+        requireNonNull(second);
+        CompressedBitmap result = new CompressedBitmap(first.size + second.size);
+        int i = 0;
+        int j = 0;
+        while (i < first.size || j < second.size) {
+            if (j == second.size || (i < first.size && first.keys[i] < second.keys[j])) {
+                result.append(first.keys[i], first.containers[i].copy());
+                i++;
+            } else if (i == first.size || first.keys[i] > second.keys[j]) {
+                result.append(second.keys[j], second.containers[j].copy());
+                j++;
+            } else {
+                result.append(first.keys[i], first.containers[i].or(second.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values that are in {@code first} but not in {@code second}.
+     */
+    public static CompressedBitmap andNot(CompressedBitmap first, CompressedBitmap second) {
+        requireNonNull(first);
+        requireNonNull(second);
+        CompressedBitmap result = new CompressedBitmap(first.size);
+        int j = 0;
+        for (int i = 0; i < first.size; i++) {
+            while (j < second.size && second.keys[j] < first.keys[i]) {
+                j++;
+            }
+            if (j < second.size && second.keys[j] == first.keys[i]) {
+                result.appendIfNotEmpty(first.keys[i], first.containers[i].andNot(second.containers[j]));
+            } else {
+                result.append(first.keys[i], first.containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof CompressedBitmap)) {
+            return false;
+        }
+
+        return Arrays.equals(toArray(), ((CompressedBitmap) other).toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Values in a CompressedBitmap must not be negative: " + value);
+        }
+    }
+
+    private static char highBits(int value) {
+        return (char) (value >>> 16);
+    }
+
+    private static char lowBits(int value) {
+        return (char) value;
+    }
+
+    /**
+     * Returns the position of {@code key}, or {@code -(insertion point) - 1} if it is absent.
+     */
+    private int findKey(char key) {
+        if (size > 0 && keys[size - 1] == key) {
+            return size - 1;
+        }
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    /**
+     * Inserts {@code container} under {@code key} at {@code position}, shifting the later containers.
+     */
+    private void insert(int position, char key, Container container) {
+        ensureCapacity(size + 1);
+        System.arraycopy(keys, position, keys, position + 1, size - position);
+        System.arraycopy(containers, position, containers, position + 1, size - position);
+        keys[position] = key;
+        containers[position] = container;
+        size++;
+    }
+
+    /**
+     * Adds {@code container} under {@code key}, which must be greater than every key held.
+     */
+    private void append(char key, Container container) {
+        ensureCapacity(size + 1);
+        keys[size] = key;
+        containers[size] = container;
+        size++;
+    }
+
+    private void appendIfNotEmpty(char key, Container container) {
+        if (container.cardinality() > 0) {
+            append(key, container);
+        }
+    }
+
+    /**
+     * Grows the key and container arrays to hold at least {@code capacity} containers.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > keys.length) {
+            int newCapacity = Math.max(capacity, keys.length * 2);
+            keys = Arrays.copyOf(keys, newCapacity);
+            containers = Arrays.copyOf(containers, newCapacity);
+        }
+    }
+
+    /**
+     * The low 16 bits of the values in one chunk.
+     * Operations that change the contents return the container to use from then on, which may be of the other kind.
+     */
+    private abstract static class Container {
+        abstract int cardinality();
+
+        abstract boolean contains(char value);
+
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        /**
+         * Returns the number of values less than {@code value}.
+         */
+        abstract int rank(char value);
+
+        abstract void forEach(int highBits, IntConsumer action);
+
+        abstract Container copy();
+
+        abstract Container and(Container other);
+
+        abstract Container or(Container other);
+
+        abstract Container andNot(Container other);
+
+        abstract BitmapContainer toBitmapContainer();
+    }
+
+    /**
+     * A sorted array of values, for sparse chunks.
+     */
+    private static class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[INITIAL_CAPACITY], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        Container add(char value) {
+            int position = cardinality > 0 && values[cardinality - 1] < value
+                    ? -cardinality - 1
+                    : Arrays.binarySearch(values, 0, cardinality, value);
+            if (position >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_CONTAINER_MAX) {
+                return toBitmapContainer().add(value);
+            }
+            position = -position - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_CONTAINER_MAX));
+            }
+            System.arraycopy(values, position, values, position + 1, cardinality - position);
+            values[position] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int position = Arrays.binarySearch(values, 0, cardinality, value);
+            if (position >= 0) {
+                System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        int rank(char value) {
+            int position = Arrays.binarySearch(values, 0, cardinality, value);
+            return position >= 0 ? position : -position - 1;
+        }
+
+        @Override
+        void forEach(int highBits, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(highBits | values[i]);
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 1)), cardinality);
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.or(this);
+            }
+            ArrayContainer otherArray = (ArrayContainer) other;
+            char[] result = new char[cardinality + otherArray.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < otherArray.cardinality) {
+                if (j == otherArray.cardinality || (i < cardinality && values[i] < otherArray.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i == cardinality || values[i] > otherArray.values[j]) {
+                    result[count++] = otherArray.values[j++];
+                } else {
+                    result[count++] = values[i++];
+                    j++;
+                }
+            }
+            ArrayContainer union = new ArrayContainer(result, count);
+            return count > ARRAY_CONTAINER_MAX ? union.toBitmapContainer() : union;
+        }
+
+        @Override
+        Container andNot(Container other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        BitmapContainer toBitmapContainer() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * A bitmap of all 65536 values, for dense chunks.
+     */
+    private static class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer() {
+            this(new long[BITMAP_WORDS], 0);
+        }
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * Returns a container holding the set bits of {@code words}, in the smaller representation.
+         */
+        static Container of(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+            return cardinality > ARRAY_CONTAINER_MAX ? bitmap : bitmap.toArrayContainer();
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        Container add(char value) {
+            long word = words[value >>> 6];
+            long bit = 1L << value;
+            if ((word & bit) == 0) {
+                words[value >>> 6] = word | bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long word = words[value >>> 6];
+            long bit = 1L << value;
+            if ((word & bit) != 0) {
+                words[value >>> 6] = word & ~bit;
+                cardinality--;
+            }
+            return cardinality > ARRAY_CONTAINER_MAX ? this : toArrayContainer();
+        }
+
+        @Override
+        int rank(char value) {
+            int rank = 0;
+            int wordIndex = value >>> 6;
+            for (int i = 0; i < wordIndex; i++) {
+                rank += Long.bitCount(words[i]);
+            }
+            return rank + Long.bitCount(words[wordIndex] & ((1L << value) - 1));
+        }
+
+        @Override
+        void forEach(int highBits, IntConsumer action) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(highBits | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] result = new long[BITMAP_WORDS];
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] = words[i] & otherWords[i];
+            }
+            return of(result);
+        }
+
+        @Override
+        Container or(Container other) {
+            long[] otherWords = other.toBitmapContainer().words;
+            long[] result = new long[BITMAP_WORDS];
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] = words[i] | otherWords[i];
+            }
+            return of(result);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            long[] otherWords = other.toBitmapContainer().words;
+            long[] result = new long[BITMAP_WORDS];
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] = words[i] & ~otherWords[i];
+            }
+            return of(result);
+        }
+
+        @Override
+        BitmapContainer toBitmapContainer() {
+            return this;
+        }
+
+        /**
+         * Returns the values of this container as an array container.
+         */
+        private ArrayContainer toArrayContainer() {
+            char[] values = new char[Math.max(cardinality, 1)];
+            int[] next = {0};
+            forEach(0, value -> values[next[0]++] = (char) value);
+            return new ArrayContainer(values, cardinality);
+        }
+    }
+}
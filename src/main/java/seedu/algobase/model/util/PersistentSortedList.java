@@ -0,0 +1,333 @@
+package seedu.algobase.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An immutable list kept sorted by a comparator, held as a balanced binary tree whose nodes know the size of their
+ * subtrees.
+ *
+ * Elements are looked up by index or by value in O(log n). Adding, removing or replacing an element returns a new
+ * list in O(log n), which shares every node off the path to that element with this list. Elements that compare as
+ * equal are kept in the order they were added.
+ *
+ * The list cannot be changed through the {@code List} interface.
+ */
+public class PersistentSortedList<E> extends AbstractList<E> {
+
+    private final Comparator<? super E> comparator;
+    private final Node<E> root;
+
+    private PersistentSortedList(Comparator<? super E> comparator, Node<E> root) {
+        this.comparator = comparator;
+        this.root = root;
+    }
+
+    /**
+     * Returns a list of {@code elements}, sorted by {@code comparator}.
+     */
+    public static <E> PersistentSortedList<E> of(Comparator<? super E> comparator, Collection<? extends E> elements) {
+        requireNonNull(comparator);
+        requireNonNull(elements);
+        List<E> sorted = new ArrayList<>(elements);
+        sorted.sort(comparator);
+        return new PersistentSortedList<>(comparator, build(sorted, 0, sorted.size()));
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns the index of the first element equal to {@code o}, or -1 if there is none.
+     * Only the elements that compare as equal to {@code o} are checked.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int indexOf(Object o) {
+        if (o == null) {
+            return -1;
+        }
+        try {
+            E element = (E) o;
+            return indexOfMatch(element, element::equals);
+        } catch (ClassCastException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+            {
+                pushLeftSpine(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                pushLeftSpine(node.right);
+                return node.element;
+            }
+
+            private void pushLeftSpine(Node<E> node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns an unmodifiable view of this list as a set, for lists that hold no two equal elements.
+     */
+    public Set<E> asSet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<E> iterator() {
+                return PersistentSortedList.this.iterator();
+            }
+
+            @Override
+            public int size() {
+                return PersistentSortedList.this.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return PersistentSortedList.this.contains(o);
+            }
+        };
+    }
+
+    /**
+     * Returns the index of the first element that compares as equal to {@code element} and satisfies
+     * {@code isMatch}, or -1 if there is none.
+     */
+    public int indexOfMatch(E element, Predicate<? super E> isMatch) {
+        requireNonNull(isMatch);
+        for (int index = countBefore(element, false); index < size(); index++) {
+            E candidate = get(index);
+            if (comparator.compare(candidate, element) != 0) {
+                break;
+            }
+            if (isMatch.test(candidate)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index at which {@code element} is placed by {@link #with(Object)}.
+     */
+    public int indexForInsertion(E element) {
+        requireNonNull(element);
+        return countBefore(element, true);
+    }
+
+    /**
+     * Returns this list with {@code element} added after the elements that compare as equal to it.
+     */
+    public PersistentSortedList<E> with(E element) {
+        requireNonNull(element);
+        return new PersistentSortedList<>(comparator, insert(root, indexForInsertion(element), element));
+    }
+
+    /**
+     * Returns this list without the element at {@code index}.
+     */
+    public PersistentSortedList<E> without(int index) {
+        get(index);
+        return new PersistentSortedList<>(comparator, remove(root, index));
+    }
+
+    /**
+     * Returns this list with the element at {@code index} replaced by {@code element}. If the two compare as
+     * equal, {@code element} takes the same index; otherwise it is placed as by {@link #with(Object)}.
+     */
+    public PersistentSortedList<E> withReplaced(int index, E element) {
+        requireNonNull(element);
+        if (comparator.compare(get(index), element) == 0) {
+            return new PersistentSortedList<>(comparator, replace(root, index, element));
+        }
+        return without(index).with(element);
+    }
+
+    /**
+     * Returns the number of elements that come before {@code element}, or that compare as equal to it if
+     * {@code isEqualBefore} is true.
+     */
+    private int countBefore(E element, boolean isEqualBefore) {
+        int count = 0;
+        Node<E> node = root;
+        while (node != null) {
+            int result = comparator.compare(node.element, element);
+            if (result < 0 || (result == 0 && isEqualBefore)) {
+                count += sizeOf(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    private static <E> int sizeOf(Node<E> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <E> int heightOf(Node<E> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Returns a balanced tree of {@code sorted[from, to)}.
+     */
+    private static <E> Node<E> build(List<E> sorted, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(sorted.get(middle), build(sorted, from, middle), build(sorted, middle + 1, to));
+    }
+
+    /**
+     * Returns {@code node} with {@code element} inserted at {@code index} of its subtree.
+     */
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.element, insert(node.left, index, element), node.right);
+        }
+        return balance(node.element, node.left, insert(node.right, index - leftSize - 1, element));
+    }
+
+    /**
+     * Returns {@code node} without the element at {@code index} of its subtree.
+     */
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.element, remove(node.left, index), node.right);
+        }
+        if (index > leftSize) {
+            return balance(node.element, node.left, remove(node.right, index - leftSize - 1));
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.element, node.left, remove(node.right, 0));
+    }
+
+    /**
+     * Returns {@code node} with the element at {@code index} of its subtree replaced by {@code element}.
+     */
+    private static <E> Node<E> replace(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.element, replace(node.left, index, element), node.right);
+        }
+        if (index > leftSize) {
+            return new Node<>(node.element, node.left, replace(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(element, node.left, node.right);
+    }
+
+    /**
+     * Returns a node holding {@code element} over {@code left} and {@code right}, rotated so that the heights of its
+     * subtrees differ by at most one. The heights of {@code left} and {@code right} differ by at most two.
+     */
+    private static <E> Node<E> balance(E element, Node<E> left, Node<E> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.element, left.left, new Node<>(element, left.right, right));
+            }
+            return new Node<>(left.right.element, new Node<>(left.element, left.left, left.right.left),
+                new Node<>(element, left.right.right, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(right.element, new Node<>(element, left, right.left), right.right);
+            }
+            return new Node<>(right.left.element, new Node<>(element, left, right.left.left),
+                new Node<>(right.element, right.left.right, right.right));
+        }
+        return new Node<>(element, left, right);
+    }
+
+    /**
+     * An immutable node of the tree.
+     */
+    private static class Node<E> {
+        private final E element;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(E element, Node<E> left, Node<E> right) {
+            this.element = element;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.algobase.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList} that can additionally report in-place changes to its
+ * elements. Listeners such as {@code FilteredList}, {@code SortedList} and list views receive a single update
+ * change covering every refreshed position, without the elements being replaced. Several modifications can also be
+ * reported together in one change.
+ */
+public class RefreshableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> backingList = new ArrayList<>();
+
+    /**
+     * Notifies listeners that the elements at {@code indices} have been modified in place.
+     * All indices are reported in one change.
+     */
+    public void refresh(Collection<Integer> indices) {
+        requireNonNull(indices);
+        if (indices.isEmpty()) {
+            return;
+        }
+        beginChange();
+        for (int index : indices) {
+            nextUpdate(index);
+        }
+        endChange();
+    }
+
+    /**
+     * Runs {@code changes}, which may modify this list, and notifies listeners of all of its modifications in one
+     * change.
+     */
+    public void changeAtOnce(Runnable changes) {
+        requireNonNull(changes);
+        beginChange();
+        try {
+            changes.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return backingList.get(index);
+    }
+
+    @Override
+    public int size() {
+        return backingList.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        backingList.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return backingList.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return backingList.remove(index);
+    }
+}
@@ -16,6 +16,7 @@ import seedu.algobase.model.problem.Description;
 import seedu.algobase.model.problem.Difficulty;
 import seedu.algobase.model.problem.Name;
 import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.problem.ProblemValuePool;
 import seedu.algobase.model.problem.Remark;
 import seedu.algobase.model.problem.Source;
 import seedu.algobase.model.problem.WebLink;
@@ -163,7 +164,7 @@ class JsonAdaptedProblem {
             throw new IllegalValueException(Author.MESSAGE_CONSTRAINTS);
         }
 
-        return new Author(author);
+        return ProblemValuePool.getAuthor(author);
     }
 
     /**
@@ -237,7 +238,7 @@ class JsonAdaptedProblem {
             throw new IllegalValueException(Difficulty.MESSAGE_CONSTRAINTS);
         }
 
-        return new Difficulty(difficulty);
+        return ProblemValuePool.getDifficulty(difficulty);
     }
 
     /**
@@ -289,6 +290,6 @@ class JsonAdaptedProblem {
             throw new IllegalValueException(Source.MESSAGE_CONSTRAINTS);
         }
 
-        return new Source(source);
+        return ProblemValuePool.getSource(source);
     }
 }
@@ -3,6 +3,7 @@ package seedu.algobase.ui;
 import java.net.URL;
 import java.util.ResourceBundle;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
@@ -18,6 +19,7 @@ public class FindRuleCard extends UiPart<Region> {
 
     private static final String FXML = "FindRuleListCard.fxml";
     private static final String DEFAULT_PREDICATE = "No restriction.";
+    private static final String MATCH_COUNT_FORMAT = "%d problem(s)";
 
     final ProblemSearchRule findRule;
 
@@ -43,8 +45,10 @@ public class FindRuleCard extends UiPart<Region> {
     private Label source;
     @FXML
     private Label tag;
+    @FXML
+    private Label matchCount;
 
-    public FindRuleCard(ProblemSearchRule findRule, int displayedIndex) {
+    public FindRuleCard(ProblemSearchRule findRule, int displayedIndex, ReadOnlyIntegerProperty findRuleMatchCount) {
         super(FXML);
         this.findRule = findRule;
         id.setText(displayedIndex + ". ");
@@ -106,6 +110,7 @@ public class FindRuleCard extends UiPart<Region> {
         tag.setWrapText(true);
         tag.setTextAlignment(TextAlignment.JUSTIFY);
 
+        matchCount.textProperty().bind(findRuleMatchCount.asString(MATCH_COUNT_FORMAT));
     }
 
     /**
@@ -130,6 +135,8 @@ public class FindRuleCard extends UiPart<Region> {
         assert source != null
                 : "fx:id=\"source\" was not injected: check your FXML file 'FindRuleListCard.fxml'.";
         assert tag != null : "fx:id=\"tag\" was not injected: check your FXML file 'FindRuleListCard.fxml'.";
+        assert matchCount != null
+                : "fx:id=\"matchCount\" was not injected: check your FXML file 'FindRuleListCard.fxml'.";
     }
 
     @Override
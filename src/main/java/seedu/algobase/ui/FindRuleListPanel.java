@@ -1,7 +1,9 @@
 package seedu.algobase.ui;
 
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -20,10 +22,11 @@ public class FindRuleListPanel extends UiPart<Region> {
     @FXML
     private ListView<ProblemSearchRule> findRuleListView;
 
-    public FindRuleListPanel(ObservableList<ProblemSearchRule> findRuleList) {
+    public FindRuleListPanel(ObservableList<ProblemSearchRule> findRuleList,
+                             Function<ProblemSearchRule, ReadOnlyIntegerProperty> matchCounts) {
         super(FXML);
         findRuleListView.setItems(findRuleList);
-        findRuleListView.setCellFactory(listView -> new FindRuleListViewCell());
+        findRuleListView.setCellFactory(listView -> new FindRuleListViewCell(matchCounts));
     }
 
     /**
@@ -31,6 +34,12 @@ public class FindRuleListPanel extends UiPart<Region> {
      * using a {@code FindRuleCard}.
      */
     static class FindRuleListViewCell extends ListCell<ProblemSearchRule> {
+        private final Function<ProblemSearchRule, ReadOnlyIntegerProperty> matchCounts;
+
+        FindRuleListViewCell(Function<ProblemSearchRule, ReadOnlyIntegerProperty> matchCounts) {
+            this.matchCounts = matchCounts;
+        }
+
         @Override
         protected void updateItem(ProblemSearchRule item, boolean empty) {
             super.updateItem(item, empty);
@@ -39,7 +48,7 @@ public class FindRuleListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new FindRuleCard(item, getIndex() + 1).getRoot());
+                setGraphic(new FindRuleCard(item, getIndex() + 1, matchCounts.apply(item)).getRoot());
             }
         }
     }
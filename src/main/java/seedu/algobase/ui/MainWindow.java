@@ -159,7 +159,7 @@ public class MainWindow extends UiPart<Stage> {
             this::executeUiAction
         );
         tagListPanel = new TagListPanel(logic.getProcessedTagList());
-        findRuleListPanel = new FindRuleListPanel(logic.getProcessedFindRuleList());
+        findRuleListPanel = new FindRuleListPanel(logic.getProcessedFindRuleList(), logic::getFindRuleMatchCount);
         DisplayTab problemListPanelTab = new DisplayTab(ModelType.PROBLEM.getTabName(), problemListPanel);
         DisplayTab tagListPanelTab = new DisplayTab(ModelType.TAG.getTabName(), tagListPanel);
         DisplayTab planListPanelTab = new DisplayTab(ModelType.PLAN.getTabName(), planListPanel);
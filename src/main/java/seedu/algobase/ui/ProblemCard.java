@@ -3,6 +3,7 @@ package seedu.algobase.ui;
 import java.util.Comparator;
 import java.util.logging.Logger;
 
+import javafx.beans.binding.Bindings;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -21,6 +22,7 @@ import seedu.algobase.model.problem.Problem;
 import seedu.algobase.model.problem.Remark;
 import seedu.algobase.model.problem.Source;
 import seedu.algobase.model.problem.WebLink;
+import seedu.algobase.model.tag.Tag;
 import seedu.algobase.ui.action.UiActionDetails;
 import seedu.algobase.ui.action.UiActionExecutor;
 import seedu.algobase.ui.action.UiActionType;
@@ -142,10 +144,11 @@ public class ProblemCard extends UiPart<Region> {
         source.setTextAlignment(TextAlignment.JUSTIFY);
 
         problem.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
+                .sorted(Comparator.comparing(Tag::getName))
                 .forEach(tag -> {
-                    Label l = new Label(tag.tagName);
-                    l.setStyle("-fx-background-color: " + tag.getColor() + ";");
+                    Label l = new Label();
+                    l.textProperty().bind(tag.nameProperty());
+                    l.styleProperty().bind(Bindings.concat("-fx-background-color: ", tag.colorProperty(), ";"));
                     tags.getChildren().add(l);
                 });
         this.addMouseClickListener();
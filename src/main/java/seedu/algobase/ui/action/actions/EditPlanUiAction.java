@@ -1,7 +1,6 @@
 package seedu.algobase.ui.action.actions;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.algobase.model.Model.PREDICATE_SHOW_ALL_PLANS;
 import static seedu.algobase.model.searchrule.plansearchrule.TimeRange.ORDER_CONSTRAINTS;
 import static seedu.algobase.model.searchrule.plansearchrule.TimeRange.isValidRange;
 
@@ -77,7 +76,6 @@ public class EditPlanUiAction extends UiAction {
         }
 
         model.setPlan(planToEdit, editedPlan);
-        model.updateFilteredPlanList(PREDICATE_SHOW_ALL_PLANS);
         return new UiActionResult(
             true,
             Optional.of(String.format(MESSAGE_EDIT_PLAN_SUCCESS, editedPlan.getPlanName()))
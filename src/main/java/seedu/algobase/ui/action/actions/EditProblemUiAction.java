@@ -1,7 +1,6 @@
 package seedu.algobase.ui.action.actions;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.algobase.model.Model.PREDICATE_SHOW_ALL_PROBLEMS;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -83,8 +82,6 @@ public class EditProblemUiAction extends UiAction {
                 }
             }
         }
-
-        model.updateFilteredProblemList(PREDICATE_SHOW_ALL_PROBLEMS);
         return new UiActionResult(
             true,
             Optional.of(String.format(MESSAGE_EDIT_PROBLEM_SUCCESS, editedProblem.getName()))
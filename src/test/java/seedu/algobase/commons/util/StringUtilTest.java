@@ -1,10 +1,12 @@
 package seedu.algobase.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.algobase.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +125,17 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toFoldedWordSet --------------------------------------
+
+    @Test
+    public void toFoldedWordSet_matchesContainsWordIgnoreCase() {
+        String sentence = "  Quick  SORT in\tO(n log n) ";
+        for (String word : Arrays.asList("quick", "Sort", "IN", "o(N", "n", "LOG", "sorting")) {
+            assertEquals(StringUtil.containsWordIgnoreCase(sentence, word),
+                StringUtil.toFoldedWordSet(sentence).contains(StringUtil.foldCase(word)), word);
+        }
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,5 +1,7 @@
 package seedu.algobase.integration;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.algobase.integration.IntegrationTestUtil.getTempFilePath;
 
 import java.nio.file.Path;
@@ -23,13 +25,14 @@ public class EditTagCommandIntegrationTest {
     @TempDir
     public Path testFolder;
 
+    private ReadOnlyAlgoBase sampleAlgoBase;
     private StorageManager storageManager;
     private ModelManager modelManager;
     private LogicManager logicManager;
 
     @BeforeEach
     public void setup() {
-        ReadOnlyAlgoBase sampleAlgoBase = SampleDataUtil.getSampleAlgoBase();
+        sampleAlgoBase = SampleDataUtil.getSampleAlgoBase();
         JsonAlgoBaseStorage algoBaseStorage = new JsonAlgoBaseStorage(getTempFilePath(testFolder, "ab"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath(testFolder, "prefs"));
         storageManager = new StorageManager(algoBaseStorage, userPrefsStorage);
@@ -49,4 +52,15 @@ public class EditTagCommandIntegrationTest {
         logicManager.execute("edittag 1 c/TEAL");
         logicManager.execute("edittag 1 c/DEFAULT");
     }
+
+    @Test
+    public void edittag_copiedAlgoBase_originalUnchanged() throws CommandException, ParseException {
+        String originalName = sampleAlgoBase.getTagList().get(0).getName();
+        logicManager.execute("edittag 1 t/edited c/RED");
+        assertEquals("edited", modelManager.getAlgoBase().getTagList().get(0).getName());
+        assertEquals(originalName, sampleAlgoBase.getTagList().get(0).getName());
+        assertTrue(modelManager.getAlgoBase().getProblemList().stream()
+            .noneMatch(problem -> problem.hasTagNamed(originalName)));
+        assertTrue(sampleAlgoBase.getProblemList().stream().noneMatch(problem -> problem.hasTagNamed("edited")));
+    }
 }
@@ -2,12 +2,14 @@ package seedu.algobase.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.algobase.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.algobase.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.algobase.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.algobase.testutil.TypicalIndexes.INDEX_SECOND;
 import static seedu.algobase.testutil.TypicalProblemSearchRules.getTypicalAlgoBase;
 
+import java.util.Collections;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -15,12 +17,17 @@ import org.junit.jupiter.api.Test;
 import seedu.algobase.commons.core.Messages;
 import seedu.algobase.commons.core.index.Index;
 import seedu.algobase.logic.CommandHistory;
+import seedu.algobase.logic.commands.exceptions.CommandException;
 import seedu.algobase.logic.commands.findrule.ApplyCommand;
 import seedu.algobase.model.Model;
 import seedu.algobase.model.ModelManager;
 import seedu.algobase.model.UserPrefs;
 import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.searchrule.problemsearchrule.Keyword;
+import seedu.algobase.model.searchrule.problemsearchrule.Name;
+import seedu.algobase.model.searchrule.problemsearchrule.NameContainsKeywordsPredicate;
 import seedu.algobase.model.searchrule.problemsearchrule.ProblemSearchRule;
+import seedu.algobase.testutil.ProblemBuilder;
 
 class ApplyCommandTest {
 
@@ -50,6 +57,21 @@ class ApplyCommandTest {
         assertCommandFailure(command, model, commandHistory, Messages.MESSAGE_INVALID_FIND_RULE_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_ruleWithUnmatchableKeyword_laterProblemAdded() throws CommandException {
+        ProblemSearchRule spacedKeyword = new ProblemSearchRule(new Name("Spaced keyword"),
+            new NameContainsKeywordsPredicate(Collections.singletonList(new Keyword("quick sort"))),
+            null, null, null, null, null);
+        model.addFindRule(spacedKeyword);
+        new ApplyCommand(Index.fromOneBased(model.getFilteredFindRuleList().size())).execute(model, commandHistory);
+        assertEquals(0, model.getFilteredProblemList().size());
+
+        Problem added = new ProblemBuilder().withName("Quick sort again").build();
+        model.addProblem(added);
+        assertTrue(model.hasProblem(added));
+        assertEquals(0, model.getFilteredProblemList().size());
+    }
+
     @Test
     void equals() {
         ApplyCommand applyFirstCommand = new ApplyCommand(INDEX_FIRST);
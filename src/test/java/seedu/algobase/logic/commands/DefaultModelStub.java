@@ -1,7 +1,6 @@
 package seedu.algobase.logic.commands;
 
 import java.nio.file.Path;
-import java.util.Comparator;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -15,9 +14,12 @@ import seedu.algobase.model.ReadOnlyUserPrefs;
 import seedu.algobase.model.gui.GuiState;
 import seedu.algobase.model.plan.Plan;
 import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.problem.ProblemListPage;
+import seedu.algobase.model.problem.ProblemOrder;
 import seedu.algobase.model.searchrule.problemsearchrule.ProblemSearchRule;
 import seedu.algobase.model.tag.Tag;
 import seedu.algobase.model.task.Task;
+import seedu.algobase.model.util.CompressedBitmap;
 
 /**
  * A default model stub that have all of the methods failing.
@@ -108,7 +110,43 @@ public class DefaultModelStub implements Model {
     }
 
     @Override
-    public void updateSortedProblemList(Comparator<Problem> problemComparator) {
+    public void updateFilteredProblemList(Predicate<Problem> predicate, CompressedBitmap matchingOrdinals) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredProblemList(Predicate<Problem> predicate, CompressedBitmap matchingOrdinals,
+            ProblemListPage page) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateSortedProblemList(ProblemOrder problemOrder) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateSortedProblemList(ProblemOrder problemOrder, ProblemListPage page) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateProblemListPage(ProblemListPage page) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ProblemListPage getProblemListPage() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int getProblemListPageCount() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int getFilteredProblemCount() {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -191,11 +229,6 @@ public class DefaultModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
-    @Override
-    public void setTags(Tag target, Tag editedTag) {
-        throw new AssertionError("This method should not be called.");
-    }
-
     @Override
     public ObservableList<Tag> getFilteredTagList() {
         throw new AssertionError("This method should not be called.");
@@ -213,6 +246,26 @@ public class DefaultModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addTask(Plan plan, Task task) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void removeTask(Plan plan, Task task) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateTask(Plan plan, Task target, Task updatedTask) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void moveTask(Plan fromPlan, Plan toPlan, Task task) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setCurrentPlan(Plan plan) {
         throw new AssertionError("This method should not be called.");
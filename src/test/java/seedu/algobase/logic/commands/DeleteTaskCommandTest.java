@@ -5,6 +5,7 @@ import static seedu.algobase.logic.commands.CommandTestUtil.assertCommandFailure
 import static seedu.algobase.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.algobase.testutil.TypicalAlgoBase.getTypicalAlgoBase;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -57,7 +58,7 @@ class DeleteTaskCommandTest {
         Index planIndex = Index.fromZeroBased(0);
         Plan plan = model.getFilteredPlanList().get(planIndex.getZeroBased());
         Index taskIndex = Index.fromZeroBased(0);
-        List<Task> taskList = plan.getTaskList();
+        List<Task> taskList = new ArrayList<>(plan.getTaskList());
         Task task = taskList.get(taskIndex.getZeroBased());
 
         DeleteTaskCommand.DeleteTaskDescriptor descriptor =
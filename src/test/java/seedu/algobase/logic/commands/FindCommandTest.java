@@ -35,6 +35,7 @@ import seedu.algobase.model.searchrule.problemsearchrule.SourceMatchesKeywordPre
 import seedu.algobase.model.searchrule.problemsearchrule.TagIncludesKeywordsPredicate;
 import seedu.algobase.model.tag.Tag;
 import seedu.algobase.testutil.FindProblemDescriptorBuilder;
+import seedu.algobase.testutil.ProblemBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -48,7 +49,7 @@ class FindCommandTest {
     private static final String VALID_SOURCE_KEYWORD = QUICK_SORT.getSource().value;
     private static final List<String> VALID_TAG_STRING_LIST =
         Arrays.stream(QUICK_SORT.getTags().toArray(new Tag[] {}))
-            .map(tag -> tag.tagName)
+            .map(tag -> tag.getName())
             .collect(Collectors.toList());
     private Model model = new ModelManager(getTypicalAlgoBase(), new UserPrefs());
     private Model expectedModel = new ModelManager(getTypicalAlgoBase(), new UserPrefs());
@@ -157,6 +158,23 @@ class FindCommandTest {
         assertQuickSortAsTheOnlyResult(descriptor, predicate, expectedMessage);
     }
 
+    @Test
+    public void execute_problemsAddedAfterFind_filterKeptAndMatchesShown() {
+        AuthorMatchesKeywordPredicate predicate =
+            new AuthorMatchesKeywordPredicate(new Keyword(VALID_AUTHOR_KEYWORD));
+        new FindCommand(new FindProblemDescriptorBuilder().withAuthorPredicate(predicate).build())
+            .execute(model, commandHistory);
+
+        Problem matching = new ProblemBuilder(QUICK_SORT).withName(QUICK_SORT.getName().fullName + " again")
+            .withWeblink("https://open.kattis.com/3").build();
+        Problem notMatching = new ProblemBuilder(QUICK_SORT).withName("Merge sort").withAuthor("Nobody")
+            .withWeblink("https://open.kattis.com/4").build();
+        model.addProblem(notMatching);
+        model.addProblem(matching);
+
+        assertEquals(Arrays.asList(QUICK_SORT, matching), model.getFilteredProblemList());
+    }
+
     @Test
     public void equals() {
         DifficultyIsInRangePredicate firstPredicate =
@@ -1,17 +1,20 @@
 package seedu.algobase.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.algobase.logic.commands.problem.SortCommand.MESSAGE_SUCCESS;
 import static seedu.algobase.testutil.TypicalAlgoBase.getTypicalAlgoBase;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
+import seedu.algobase.commons.core.Messages;
 import seedu.algobase.logic.CommandHistory;
 import seedu.algobase.logic.commands.exceptions.CommandException;
 import seedu.algobase.logic.commands.problem.SortCommand;
@@ -19,6 +22,9 @@ import seedu.algobase.model.Model;
 import seedu.algobase.model.ModelManager;
 import seedu.algobase.model.UserPrefs;
 import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.problem.ProblemListPage;
+import seedu.algobase.model.problem.ProblemOrder;
+import seedu.algobase.model.problem.ProblemOrder.Field;
 
 class SortCommandTest {
     private static final CommandHistory EMPTY_COMMAND_HISTORY = new CommandHistory();
@@ -29,15 +35,15 @@ class SortCommandTest {
     /**
      * Executes the given {@code command}, confirms that <br>
      * - the returned {@link CommandResult} matches {@code expectedCommandResult} <br>
-     * - the {@code filteredProblemList} matches the original list sorted with {@code comparator}
-     * in content and order.
+     * - the {@code filteredProblemList} matches the problems in the algobase, in the order of the algobase, stably
+     * sorted in {@code order}, in content and order.
      */
-    private void assertSuccessfullySorted(SortCommand command, Comparator<Problem> comparator) throws CommandException {
+    private void assertSuccessfullySorted(SortCommand command, ProblemOrder order) throws CommandException {
         String expectedMessage = MESSAGE_SUCCESS;
         CommandResult actualResult = command.execute(model, commandHistory);
         assertEquals(new CommandResult(expectedMessage), actualResult);
-        List<Problem> expectedList = new ArrayList<>(expectedModel.getFilteredProblemList());
-        expectedList.sort(comparator);
+        List<Problem> expectedList = new ArrayList<>(expectedModel.getAlgoBase().getProblemList());
+        expectedList.sort(order.toComparator());
         ObservableList<Problem> actualList = model.getFilteredProblemList();
         assertEquals(expectedList.size(), actualList.size());
         for (int i = 0; i < expectedList.size(); i++) {
@@ -58,60 +64,116 @@ class SortCommandTest {
     @Test
     public void execute_byNameAscend_success() throws CommandException {
         SortCommand command = new SortCommand(SortCommand.SortingMethod.byName, SortCommand.SortingOrder.ascend);
-        assertSuccessfullySorted(command, SortCommand.PROBLEM_NAME_COMPARATOR);
+        assertSuccessfullySorted(command, ProblemOrder.by(Field.NAME, true));
     }
 
     @Test
     public void execute_byAuthorAscend_success() throws CommandException {
         SortCommand command = new SortCommand(SortCommand.SortingMethod.byAuthor, SortCommand.SortingOrder.ascend);
-        assertSuccessfullySorted(command, SortCommand.PROBLEM_AUTHOR_COMPARATOR);
+        assertSuccessfullySorted(command, ProblemOrder.by(Field.AUTHOR, true));
     }
 
     @Test
     public void execute_byWebLinkAscend_success() throws CommandException {
         SortCommand command = new SortCommand(SortCommand.SortingMethod.byWebLink, SortCommand.SortingOrder.ascend);
-        assertSuccessfullySorted(command, SortCommand.PROBLEM_WEB_LINK_COMPARATOR);
+        assertSuccessfullySorted(command, ProblemOrder.by(Field.WEB_LINK, true));
     }
 
     @Test
     public void execute_byDifficultyAscend_success() throws CommandException {
         SortCommand command = new SortCommand(SortCommand.SortingMethod.byDifficulty, SortCommand.SortingOrder.ascend);
-        assertSuccessfullySorted(command, SortCommand.PROBLEM_DIFFICULTY_COMPARATOR);
+        assertSuccessfullySorted(command, ProblemOrder.by(Field.DIFFICULTY, true));
     }
 
     @Test
     public void execute_bySourceAscend_success() throws CommandException {
         SortCommand command = new SortCommand(SortCommand.SortingMethod.bySource, SortCommand.SortingOrder.ascend);
-        assertSuccessfullySorted(command, SortCommand.PROBLEM_SOURCE_COMPARATOR);
+        assertSuccessfullySorted(command, ProblemOrder.by(Field.SOURCE, true));
     }
 
     @Test
     public void execute_byNameDescend_success() throws CommandException {
         SortCommand command = new SortCommand(SortCommand.SortingMethod.byName, SortCommand.SortingOrder.descend);
-        assertSuccessfullySorted(command, SortCommand.PROBLEM_NAME_COMPARATOR.reversed());
+        assertSuccessfullySorted(command, ProblemOrder.by(Field.NAME, false));
     }
 
     @Test
     public void execute_byAuthorDescend_success() throws CommandException {
         SortCommand command = new SortCommand(SortCommand.SortingMethod.byAuthor, SortCommand.SortingOrder.descend);
-        assertSuccessfullySorted(command, SortCommand.PROBLEM_AUTHOR_COMPARATOR.reversed());
+        assertSuccessfullySorted(command, ProblemOrder.by(Field.AUTHOR, false));
     }
 
     @Test
     public void execute_byWebLinkDescend_success() throws CommandException {
         SortCommand command = new SortCommand(SortCommand.SortingMethod.byWebLink, SortCommand.SortingOrder.descend);
-        assertSuccessfullySorted(command, SortCommand.PROBLEM_WEB_LINK_COMPARATOR.reversed());
+        assertSuccessfullySorted(command, ProblemOrder.by(Field.WEB_LINK, false));
     }
 
     @Test
     public void execute_byDifficultyDescend_success() throws CommandException {
         SortCommand command = new SortCommand(SortCommand.SortingMethod.byDifficulty, SortCommand.SortingOrder.descend);
-        assertSuccessfullySorted(command, SortCommand.PROBLEM_DIFFICULTY_COMPARATOR.reversed());
+        assertSuccessfullySorted(command, ProblemOrder.by(Field.DIFFICULTY, false));
     }
 
     @Test
     public void execute_bySourceDescend_success() throws CommandException {
         SortCommand command = new SortCommand(SortCommand.SortingMethod.bySource, SortCommand.SortingOrder.descend);
-        assertSuccessfullySorted(command, SortCommand.PROBLEM_SOURCE_COMPARATOR.reversed());
+        assertSuccessfullySorted(command, ProblemOrder.by(Field.SOURCE, false));
+    }
+
+    @Test
+    public void constructor_mismatchedOrders_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SortCommand(
+            Arrays.asList(SortCommand.SortingMethod.byName, SortCommand.SortingMethod.bySource),
+            Arrays.asList(SortCommand.SortingOrder.ascend)));
+    }
+
+    @Test
+    public void execute_byDifficultyDescendThenNameAscend_success() throws CommandException {
+        SortCommand command = new SortCommand(
+            Arrays.asList(SortCommand.SortingMethod.byDifficulty, SortCommand.SortingMethod.byName),
+            Arrays.asList(SortCommand.SortingOrder.descend, SortCommand.SortingOrder.ascend));
+        assertSuccessfullySorted(command, ProblemOrder.by(Field.DIFFICULTY, false).then(Field.NAME, true));
+    }
+
+    @Test
+    public void execute_bySourceThenAuthorThenName_success() throws CommandException {
+        SortCommand command = new SortCommand(
+            Arrays.asList(SortCommand.SortingMethod.bySource, SortCommand.SortingMethod.byAuthor,
+                SortCommand.SortingMethod.byName),
+            Arrays.asList(SortCommand.SortingOrder.ascend, SortCommand.SortingOrder.descend,
+                SortCommand.SortingOrder.ascend));
+        assertSuccessfullySorted(command,
+            ProblemOrder.by(Field.SOURCE, true).then(Field.AUTHOR, false).then(Field.NAME, true));
+    }
+
+    @Test
+    public void execute_withPage_showsOnlyThePage() throws CommandException {
+        SortCommand command = new SortCommand(
+            Arrays.asList(SortCommand.SortingMethod.byDifficulty), Arrays.asList(SortCommand.SortingOrder.descend),
+            new ProblemListPage(2, 2));
+        String expectedMessage = MESSAGE_SUCCESS + " "
+            + String.format(Messages.MESSAGE_PROBLEMS_PAGE_OVERVIEW, 2, 2, 3);
+        assertEquals(new CommandResult(expectedMessage), command.execute(model, commandHistory));
+
+        List<Problem> expectedList = new ArrayList<>(expectedModel.getAlgoBase().getProblemList());
+        expectedList.sort(ProblemOrder.by(Field.DIFFICULTY, false).toComparator());
+        assertEquals(expectedList.subList(2, 3), model.getFilteredProblemList());
+    }
+
+    @Test
+    public void equals() {
+        SortCommand byName = new SortCommand(SortCommand.SortingMethod.byName, SortCommand.SortingOrder.ascend);
+        SortCommand byNameThenSource = new SortCommand(
+            Arrays.asList(SortCommand.SortingMethod.byName, SortCommand.SortingMethod.bySource),
+            Arrays.asList(SortCommand.SortingOrder.ascend, SortCommand.SortingOrder.ascend));
+
+        assertTrue(byName.equals(byName));
+        assertTrue(byName.equals(new SortCommand(SortCommand.SortingMethod.byName, SortCommand.SortingOrder.ascend)));
+        assertFalse(byName.equals(byNameThenSource));
+        assertFalse(byName.equals(new SortCommand(SortCommand.SortingMethod.byName, SortCommand.SortingOrder.descend)));
+        assertFalse(byName.equals(null));
+        assertFalse(byName.equals(new SortCommand(Arrays.asList(SortCommand.SortingMethod.byName),
+            Arrays.asList(SortCommand.SortingOrder.ascend), new ProblemListPage(1, 20))));
     }
 }
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.algobase.logic.commands.problem.FindCommand;
 import seedu.algobase.logic.parser.problem.FindCommandParser;
+import seedu.algobase.model.problem.ProblemListPage;
 import seedu.algobase.model.searchrule.problemsearchrule.FindProblemDescriptor;
 import seedu.algobase.model.searchrule.problemsearchrule.Keyword;
 import seedu.algobase.model.searchrule.problemsearchrule.NameContainsKeywordsPredicate;
@@ -44,4 +45,14 @@ class FindCommandParserTest {
         assertParseSuccess(findCommandParser, COMMAND_WITH_DUPLICATE_PARAM, expectedCommand);
     }
 
+    @Test
+    void parse_withPage_showsOnlyThePage() {
+        FindProblemDescriptor expectedDescriptor = new FindProblemDescriptor();
+        expectedDescriptor.setNamePredicate(
+            new NameContainsKeywordsPredicate(Collections.singletonList(new Keyword(NAME_KEYWORD))));
+        assertParseSuccess(findCommandParser, " n/" + NAME_KEYWORD + " limit/5 page/2",
+            new FindCommand(expectedDescriptor, new ProblemListPage(2, 5)));
+        assertParseFailure(findCommandParser, " n/" + NAME_KEYWORD + " page/-1", ProblemListPage.MESSAGE_CONSTRAINTS);
+    }
+
 }
@@ -0,0 +1,71 @@
+package seedu.algobase.logic.parser;
+
+import static seedu.algobase.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.algobase.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.algobase.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.algobase.logic.commands.problem.SortCommand;
+import seedu.algobase.logic.commands.problem.SortCommand.SortingMethod;
+import seedu.algobase.logic.commands.problem.SortCommand.SortingOrder;
+import seedu.algobase.logic.parser.problem.SortCommandParser;
+import seedu.algobase.model.problem.ProblemListPage;
+
+class SortCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+        String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    void parse_singleMethod_defaultsToAscend() {
+        assertParseSuccess(parser, " m/name", new SortCommand(SortingMethod.byName, SortingOrder.ascend));
+        assertParseSuccess(parser, " m/author ord/descend",
+            new SortCommand(SortingMethod.byAuthor, SortingOrder.descend));
+    }
+
+    @Test
+    void parse_multipleMethods_sortsByEachInTurn() {
+        assertParseSuccess(parser, " m/difficulty m/name", new SortCommand(
+            Arrays.asList(SortingMethod.byDifficulty, SortingMethod.byName),
+            Arrays.asList(SortingOrder.ascend, SortingOrder.ascend)));
+        // a single order applies to every method
+        assertParseSuccess(parser, " m/difficulty m/name ord/descend", new SortCommand(
+            Arrays.asList(SortingMethod.byDifficulty, SortingMethod.byName),
+            Arrays.asList(SortingOrder.descend, SortingOrder.descend)));
+        // orders pair up with methods by position
+        assertParseSuccess(parser, " m/difficulty m/name ord/descend ord/ascend", new SortCommand(
+            Arrays.asList(SortingMethod.byDifficulty, SortingMethod.byName),
+            Arrays.asList(SortingOrder.descend, SortingOrder.ascend)));
+    }
+
+    @Test
+    void parse_withPage_showsOnlyThePage() {
+        List<SortingMethod> byName = Collections.singletonList(SortingMethod.byName);
+        List<SortingOrder> ascend = Collections.singletonList(SortingOrder.ascend);
+        assertParseSuccess(parser, " m/name limit/5",
+            new SortCommand(byName, ascend, new ProblemListPage(1, 5)));
+        assertParseSuccess(parser, " m/name page/3",
+            new SortCommand(byName, ascend, new ProblemListPage(3, ProblemListPage.DEFAULT_PAGE_SIZE)));
+        assertParseSuccess(parser, " m/name limit/10 page/2",
+            new SortCommand(byName, ascend, new ProblemListPage(2, 10)));
+        assertParseFailure(parser, " m/name limit/0", ProblemListPage.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " m/name page/two", ProblemListPage.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    void parse_invalidArguments_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " ord/ascend", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " m/name m/author m/source ord/ascend ord/descend", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " m/name m/level", SortingMethod.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " m/name ord/upward", SortingOrder.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " m/name m/author m/name", SortCommand.MESSAGE_DUPLICATE_SORTING_METHOD);
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.algobase.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.algobase.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class IdTest {
+
+    @Test
+    void setGenerator_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Id.setGenerator(null));
+    }
+
+    @Test
+    void generateId_monotonicGenerator_uniqueUuidStrings() {
+        Set<String> values = new HashSet<>();
+        for (int i = 0; i < 10000; i++) {
+            String value = Id.MONOTONIC_GENERATOR.generate().getIdValue();
+            assertEquals(value, UUID.fromString(value).toString());
+            values.add(value);
+        }
+        assertEquals(10000, values.size());
+    }
+
+    @Test
+    void generateId_monotonicGenerator_laterIdsCompareGreater() {
+        UUID earlier = UUID.fromString(Id.MONOTONIC_GENERATOR.generate().getIdValue());
+        UUID later = UUID.fromString(Id.MONOTONIC_GENERATOR.generate().getIdValue());
+        assertTrue(earlier.compareTo(later) < 0);
+    }
+
+    @Test
+    void generateId_customGenerator_usesGenerator() {
+        Id.Generator previous = Id.getGenerator();
+        try {
+            Id.setGenerator(() -> new Id("fixed"));
+            assertEquals(new Id("fixed"), Id.generateId());
+        } finally {
+            Id.setGenerator(previous);
+        }
+    }
+
+    @Test
+    void getIdValue_uuidValue_sameTextForm() {
+        String value = UUID.randomUUID().toString();
+        Id id = new Id(value);
+        assertEquals(value, id.getIdValue());
+        assertEquals(new Id(value), id);
+        assertEquals(new Id(value).hashCode(), id.hashCode());
+        UUID uuid = UUID.fromString(value);
+        assertEquals(id, new Id(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+    }
+
+    @Test
+    void getIdValue_legacyValue_sameTextForm() {
+        for (String value : new String[] {"123", "", "F4A1D1E2-0000-4000-8000-000000000000",
+            "f4a1d1e2-0000-4000-8000-00000000000", "f4a1d1e2_0000-4000-8000-000000000000"}) {
+            Id id = new Id(value);
+            assertEquals(value, id.getIdValue());
+            assertEquals(new Id(value), id);
+        }
+        assertNotEquals(new Id("F4A1D1E2-0000-4000-8000-000000000000"),
+            new Id("f4a1d1e2-0000-4000-8000-000000000000"));
+    }
+}
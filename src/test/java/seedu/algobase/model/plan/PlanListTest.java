@@ -0,0 +1,223 @@
+package seedu.algobase.model.plan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.algobase.testutil.Assert.assertThrows;
+import static seedu.algobase.testutil.TypicalTasks.FACTORIAL_TASK;
+import static seedu.algobase.testutil.TypicalTasks.QUICK_SORT_TASK;
+import static seedu.algobase.testutil.TypicalTasks.TWO_SUM_TASK;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.algobase.model.plan.exceptions.PlanNotFoundException;
+import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.problem.Remark;
+import seedu.algobase.model.task.Task;
+import seedu.algobase.model.task.exceptions.DuplicateTaskException;
+import seedu.algobase.model.task.exceptions.TaskNotFoundException;
+
+public class PlanListTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2019, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2019, 12, 31);
+
+    private final PlanList planList = new PlanList();
+    /** The position, removed size and added size of each change to the task list. */
+    private final List<List<Integer>> changes = new ArrayList<>();
+    private Plan firstPlan;
+    private Plan secondPlan;
+
+    @BeforeEach
+    public void setUp() {
+        firstPlan = new Plan(new PlanName("First"), new PlanDescription("First plan"), START_DATE, END_DATE,
+            Set.of(QUICK_SORT_TASK, FACTORIAL_TASK));
+        secondPlan = new Plan(new PlanName("Second"), new PlanDescription("Second plan"), START_DATE, END_DATE,
+            Set.of());
+        planList.setPlans(List.of(firstPlan, secondPlan));
+        planList.getUnmodifiableObservableTaskList().addListener((ListChangeListener<Task>) change -> {
+            while (change.next()) {
+                changes.add(List.of(change.getFrom(), change.getRemovedSize(), change.getAddedSize()));
+            }
+        });
+    }
+
+    @Test
+    public void addTask_currentPlan_singleAddition() {
+        planList.addTask(firstPlan, TWO_SUM_TASK);
+
+        Plan updatedPlan = planList.findById(firstPlan.getId()).get();
+        assertEquals(List.of(FACTORIAL_TASK, QUICK_SORT_TASK, TWO_SUM_TASK), updatedPlan.getTaskList());
+        assertEquals(updatedPlan.getTaskList(), planList.getUnmodifiableObservableTaskList());
+        assertSingleChange(2, 0, 1);
+        assertEquals(3, planList.getCurrentTaskCount().get());
+        assertThrows(DuplicateTaskException.class, () -> planList.addTask(updatedPlan, TWO_SUM_TASK));
+    }
+
+    @Test
+    public void addTask_newTaskForSameProblem_throwsDuplicateTaskException() {
+        Task sameProblemTask = new Task(QUICK_SORT_TASK.getProblem(), END_DATE, true);
+        assertTrue(firstPlan.containsTask(sameProblemTask));
+        assertThrows(DuplicateTaskException.class, () -> planList.addTask(firstPlan, sameProblemTask));
+    }
+
+    @Test
+    public void addTask_laterPlan_replacedInItsSlot() {
+        planList.addTask(secondPlan, TWO_SUM_TASK);
+
+        Plan updatedSecondPlan = planList.findById(secondPlan.getId()).get();
+        assertEquals(List.of(firstPlan, updatedSecondPlan), planList.asUnmodifiableObservableList());
+        assertEquals(List.of(TWO_SUM_TASK), updatedSecondPlan.getTaskList());
+        assertEquals("Second", planList.getCurrentPlan().get());
+    }
+
+    @Test
+    public void updateTask_currentPlan_singleReplacement() {
+        Task doneTask = FACTORIAL_TASK.updateStatus(true);
+        planList.updateTask(firstPlan, FACTORIAL_TASK, doneTask);
+
+        Plan updatedPlan = planList.findById(firstPlan.getId()).get();
+        assertTrue(updatedPlan.getTaskList().get(0).getIsDone());
+        assertEquals(updatedPlan.getTaskList(), planList.getUnmodifiableObservableTaskList());
+        assertSingleChange(0, 1, 1);
+        assertEquals(1, planList.getCurrentDoneCount().get());
+    }
+
+    @Test
+    public void taskChanges_currentPlan_countsFollowTasks() {
+        Task doneTask = FACTORIAL_TASK.updateStatus(true);
+        planList.updateTask(firstPlan, FACTORIAL_TASK, doneTask);
+        planList.addTask(planList.findById(firstPlan.getId()).get(), TWO_SUM_TASK.updateStatus(true));
+        assertCounts(2, 1);
+
+        planList.removeTask(planList.findById(firstPlan.getId()).get(), doneTask);
+        assertCounts(1, 1);
+
+        Plan updatedPlan = planList.findById(firstPlan.getId()).get();
+        planList.updateTask(updatedPlan, QUICK_SORT_TASK, QUICK_SORT_TASK.updateStatus(true));
+        assertCounts(2, 0);
+    }
+
+    @Test
+    public void removeTask_currentPlan_singleRemoval() {
+        planList.removeTask(firstPlan, QUICK_SORT_TASK);
+
+        Plan updatedPlan = planList.findById(firstPlan.getId()).get();
+        assertEquals(List.of(FACTORIAL_TASK), updatedPlan.getTaskList());
+        assertEquals(updatedPlan.getTaskList(), planList.getUnmodifiableObservableTaskList());
+        assertSingleChange(1, 1, 0);
+        assertFalse(planList.containsProblem(QUICK_SORT_TASK.getProblem()));
+        assertThrows(TaskNotFoundException.class, () -> planList.removeTask(updatedPlan, QUICK_SORT_TASK));
+    }
+
+    @Test
+    public void moveTask_betweenPlans_destinationBecomesCurrent() {
+        planList.moveTask(firstPlan, secondPlan, QUICK_SORT_TASK);
+
+        assertEquals(List.of(FACTORIAL_TASK), planList.findById(firstPlan.getId()).get().getTaskList());
+        Plan updatedSecondPlan = planList.findById(secondPlan.getId()).get();
+        assertEquals(List.of(QUICK_SORT_TASK), updatedSecondPlan.getTaskList());
+        assertEquals("Second", planList.getCurrentPlan().get());
+        assertEquals(updatedSecondPlan.getTaskList(), planList.getUnmodifiableObservableTaskList());
+        assertTrue(planList.containsProblem(QUICK_SORT_TASK.getProblem()));
+        assertThrows(DuplicateTaskException.class, () ->
+            planList.moveTask(updatedSecondPlan, updatedSecondPlan, QUICK_SORT_TASK));
+    }
+
+    @Test
+    public void setPlanAndRemove_afterEarlierRemoval_findPositionById() {
+        Plan thirdPlan = new Plan(new PlanName("Third"), new PlanDescription("Third plan"), START_DATE, END_DATE,
+            Set.of());
+        planList.add(thirdPlan);
+        planList.remove(firstPlan);
+        Plan renamedThirdPlan = new Plan(thirdPlan.getId(), new PlanName("Renamed"), thirdPlan.getPlanDescription(),
+            START_DATE, END_DATE, Set.of());
+        planList.setPlan(thirdPlan, renamedThirdPlan);
+        assertEquals(List.of(secondPlan, renamedThirdPlan), planList.asUnmodifiableObservableList());
+
+        planList.remove(secondPlan);
+        assertEquals(List.of(renamedThirdPlan), planList.asUnmodifiableObservableList());
+        assertThrows(PlanNotFoundException.class, () -> planList.remove(firstPlan));
+    }
+
+    @Test
+    public void containsProblem_planChanges_reverseIndexFollows() {
+        assertTrue(planList.containsProblem(QUICK_SORT_TASK.getProblem()));
+        assertFalse(planList.containsProblem(TWO_SUM_TASK.getProblem()));
+
+        Plan thirdPlan = new Plan(new PlanName("Third"), new PlanDescription("Third plan"), START_DATE, END_DATE,
+            Set.of(TWO_SUM_TASK));
+        planList.add(thirdPlan);
+        assertTrue(planList.containsProblem(TWO_SUM_TASK.getProblem()));
+
+        planList.setPlan(firstPlan, firstPlan.updateTasks(Set.of(FACTORIAL_TASK)));
+        assertFalse(planList.containsProblem(QUICK_SORT_TASK.getProblem()));
+        assertTrue(planList.containsProblem(FACTORIAL_TASK.getProblem()));
+
+        planList.remove(thirdPlan);
+        assertFalse(planList.containsProblem(TWO_SUM_TASK.getProblem()));
+
+        planList.setPlans(List.of(thirdPlan));
+        assertTrue(planList.containsProblem(TWO_SUM_TASK.getProblem()));
+        assertFalse(planList.containsProblem(FACTORIAL_TASK.getProblem()));
+    }
+
+    @Test
+    public void removeProblem_usedByPlans_removedFromThoseAndCurrentPlanKept() {
+        Plan updatedSecondPlan = secondPlan.updateTasks(Set.of(QUICK_SORT_TASK, TWO_SUM_TASK));
+        planList.setPlan(secondPlan, updatedSecondPlan);
+        assertEquals("Second", planList.getCurrentPlan().get());
+
+        planList.removeProblem(QUICK_SORT_TASK.getProblem());
+
+        assertFalse(planList.containsProblem(QUICK_SORT_TASK.getProblem()));
+        assertEquals(List.of(FACTORIAL_TASK), planList.findById(firstPlan.getId()).get().getTaskList());
+        assertEquals(List.of(TWO_SUM_TASK), planList.findById(secondPlan.getId()).get().getTaskList());
+        assertEquals("Second", planList.getCurrentPlan().get());
+        assertEquals(List.of(TWO_SUM_TASK), planList.getUnmodifiableObservableTaskList());
+        assertEquals(List.of(planList.findById(firstPlan.getId()).get(), planList.findById(secondPlan.getId()).get()),
+            planList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void updateProblem_usedByPlan_tasksFollowAndCurrentPlanKept() {
+        planList.setCurrentPlan(1);
+        Problem problem = FACTORIAL_TASK.getProblem();
+        Problem editedProblem = new Problem(problem.getId(), problem.getName(), problem.getAuthor(),
+            problem.getWebLink(), problem.getDescription(), problem.getTags(), problem.getDifficulty(),
+            new Remark("Edited"), problem.getSource());
+
+        planList.updateProblem(problem, editedProblem);
+
+        Plan updatedFirstPlan = planList.findById(firstPlan.getId()).get();
+        assertEquals(editedProblem, updatedFirstPlan.getTaskList().get(0).getProblem());
+        assertTrue(planList.containsProblem(editedProblem));
+        assertEquals(updatedFirstPlan, planList.asUnmodifiableObservableList().get(0));
+        assertEquals("Second", planList.getCurrentPlan().get());
+        assertTrue(planList.getUnmodifiableObservableTaskList().isEmpty());
+    }
+
+    /**
+     * Asserts that the current plan has {@code doneCount} done and {@code undoneCount} undone tasks.
+     */
+    private void assertCounts(int doneCount, int undoneCount) {
+        assertEquals(doneCount, planList.getCurrentDoneCount().get());
+        assertEquals(undoneCount, planList.getCurrentUndoneCount().get());
+        assertEquals(doneCount + undoneCount, planList.getCurrentTaskCount().get());
+    }
+
+    /**
+     * Asserts that the task list was changed once, with {@code removedSize} tasks removed and {@code addedSize} tasks
+     * added at {@code from}.
+     */
+    private void assertSingleChange(int from, int removedSize, int addedSize) {
+        assertEquals(List.of(List.of(from, removedSize, addedSize)), changes);
+    }
+}
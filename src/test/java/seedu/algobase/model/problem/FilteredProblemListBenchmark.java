@@ -0,0 +1,75 @@
+package seedu.algobase.model.problem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import seedu.algobase.model.Id;
+import seedu.algobase.model.util.CompressedBitmap;
+import seedu.algobase.testutil.ProblemBuilder;
+
+/**
+ * Compares filtering the sorted problem list from index bitmaps through {@code FilteredProblemList} against
+ * setting a predicate on a {@code FilteredList}, which tests every problem.
+ * Run with {@code gradlew benchmark}.
+ */
+@EnabledIfSystemProperty(named = "algobase.benchmark", matches = "true")
+class FilteredProblemListBenchmark {
+
+    private static final int PROBLEM_COUNT = 100000;
+    private static final int ROUNDS = 10;
+    private static final String[] TAG_NAMES = {"Sorting", "Graph", "DP", "Greedy", "Math", "Strings"};
+    private static final Comparator<Problem> NAME_ORDER = ProblemOrder.by(ProblemOrder.Field.NAME, true).toComparator();
+
+    @Test
+    void setFilter_manyProblems_fasterThanFilteredList() {
+        List<Problem> problemList = new ArrayList<>();
+        for (int i = 0; i < PROBLEM_COUNT; i++) {
+            problemList.add(new ProblemBuilder().withName("Problem " + i)
+                .withTags(TAG_NAMES[i % TAG_NAMES.length], TAG_NAMES[(i / 7) % TAG_NAMES.length]).build());
+        }
+        UniqueProblemList problems = new UniqueProblemList();
+        problems.setProblems(problemList);
+
+        FilteredList<Problem> filteredList = new FilteredList<>(problems.asUnmodifiableObservableList());
+        SortedList<Problem> sortedFilteredList = new SortedList<>(filteredList, NAME_ORDER);
+        FilteredProblemList filteredProblems = new FilteredProblemList(problems);
+        SortedList<Problem> sortedFilteredProblems =
+            new SortedList<>(filteredProblems, NAME_ORDER);
+
+        long filteredListNanos = Long.MAX_VALUE;
+        long filteredProblemsNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            String tagName = TAG_NAMES[round % TAG_NAMES.length];
+            CompressedBitmap ordinals = problems.getOrdinalsWithAllTags(Collections.singletonList(tagName));
+            Predicate<Problem> predicate = problem -> problem.hasTagNamed(tagName);
+
+            long start = System.nanoTime();
+            Set<Id> ids = new HashSet<>();
+            ordinals.forEach(ordinal -> ids.add(problems.getProblemByOrdinal(ordinal).getId()));
+            filteredList.setPredicate(problem -> ids.contains(problem.getId()));
+            filteredListNanos = Math.min(filteredListNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            filteredProblems.setFilter(predicate, ordinals);
+            filteredProblemsNanos = Math.min(filteredProblemsNanos, System.nanoTime() - start);
+
+            assertEquals(sortedFilteredList, sortedFilteredProblems);
+        }
+        System.out.printf("Tag filter over %d sorted problems: %.2f ms with FilteredList, %.2f ms from bitmaps%n",
+            PROBLEM_COUNT, filteredListNanos / 1e6, filteredProblemsNanos / 1e6);
+        assertTrue(filteredProblemsNanos < filteredListNanos);
+    }
+}
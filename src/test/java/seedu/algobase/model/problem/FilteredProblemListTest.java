@@ -0,0 +1,114 @@
+package seedu.algobase.model.problem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.algobase.testutil.TypicalProblems.FACTORIAL;
+import static seedu.algobase.testutil.TypicalProblems.QUICK_SORT;
+import static seedu.algobase.testutil.TypicalProblems.TWO_SUM;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.algobase.model.tag.Tag;
+import seedu.algobase.model.util.CompressedBitmap;
+import seedu.algobase.testutil.ProblemBuilder;
+import seedu.algobase.testutil.TypicalProblems;
+
+public class FilteredProblemListTest {
+
+    private static final Predicate<Problem> SORTING_TAG = problem -> problem.hasTagNamed("Sorting");
+
+    private final UniqueProblemList problems = new UniqueProblemList();
+    private final FilteredProblemList filteredProblems = new FilteredProblemList(problems);
+    private final List<Problem> mirror = new ArrayList<>();
+
+    public FilteredProblemListTest() {
+        filteredProblems.addListener(this::applyToMirror);
+    }
+
+    @Test
+    public void setFilter_fromBitmap_matchesPredicate() {
+        problems.setProblems(TypicalProblems.getTypicalProblems());
+        assertView(problem -> true);
+
+        CompressedBitmap sorting = new CompressedBitmap();
+        for (Problem problem : problems) {
+            if (SORTING_TAG.test(problem)) {
+                sorting.add(problems.getOrdinal(problem));
+            }
+        }
+        filteredProblems.setFilter(SORTING_TAG, sorting);
+        assertView(SORTING_TAG);
+
+        filteredProblems.setPredicate(problem -> false);
+        assertView(problem -> false);
+        filteredProblems.setFilter(problem -> true, problems.getOrdinals());
+        assertView(problem -> true);
+    }
+
+    @Test
+    public void problemsChanged_matchesPredicate() {
+        problems.setProblems(TypicalProblems.getTypicalProblems());
+        filteredProblems.setPredicate(SORTING_TAG);
+        assertView(SORTING_TAG);
+
+        Problem quickSortAgain = new ProblemBuilder(TWO_SUM).withName("Quick sort again")
+            .withWeblink("https://open.kattis.com/3").withTags("Sorting").build();
+        problems.add(quickSortAgain);
+        problems.add(new ProblemBuilder(TWO_SUM).withName("Two sum again").withWeblink("https://open.kattis.com/4")
+            .build());
+        assertView(SORTING_TAG);
+
+        problems.setProblem(QUICK_SORT, new ProblemBuilder(QUICK_SORT).withTags().build());
+        problems.setProblem(TWO_SUM, new ProblemBuilder(TWO_SUM).withTags("Sorting").build());
+        assertView(SORTING_TAG);
+
+        problems.remove(FACTORIAL);
+        problems.remove(quickSortAgain);
+        assertView(SORTING_TAG);
+
+        problems.removeTagFromProblems(new Tag("Sorting"));
+        assertView(SORTING_TAG);
+
+        problems.setProblems(TypicalProblems.getTypicalProblems());
+        assertView(SORTING_TAG);
+    }
+
+    @Test
+    public void setFilter_sameMatches_noChange() {
+        problems.setProblems(TypicalProblems.getTypicalProblems());
+        List<Integer> changeCount = new ArrayList<>();
+        filteredProblems.addListener((ListChangeListener<Problem>) change -> changeCount.add(1));
+        filteredProblems.setFilter(problem -> true, problems.getOrdinals());
+        assertEquals(Collections.emptyList(), changeCount);
+    }
+
+    /**
+     * Asserts that the view holds the problems in the list that match {@code predicate}, in the order of the list,
+     * and that its change events replay to the same contents.
+     */
+    private void assertView(Predicate<Problem> predicate) {
+        List<Problem> expected = problems.asUnmodifiableObservableList().stream()
+            .filter(predicate).collect(Collectors.toList());
+        assertEquals(expected, filteredProblems);
+        assertEquals(expected, mirror);
+    }
+
+    /**
+     * Applies the additions and removals in {@code change} to the mirror of the view.
+     */
+    private void applyToMirror(ListChangeListener.Change<? extends Problem> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                continue;
+            }
+            mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+            mirror.addAll(change.getFrom(), change.getAddedSubList());
+        }
+    }
+}
@@ -50,4 +50,11 @@ class NameContainsKeywordsPredicateTest {
         assertEquals(true, predicate.test(QUICK_SORT));
     }
 
+    @Test
+    public void test_keywordsInDifferentCase_returnTrue() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(
+            Collections.singletonList(new Keyword(QUICK_SORT.getName().fullName.split(" ")[0].toUpperCase())));
+        assertTrue(predicate.test(QUICK_SORT));
+    }
+
 }
@@ -1,9 +1,13 @@
 package seedu.algobase.model.problem;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.algobase.testutil.Assert.assertThrows;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 class NameTest {
@@ -37,4 +41,10 @@ class NameTest {
         assertTrue(Name.isValidName("2nd MST")); // combination of alphanumeric characters and spaces
     }
 
+    @Test
+    public void getWords_caseFoldedAndCached() {
+        Name name = new Name("Dominating  SET dominating");
+        assertEquals(Set.of("dominating", "set"), name.getWords());
+        assertSame(name.getWords(), name.getWords());
+    }
 }
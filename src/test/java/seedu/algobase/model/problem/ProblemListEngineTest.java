@@ -0,0 +1,69 @@
+package seedu.algobase.model.problem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.algobase.commons.core.Config;
+import seedu.algobase.model.problem.ProblemOrder.Field;
+import seedu.algobase.model.util.CompressedBitmap;
+import seedu.algobase.testutil.ProblemBuilder;
+
+public class ProblemListEngineTest {
+
+    private static final int PROBLEM_COUNT = 300;
+
+    private final UniqueProblemList problems = new UniqueProblemList();
+
+    @BeforeEach
+    public void setUp() {
+        Config config = new Config();
+        config.setParallelProblemThreshold(0);
+        ProblemListEngine.init(config);
+        List<Problem> problemList = new ArrayList<>();
+        for (int i = 0; i < PROBLEM_COUNT; i++) {
+            problemList.add(new ProblemBuilder().withName("Problem " + i).withAuthor("Author " + (i % 7))
+                .withDifficulty((1 + i % 4) + "." + (i % 10)).withSource("Source" + (i % 5)).build());
+        }
+        problems.setProblems(problemList);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ProblemListEngine.init(new Config());
+    }
+
+    @Test
+    public void match_parallel_sameAsTestingInOrder() {
+        Predicate<Problem> predicate = problem -> problem.getAuthor().value.equals("Author 3")
+            || problem.getDifficulty().value > 4.5;
+        CompressedBitmap expected = new CompressedBitmap();
+        problems.getOrdinals().forEach(ordinal -> {
+            if (predicate.test(problems.getProblemByOrdinal(ordinal))) {
+                expected.add(ordinal);
+            }
+        });
+        assertEquals(expected, ProblemListEngine.match(problems.getOrdinals(), problems::getProblemByOrdinal,
+            predicate));
+    }
+
+    @Test
+    public void sort_parallel_sameAsStableSort() {
+        FilteredProblemList filteredProblems = new FilteredProblemList(problems);
+        Predicate<Problem> notEasy = problem -> problem.getDifficulty().value > 1.5;
+        filteredProblems.setPredicate(notEasy);
+        ProblemOrder order = ProblemOrder.by(Field.SOURCE, true).then(Field.DIFFICULTY, false);
+        SortedProblemList sortedProblems = new SortedProblemList(filteredProblems, order);
+
+        List<Problem> expected = problems.asUnmodifiableObservableList().stream().filter(notEasy)
+            .sorted(order.toComparator()).collect(Collectors.toList());
+        assertEquals(expected, sortedProblems);
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.algobase.model.problem;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Compares the heap held by the authors, sources and difficulties of a bank of problems read from storage when each
+ * problem creates its own values against taking them from {@code ProblemValuePool}.
+ * Run with {@code gradlew benchmark}.
+ */
+@EnabledIfSystemProperty(named = "algobase.benchmark", matches = "true")
+class ProblemValuePoolBenchmark {
+
+    private static final int PROBLEM_COUNT = 100000;
+    private static final int AUTHOR_COUNT = 500;
+    private static final String[] SOURCES = {"LeetCode", "Codeforces", "Kattis", "HackerRank", "AtCoder"};
+
+    @Test
+    void getValues_largeBank_lessHeapThanNewValues() {
+        List<String[]> rows = getRandomRows();
+        long unpooledBytes = getRetainedBytes(rows, row ->
+            new Object[] {new Author(row[0]), new Source(row[1]), new Difficulty(row[2])});
+        long pooledBytes = getRetainedBytes(rows, row -> new Object[] {ProblemValuePool.getAuthor(row[0]),
+            ProblemValuePool.getSource(row[1]), ProblemValuePool.getDifficulty(row[2])});
+
+        String format = "Authors, sources and difficulties of %d problems: %.1f MB as new values, %.1f MB pooled, "
+            + "%.1f MB saved%n";
+        long savedBytes = unpooledBytes - pooledBytes;
+        System.out.printf(format, PROBLEM_COUNT, unpooledBytes / 1e6, pooledBytes / 1e6, savedBytes / 1e6);
+        assertTrue(pooledBytes < unpooledBytes);
+    }
+
+    /**
+     * Returns the author, source and difficulty strings of {@code PROBLEM_COUNT} problems. Every string is a
+     * separate instance, as it would be when read from a JSON file.
+     */
+    private static List<String[]> getRandomRows() {
+        Random random = new Random(PROBLEM_COUNT);
+        List<String[]> rows = new ArrayList<>();
+        for (int i = 0; i < PROBLEM_COUNT; i++) {
+            rows.add(new String[] {
+                new String("Author " + random.nextInt(AUTHOR_COUNT)),
+                new String(SOURCES[random.nextInt(SOURCES.length)]),
+                String.format("%d.%d", 1 + random.nextInt(4), random.nextInt(10))
+            });
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the growth of the heap, after garbage collection, from holding the results of converting a fresh copy
+     * of every row with {@code toValues}. The copies stand in for the strings read from storage, and are kept only
+     * where the values refer to them.
+     */
+    private static long getRetainedBytes(List<String[]> rows, Function<String[], Object[]> toValues) {
+        long before = getUsedBytes();
+        List<String[]> copies = new ArrayList<>();
+        rows.forEach(row -> copies.add(new String[] {new String(row[0]), new String(row[1]), new String(row[2])}));
+        List<Object[]> values = new ArrayList<>(copies.size());
+        for (int i = 0; i < copies.size(); i++) {
+            values.add(toValues.apply(copies.get(i)));
+            copies.set(i, null);
+        }
+        long after = getUsedBytes();
+        assertTrue(values.size() == rows.size() && copies.size() == rows.size());
+        return after - before;
+    }
+
+    private static long getUsedBytes() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.algobase.model.problem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.algobase.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ProblemValuePoolTest {
+
+    @Test
+    public void getAuthor_equalValues_sameInstance() {
+        Author author = ProblemValuePool.getAuthor(new String("Steven Halim"));
+        assertSame(author, ProblemValuePool.getAuthor(new String("Steven Halim")));
+        assertEquals(new Author("Steven Halim"), author);
+        assertThrows(IllegalArgumentException.class, () -> ProblemValuePool.getAuthor(" "));
+        assertThrows(NullPointerException.class, () -> ProblemValuePool.getAuthor(null));
+    }
+
+    @Test
+    public void getSource_equalValues_sameInstance() {
+        Source source = ProblemValuePool.getSource(new String("Codeforces"));
+        assertSame(source, ProblemValuePool.getSource(new String("Codeforces")));
+        assertEquals(new Source("Codeforces"), source);
+        assertThrows(IllegalArgumentException.class, () -> ProblemValuePool.getSource("Code forces"));
+    }
+
+    @Test
+    public void getDifficulty_equalNumbers_sameInstance() {
+        Difficulty difficulty = ProblemValuePool.getDifficulty("2.5");
+        assertSame(difficulty, ProblemValuePool.getDifficulty("2.50"));
+        assertEquals(new Difficulty("2.5"), difficulty);
+        assertThrows(IllegalArgumentException.class, () -> ProblemValuePool.getDifficulty("0.0"));
+        assertThrows(IllegalArgumentException.class, () -> ProblemValuePool.getDifficulty("hard"));
+    }
+}
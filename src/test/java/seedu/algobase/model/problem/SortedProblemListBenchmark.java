@@ -0,0 +1,118 @@
+package seedu.algobase.model.problem;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import javafx.collections.transformation.SortedList;
+import seedu.algobase.model.problem.ProblemOrder.Field;
+import seedu.algobase.testutil.ProblemBuilder;
+
+/**
+ * Compares sorting the problem list by several fields from the cached sort keys through {@code SortedProblemList}
+ * against a {@code SortedList} whose comparator compares the value objects of the problems, and picking the first
+ * page of problems against sorting every problem.
+ * Run with {@code gradlew benchmark}.
+ */
+@EnabledIfSystemProperty(named = "algobase.benchmark", matches = "true")
+class SortedProblemListBenchmark {
+
+    private static final int PROBLEM_COUNT = 100000;
+    private static final int ROUNDS = 10;
+    private static final String[] SOURCES = {"LeetCode", "Codeforces", "Kattis", "HackerRank", "AtCoder"};
+
+    @Test
+    void setOrder_manyProblems_fasterThanSortedList() {
+        UniqueProblemList problems = new UniqueProblemList();
+        problems.setProblems(getRandomProblems());
+        FilteredProblemList filteredProblems = new FilteredProblemList(problems);
+
+        ProblemOrder byName = ProblemOrder.by(Field.NAME, true);
+        ProblemOrder[] orders = {
+            ProblemOrder.by(Field.DIFFICULTY, false).then(Field.NAME, true),
+            ProblemOrder.by(Field.SOURCE, true).then(Field.AUTHOR, true).then(Field.DIFFICULTY, false)
+                .then(Field.NAME, true)
+        };
+        Comparator<Problem> valueByName = Comparator.comparing(Problem::getName);
+        List<Comparator<Problem>> valueComparators = List.of(
+            Comparator.comparing(Problem::getDifficulty).reversed().thenComparing(Problem::getName),
+            Comparator.comparing(Problem::getSource).thenComparing(Problem::getAuthor)
+                .thenComparing(Comparator.comparing(Problem::getDifficulty).reversed())
+                .thenComparing(Problem::getName));
+
+        SortedList<Problem> sortedList = new SortedList<>(filteredProblems, valueByName);
+        SortedProblemList sortedProblems = new SortedProblemList(filteredProblems, byName);
+
+        long sortedListNanos = Long.MAX_VALUE;
+        long sortedProblemsNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < orders.length; i++) {
+                long start = System.nanoTime();
+                sortedList.setComparator(valueComparators.get(i));
+                sortedListNanos = Math.min(sortedListNanos, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                sortedProblems.setOrder(orders[i]);
+                sortedProblemsNanos = Math.min(sortedProblemsNanos, System.nanoTime() - start);
+
+                assertTrue(sortedList.equals(sortedProblems));
+                sortedList.setComparator(valueByName);
+                sortedProblems.setOrder(byName);
+            }
+        }
+        System.out.printf("Multi-field sort of %d problems: %.2f ms with SortedList, %.2f ms from sort keys%n",
+            PROBLEM_COUNT, sortedListNanos / 1e6, sortedProblemsNanos / 1e6);
+        assertTrue(sortedProblemsNanos < sortedListNanos);
+    }
+
+    @Test
+    void setOrder_firstPage_fasterThanSortingEveryProblem() {
+        UniqueProblemList problems = new UniqueProblemList();
+        problems.setProblems(getRandomProblems());
+        FilteredProblemList filteredProblems = new FilteredProblemList(problems);
+        ProblemOrder byName = ProblemOrder.by(Field.NAME, true);
+        ProblemOrder byDifficulty = ProblemOrder.by(Field.DIFFICULTY, false).then(Field.NAME, true);
+        SortedProblemList allProblems = new SortedProblemList(filteredProblems, byName);
+        SortedProblemList firstPage = new SortedProblemList(filteredProblems, byName);
+        firstPage.setPage(new ProblemListPage(1, ProblemListPage.DEFAULT_PAGE_SIZE));
+
+        long allProblemsNanos = Long.MAX_VALUE;
+        long firstPageNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            allProblems.setOrder(byDifficulty);
+            allProblemsNanos = Math.min(allProblemsNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            firstPage.setOrder(byDifficulty);
+            firstPageNanos = Math.min(firstPageNanos, System.nanoTime() - start);
+
+            assertTrue(allProblems.subList(0, ProblemListPage.DEFAULT_PAGE_SIZE).equals(firstPage));
+            allProblems.setOrder(byName);
+            firstPage.setOrder(byName);
+        }
+        System.out.printf("First %d of %d problems: %.2f ms sorting every problem, %.2f ms with a bounded heap%n",
+            ProblemListPage.DEFAULT_PAGE_SIZE, PROBLEM_COUNT, allProblemsNanos / 1e6, firstPageNanos / 1e6);
+        assertTrue(firstPageNanos < allProblemsNanos);
+    }
+
+    /**
+     * Returns {@code PROBLEM_COUNT} problems with random authors, difficulties and sources.
+     */
+    private static List<Problem> getRandomProblems() {
+        Random random = new Random(PROBLEM_COUNT);
+        List<Problem> problemList = new ArrayList<>();
+        for (int i = 0; i < PROBLEM_COUNT; i++) {
+            problemList.add(new ProblemBuilder().withName("Problem " + i).withAuthor("Author " + random.nextInt(500))
+                .withDifficulty(String.format("%d.%d", 1 + random.nextInt(4), random.nextInt(10)))
+                .withSource(SOURCES[random.nextInt(SOURCES.length)]).build());
+        }
+        return problemList;
+    }
+}
@@ -0,0 +1,226 @@
+package seedu.algobase.model.problem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.algobase.testutil.TypicalProblems.FACTORIAL;
+import static seedu.algobase.testutil.TypicalProblems.QUICK_SORT;
+import static seedu.algobase.testutil.TypicalProblems.TWO_SUM;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.algobase.model.problem.ProblemOrder.Field;
+import seedu.algobase.model.tag.Tag;
+import seedu.algobase.testutil.ProblemBuilder;
+import seedu.algobase.testutil.TypicalProblems;
+
+public class SortedProblemListTest {
+
+    private static final ProblemOrder BY_NAME = ProblemOrder.by(Field.NAME, true);
+    private static final ProblemOrder BY_DIFFICULTY_THEN_NAME =
+        ProblemOrder.by(Field.DIFFICULTY, false).then(Field.NAME, true);
+    private static final ProblemOrder BY_SOURCE_THEN_AUTHOR =
+        ProblemOrder.by(Field.SOURCE, true).then(Field.AUTHOR, false);
+
+    private final UniqueProblemList problems = new UniqueProblemList();
+    private final FilteredProblemList filteredProblems = new FilteredProblemList(problems);
+    private final SortedProblemList sortedProblems = new SortedProblemList(filteredProblems, BY_NAME);
+    private final List<Problem> mirror = new ArrayList<>();
+
+    public SortedProblemListTest() {
+        sortedProblems.addListener(this::applyToMirror);
+    }
+
+    @Test
+    public void setOrder_multipleFields_sortedByEachInTurn() {
+        problems.setProblems(TypicalProblems.getTypicalProblems());
+        problems.add(new ProblemBuilder(TWO_SUM).withName("two sum").withWeblink("https://open.kattis.com/3")
+            .build());
+        assertView(problem -> true, BY_NAME);
+
+        sortedProblems.setOrder(BY_DIFFICULTY_THEN_NAME);
+        assertView(problem -> true, BY_DIFFICULTY_THEN_NAME);
+        sortedProblems.setOrder(BY_SOURCE_THEN_AUTHOR);
+        assertView(problem -> true, BY_SOURCE_THEN_AUTHOR);
+    }
+
+    @Test
+    public void sourceChanged_keptInOrder() {
+        problems.setProblems(TypicalProblems.getTypicalProblems());
+        sortedProblems.setOrder(BY_DIFFICULTY_THEN_NAME);
+        Predicate<Problem> sortingTag = problem -> problem.hasTagNamed("Sorting");
+        filteredProblems.setPredicate(sortingTag);
+        assertView(sortingTag, BY_DIFFICULTY_THEN_NAME);
+
+        Problem quickSortAgain = new ProblemBuilder(QUICK_SORT).withName("Quick sort again")
+            .withWeblink("https://open.kattis.com/3").withDifficulty("1.0").withTags("Sorting").build();
+        problems.add(quickSortAgain);
+        problems.setProblem(TWO_SUM, new ProblemBuilder(TWO_SUM).withTags("Sorting").build());
+        problems.setProblem(QUICK_SORT, new ProblemBuilder(QUICK_SORT).withDifficulty("4.5").build());
+        assertView(sortingTag, BY_DIFFICULTY_THEN_NAME);
+
+        problems.remove(quickSortAgain);
+        problems.removeTagFromProblems(new Tag("Sorting"));
+        assertView(sortingTag, BY_DIFFICULTY_THEN_NAME);
+
+        filteredProblems.setPredicate(problem -> !problem.isSameProblem(FACTORIAL));
+        assertView(problem -> !problem.isSameProblem(FACTORIAL), BY_DIFFICULTY_THEN_NAME);
+
+        problems.setProblems(TypicalProblems.getTypicalProblems());
+        assertView(problem -> !problem.isSameProblem(FACTORIAL), BY_DIFFICULTY_THEN_NAME);
+    }
+
+    @Test
+    public void setPage_pageOfManyProblems_matchesSortedSubList() {
+        problems.setProblems(getNumberedProblems(50));
+        sortedProblems.setOrder(BY_DIFFICULTY_THEN_NAME);
+        ProblemListPage page = new ProblemListPage(2, 7);
+        sortedProblems.setPage(page);
+        assertView(problem -> true, BY_DIFFICULTY_THEN_NAME, page);
+        assertEquals(8, sortedProblems.getPageCount());
+
+        sortedProblems.setOrder(BY_SOURCE_THEN_AUTHOR);
+        assertView(problem -> true, BY_SOURCE_THEN_AUTHOR, page);
+        page = new ProblemListPage(8, 7);
+        sortedProblems.setPage(page);
+        assertView(problem -> true, BY_SOURCE_THEN_AUTHOR, page);
+        page = new ProblemListPage(9, 7);
+        sortedProblems.setPage(page);
+        assertView(problem -> true, BY_SOURCE_THEN_AUTHOR, page);
+
+        sortedProblems.setPage(ProblemListPage.ALL);
+        assertView(problem -> true, BY_SOURCE_THEN_AUTHOR);
+    }
+
+    @Test
+    public void sourceChanged_paged_pageKeptInOrder() {
+        List<Problem> numberedProblems = getNumberedProblems(40);
+        problems.setProblems(numberedProblems);
+        sortedProblems.setOrder(BY_DIFFICULTY_THEN_NAME);
+        ProblemListPage page = new ProblemListPage(2, 5);
+        sortedProblems.setPage(page);
+        Predicate<Problem> notEasy = problem -> problem.getDifficulty().value > 1.0;
+        filteredProblems.setPredicate(notEasy);
+        assertView(notEasy, BY_DIFFICULTY_THEN_NAME, page);
+
+        // Before, on and after the page
+        problems.add(new ProblemBuilder().withName("Hardest").withDifficulty("5.0").build());
+        problems.add(new ProblemBuilder().withName("Easiest").withDifficulty("1.1").build());
+        assertView(notEasy, BY_DIFFICULTY_THEN_NAME, page);
+        for (int i = 0; i < 12; i += 3) {
+            problems.remove(sortedProblems.get(0));
+            assertView(notEasy, BY_DIFFICULTY_THEN_NAME, page);
+        }
+        problems.setProblem(numberedProblems.get(1),
+            new ProblemBuilder(numberedProblems.get(1)).withDifficulty("0.5").build());
+        assertView(notEasy, BY_DIFFICULTY_THEN_NAME, page);
+
+        filteredProblems.setPredicate(problem -> true);
+        assertView(problem -> true, BY_DIFFICULTY_THEN_NAME, page);
+        problems.setProblems(getNumberedProblems(3));
+        assertView(problem -> true, BY_DIFFICULTY_THEN_NAME, page);
+    }
+
+    @Test
+    public void setPage_firstPage_matchesSortedPrefix() {
+        problems.setProblems(getNumberedProblems(60));
+        Predicate<Problem> notEasy = problem -> problem.getDifficulty().value > 1.0;
+        filteredProblems.setPredicate(notEasy);
+        for (int count : new int[] {1, 10, 59, 60}) {
+            SortedProblemList firstPage = new SortedProblemList(filteredProblems, BY_DIFFICULTY_THEN_NAME);
+            firstPage.setPage(new ProblemListPage(1, count));
+            List<Problem> expected = problems.asUnmodifiableObservableList().stream().filter(notEasy)
+                .sorted(BY_DIFFICULTY_THEN_NAME.toComparator()).limit(count).collect(Collectors.toList());
+            assertEquals(expected, firstPage);
+        }
+    }
+
+    @Test
+    public void removeTagFromProblems_fewOrManyTaggedProblems_oneChangeInEachView() {
+        for (int count : new int[] {6, 60}) {
+            List<Problem> numberedProblems = new ArrayList<>();
+            for (Problem problem : getNumberedProblems(count)) {
+                boolean isTagged = numberedProblems.size() % 2 == 0;
+                numberedProblems.add(new ProblemBuilder(problem).withTags(isTagged ? "Sorting" : "Recursion").build());
+            }
+            problems.setProblems(numberedProblems);
+            sortedProblems.setOrder(BY_DIFFICULTY_THEN_NAME);
+            Predicate<Problem> notRecursion = problem -> !problem.hasTagNamed("Recursion");
+            filteredProblems.setPredicate(notRecursion);
+            List<Integer> filteredChanges = new ArrayList<>();
+            List<Integer> sortedChanges = new ArrayList<>();
+            ListChangeListener<Problem> filteredListener = change -> filteredChanges.add(1);
+            ListChangeListener<Problem> sortedListener = change -> sortedChanges.add(1);
+            filteredProblems.addListener(filteredListener);
+            sortedProblems.addListener(sortedListener);
+
+            problems.removeTagFromProblems(new Tag("Sorting"));
+            assertEquals(1, filteredChanges.size());
+            assertEquals(1, sortedChanges.size());
+            assertView(notRecursion, BY_DIFFICULTY_THEN_NAME);
+
+            problems.removeTagFromProblems(new Tag("Recursion"));
+            assertEquals(2, filteredChanges.size());
+            assertEquals(2, sortedChanges.size());
+            assertView(notRecursion, BY_DIFFICULTY_THEN_NAME);
+            filteredProblems.removeListener(filteredListener);
+            sortedProblems.removeListener(sortedListener);
+        }
+    }
+
+    /**
+     * Asserts that the view holds the problems in the list that match {@code predicate}, in the order of the list
+     * stably sorted in {@code order}, and that its change events replay to the same contents.
+     */
+    private void assertView(Predicate<Problem> predicate, ProblemOrder order) {
+        assertView(predicate, order, ProblemListPage.ALL);
+    }
+
+    /**
+     * Asserts that the view holds the problems on {@code page} of the problems in the list that match
+     * {@code predicate}, in the order of the list stably sorted in {@code order}, and that its change events replay
+     * to the same contents.
+     */
+    private void assertView(Predicate<Problem> predicate, ProblemOrder order, ProblemListPage page) {
+        List<Problem> expected = problems.asUnmodifiableObservableList().stream()
+            .filter(predicate).sorted(order.toComparator()).skip(page.getOffset())
+            .limit(page.getPageSize()).collect(Collectors.toList());
+        assertEquals(expected, sortedProblems);
+        assertEquals(expected, mirror);
+    }
+
+    /**
+     * Returns {@code count} distinct problems, with repeating difficulties, sources and authors.
+     */
+    private static List<Problem> getNumberedProblems(int count) {
+        List<Problem> numberedProblems = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            numberedProblems.add(new ProblemBuilder().withName("Problem " + i).withAuthor("Author " + (i % 4))
+                .withDifficulty((1 + i % 4) + "." + (i % 3)).withSource("Source" + (i % 3)).build());
+        }
+        return numberedProblems;
+    }
+
+    /**
+     * Applies the permutations, additions and removals in {@code change} to the mirror of the view.
+     */
+    private void applyToMirror(ListChangeListener.Change<? extends Problem> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Problem> permuted = new ArrayList<>(mirror);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), mirror.get(i));
+                }
+                mirror.clear();
+                mirror.addAll(permuted);
+            } else if (!change.wasUpdated()) {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
@@ -26,7 +26,7 @@ class TagIncludesKeywordsPredicateTest {
         Set<Tag> tags = QUICK_SORT.getTags();
         List<String> tagList = new ArrayList<>();
         for (Tag tag: tags) {
-            tagList.add(tag.tagName);
+            tagList.add(tag.getName());
         }
         TagIncludesKeywordsPredicate predicate =
             new TagIncludesKeywordsPredicate(tagList.stream().map(Keyword::new).collect(Collectors.toList()));
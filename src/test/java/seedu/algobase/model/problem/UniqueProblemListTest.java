@@ -0,0 +1,368 @@
+package seedu.algobase.model.problem;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.algobase.logic.commands.CommandTestUtil.VALID_AUTHOR_FACTORIAL;
+import static seedu.algobase.logic.commands.CommandTestUtil.VALID_AUTHOR_QUICK_SORT;
+import static seedu.algobase.logic.commands.CommandTestUtil.VALID_NAME_QUICK_SORT;
+import static seedu.algobase.logic.commands.CommandTestUtil.VALID_TAG_DIFFICULT;
+import static seedu.algobase.logic.commands.CommandTestUtil.VALID_WEBLINK_FACTORIAL;
+import static seedu.algobase.logic.commands.CommandTestUtil.VALID_WEBLINK_QUICK_SORT;
+import static seedu.algobase.testutil.Assert.assertThrows;
+import static seedu.algobase.testutil.TypicalProblems.FACTORIAL;
+import static seedu.algobase.testutil.TypicalProblems.QUICK_SORT;
+import static seedu.algobase.testutil.TypicalProblems.TWO_SUM;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.algobase.commons.util.StringUtil;
+import seedu.algobase.model.Id;
+import seedu.algobase.model.problem.exceptions.DuplicateProblemException;
+import seedu.algobase.model.problem.exceptions.ProblemNotFoundException;
+import seedu.algobase.model.tag.Tag;
+import seedu.algobase.model.util.CompressedBitmap;
+import seedu.algobase.testutil.ProblemBuilder;
+import seedu.algobase.testutil.TypicalProblems;
+
+public class UniqueProblemListTest {
+
+    /**
+     * Variations of {@code TWO_SUM} that cover every combination of shared and differing identity fields.
+     */
+    private static final List<Problem> CANDIDATES = Arrays.asList(
+        TWO_SUM,
+        QUICK_SORT,
+        FACTORIAL,
+        new ProblemBuilder(TWO_SUM).withRemark("Different remark").build(),
+        new ProblemBuilder(TWO_SUM).withAuthor(VALID_AUTHOR_FACTORIAL).build(),
+        new ProblemBuilder(TWO_SUM).withWeblink(VALID_WEBLINK_FACTORIAL).build(),
+        new ProblemBuilder(TWO_SUM).withAuthor(VALID_AUTHOR_QUICK_SORT).withWeblink(VALID_WEBLINK_QUICK_SORT).build(),
+        new ProblemBuilder(TWO_SUM).withName(VALID_NAME_QUICK_SORT).build(),
+        new ProblemBuilder(QUICK_SORT).withAuthor(VALID_AUTHOR_FACTORIAL).build()
+    );
+
+    @Test
+    public void contains_nullProblem_throwsNullPointerException() {
+        UniqueProblemList uniqueProblemList = new UniqueProblemList();
+        assertThrows(NullPointerException.class, () -> uniqueProblemList.contains(null));
+    }
+
+    @Test
+    public void contains_matchesLinearIsSameProblemScan() {
+        UniqueProblemList uniqueProblemList = new UniqueProblemList();
+        uniqueProblemList.setProblems(TypicalProblems.getTypicalProblems());
+        for (Problem candidate : CANDIDATES) {
+            boolean expected = TypicalProblems.getTypicalProblems().stream().anyMatch(candidate::isSameProblem);
+            assertEquals(expected, uniqueProblemList.contains(candidate), candidate.toString());
+        }
+    }
+
+    @Test
+    public void add_duplicateProblem_throwsDuplicateProblemException() {
+        UniqueProblemList uniqueProblemList = new UniqueProblemList();
+        uniqueProblemList.add(TWO_SUM);
+        Problem sameWebLink = new ProblemBuilder(TWO_SUM).withAuthor(VALID_AUTHOR_FACTORIAL).build();
+        assertThrows(DuplicateProblemException.class, () -> uniqueProblemList.add(sameWebLink));
+    }
+
+    @Test
+    public void remove_existingProblem_problemNoLongerContained() {
+        UniqueProblemList uniqueProblemList = new UniqueProblemList();
+        uniqueProblemList.add(TWO_SUM);
+        uniqueProblemList.remove(TWO_SUM);
+        assertFalse(uniqueProblemList.contains(TWO_SUM));
+        assertDoesNotThrow(() -> uniqueProblemList.add(TWO_SUM));
+    }
+
+    @Test
+    public void remove_matchedById_problemWithSameIdRemoved() {
+        UniqueProblemList uniqueProblemList = new UniqueProblemList();
+        uniqueProblemList.add(TWO_SUM);
+        Problem equalFieldsOtherId = new ProblemBuilder(TWO_SUM).build();
+        assertEquals(TWO_SUM, equalFieldsOtherId);
+        assertThrows(ProblemNotFoundException.class, () -> uniqueProblemList.remove(equalFieldsOtherId));
+
+        Problem sameIdOtherFields = new Problem(TWO_SUM.getId(), TWO_SUM.getName(), TWO_SUM.getAuthor(),
+            TWO_SUM.getWebLink(), TWO_SUM.getDescription(), TWO_SUM.getTags(), TWO_SUM.getDifficulty(),
+            new Remark("Stale copy"), TWO_SUM.getSource());
+        uniqueProblemList.remove(sameIdOtherFields);
+        assertFalse(uniqueProblemList.contains(TWO_SUM));
+    }
+
+    @Test
+    public void setProblemAndRemove_afterEarlierRemoval_findPositionById() {
+        UniqueProblemList uniqueProblemList = new UniqueProblemList();
+        uniqueProblemList.setProblems(List.of(TWO_SUM, QUICK_SORT, FACTORIAL));
+        uniqueProblemList.remove(TWO_SUM);
+        Problem editedFactorial = new ProblemBuilder(FACTORIAL).withRemark("Edited").build();
+        uniqueProblemList.setProblem(FACTORIAL, editedFactorial);
+        assertEquals(List.of(QUICK_SORT, editedFactorial), uniqueProblemList.asUnmodifiableObservableList());
+
+        uniqueProblemList.add(TWO_SUM);
+        uniqueProblemList.remove(editedFactorial);
+        assertEquals(List.of(QUICK_SORT, TWO_SUM), uniqueProblemList.asUnmodifiableObservableList());
+        assertThrows(ProblemNotFoundException.class, () -> uniqueProblemList.remove(FACTORIAL));
+    }
+
+    @Test
+    public void setProblem_editedIdentity_indexFollowsEdit() {
+        UniqueProblemList uniqueProblemList = new UniqueProblemList();
+        uniqueProblemList.add(TWO_SUM);
+        Problem renamed = new ProblemBuilder(TWO_SUM).withName(VALID_NAME_QUICK_SORT).build();
+        uniqueProblemList.setProblem(TWO_SUM, renamed);
+        assertFalse(uniqueProblemList.contains(TWO_SUM));
+        assertTrue(uniqueProblemList.contains(renamed));
+        assertFalse(uniqueProblemList.findById(TWO_SUM.getId()).isPresent());
+        assertEquals(renamed, uniqueProblemList.findById(renamed.getId()).get());
+    }
+
+    @Test
+    public void setProblems_matchesPairwiseUniquenessCheck() {
+        for (Problem first : CANDIDATES) {
+            for (Problem second : CANDIDATES) {
+                if (first == second) {
+                    continue;
+                }
+                List<Problem> problems = new ArrayList<>(TypicalProblems.getTypicalProblems());
+                problems.removeIf(problem -> problem.isSameProblem(first) || problem.isSameProblem(second));
+                problems.add(first);
+                problems.add(second);
+                Collections.reverse(problems);
+
+                UniqueProblemList uniqueProblemList = new UniqueProblemList();
+                if (isPairwiseUnique(problems)) {
+                    assertDoesNotThrow(() -> uniqueProblemList.setProblems(problems));
+                } else {
+                    assertThrows(DuplicateProblemException.class, () -> uniqueProblemList.setProblems(problems));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void getOrdinalsWithAllTags_matchesLinearTagScan() {
+        UniqueProblemList uniqueProblemList = new UniqueProblemList();
+        uniqueProblemList.setProblems(TypicalProblems.getTypicalProblems());
+        List<List<String>> queries = Arrays.asList(
+            Collections.emptyList(),
+            Collections.singletonList("Sorting"),
+            Arrays.asList("Sorting", "Recursion"),
+            Arrays.asList("Sorting", VALID_TAG_DIFFICULT));
+        for (List<String> query : queries) {
+            Set<Id> expected = new HashSet<>();
+            for (Problem problem : TypicalProblems.getTypicalProblems()) {
+                if (query.stream().allMatch(tagName -> problem.getTags().contains(new Tag(tagName)))) {
+                    expected.add(problem.getId());
+                }
+            }
+            assertEquals(expected, toIds(uniqueProblemList, uniqueProblemList.getOrdinalsWithAllTags(query)),
+                query.toString());
+        }
+    }
+
+    @Test
+    public void setProblem_editedTags_tagIndexFollowsEdit() {
+        UniqueProblemList uniqueProblemList = new UniqueProblemList();
+        uniqueProblemList.add(QUICK_SORT);
+        Problem retagged = new ProblemBuilder(QUICK_SORT).withTags(VALID_TAG_DIFFICULT).build();
+        uniqueProblemList.setProblem(QUICK_SORT, retagged);
+        assertEquals(0, uniqueProblemList.countProblemsWithTag(new Tag("Sorting")));
+        assertEquals(Collections.singletonList(retagged),
+            uniqueProblemList.getProblemsWithTag(new Tag(VALID_TAG_DIFFICULT)));
+    }
+
+    @Test
+    public void removeTagFromProblems_taggedProblems_tagRemovedFromProblemsAndIndex() {
+        UniqueProblemList uniqueProblemList = new UniqueProblemList();
+        Problem tagged = new ProblemBuilder(QUICK_SORT).withTags(VALID_TAG_DIFFICULT, "Sorting").build();
+        uniqueProblemList.add(tagged);
+        List<Problem> updatedProblems = uniqueProblemList.removeTagFromProblems(new Tag("Sorting"));
+        assertEquals(Collections.singletonList(uniqueProblemList.asUnmodifiableObservableList().get(0)),
+            updatedProblems);
+        assertEquals(Collections.singleton(new Tag(VALID_TAG_DIFFICULT)), updatedProblems.get(0).getTags());
+        assertEquals(tagged.getId(), updatedProblems.get(0).getId());
+        assertTrue(tagged.getTags().contains(new Tag("Sorting")));
+        assertEquals(0, uniqueProblemList.countProblemsWithTag(new Tag("Sorting")));
+        assertEquals(1, uniqueProblemList.countProblemsWithTag(new Tag(VALID_TAG_DIFFICULT)));
+    }
+
+    @Test
+    public void removeTagFromProblems_taggedProblems_oneChangeReplacingTaggedProblemsOnly() {
+        UniqueProblemList uniqueProblemList = new UniqueProblemList();
+        Problem recursive = new ProblemBuilder(QUICK_SORT).build();
+        uniqueProblemList.setProblems(Arrays.asList(
+            new ProblemBuilder(TWO_SUM).build(), recursive, new ProblemBuilder(FACTORIAL).build()));
+        List<Integer> replacedIndices = new ArrayList<>();
+        List<Integer> changeCount = new ArrayList<>();
+        uniqueProblemList.asUnmodifiableObservableList().addListener((ListChangeListener<Problem>) change -> {
+            changeCount.add(1);
+            while (change.next()) {
+                assertTrue(change.wasReplaced());
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    replacedIndices.add(i);
+                }
+            }
+        });
+        uniqueProblemList.removeTagFromProblems(new Tag("Recursion"));
+        assertFalse(uniqueProblemList.asUnmodifiableObservableList().get(1).hasTagNamed("Recursion"));
+        assertTrue(recursive.hasTagNamed("Recursion"));
+        assertEquals(1, changeCount.size());
+        assertEquals(Collections.singletonList(1), replacedIndices);
+    }
+
+    @Test
+    public void removeTagFromProblems_afterEarlierRemoval_replacesTaggedProblemInItsPosition() {
+        UniqueProblemList uniqueProblemList = new UniqueProblemList();
+        Problem first = new ProblemBuilder(TWO_SUM).build();
+        Problem recursive = new ProblemBuilder(QUICK_SORT).build();
+        uniqueProblemList.setProblems(Arrays.asList(first, new ProblemBuilder(FACTORIAL).build(), recursive));
+        uniqueProblemList.remove(first);
+        List<Integer> replacedIndices = new ArrayList<>();
+        uniqueProblemList.asUnmodifiableObservableList().addListener((ListChangeListener<Problem>) change -> {
+            while (change.next()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    replacedIndices.add(i);
+                }
+            }
+        });
+        uniqueProblemList.removeTagFromProblems(new Tag("Recursion"));
+        Problem updated = uniqueProblemList.asUnmodifiableObservableList().get(1);
+        assertEquals(recursive.getId(), updated.getId());
+        assertFalse(updated.hasTagNamed("Recursion"));
+        assertEquals(Collections.singletonList(1), replacedIndices);
+    }
+
+    @Test
+    public void getOrdinalsWithNameAndDescriptionWords_matchesContainsWordIgnoreCase() {
+        UniqueProblemList uniqueProblemList = new UniqueProblemList();
+        uniqueProblemList.setProblems(TypicalProblems.getTypicalProblems());
+        Problem renamed = new ProblemBuilder(TWO_SUM).withName("Two SUM again").withDescription("sort it").build();
+        uniqueProblemList.setProblem(TWO_SUM, renamed);
+        List<Problem> problems = uniqueProblemList.asUnmodifiableObservableList();
+        List<List<String>> queries = Arrays.asList(
+            Collections.emptyList(),
+            Collections.singletonList("sort"),
+            Arrays.asList("QUICK", "sum"),
+            Arrays.asList("Sort", "array"),
+            Arrays.asList("two", "missing"));
+        for (List<String> query : queries) {
+            Set<Id> expectedAny = new HashSet<>();
+            Set<Id> expectedAll = new HashSet<>();
+            for (Problem problem : problems) {
+                if (query.stream().anyMatch(word ->
+                    StringUtil.containsWordIgnoreCase(problem.getName().fullName, word))) {
+                    expectedAny.add(problem.getId());
+                }
+                if (query.stream().allMatch(word ->
+                    StringUtil.containsWordIgnoreCase(problem.getDescription().value, word))) {
+                    expectedAll.add(problem.getId());
+                }
+            }
+            assertEquals(expectedAny, toIds(uniqueProblemList, uniqueProblemList.getOrdinalsWithAnyNameWord(query)),
+                query.toString());
+            assertEquals(expectedAll,
+                toIds(uniqueProblemList, uniqueProblemList.getOrdinalsWithAllDescriptionWords(query)),
+                query.toString());
+        }
+    }
+
+    @Test
+    public void getOrdinalsWithDifficultyInRange_matchesLinearDifficultyScan() {
+        UniqueProblemList uniqueProblemList = new UniqueProblemList();
+        uniqueProblemList.setProblems(TypicalProblems.getTypicalProblems());
+        uniqueProblemList.add(new ProblemBuilder(TWO_SUM).withName("Three Sum").withWeblink("https://three.sum")
+            .withDifficulty("2.0").build());
+        Problem reweighted = new ProblemBuilder(QUICK_SORT).withDifficulty("4.5").build();
+        uniqueProblemList.setProblem(QUICK_SORT, reweighted);
+        uniqueProblemList.remove(FACTORIAL);
+        List<Problem> problems = uniqueProblemList.asUnmodifiableObservableList();
+        double[][] ranges = {{0.0, 5.0}, {2.0, 2.0}, {1.0, 3.0}, {4.5, 5.0}, {3.0, 1.0}, {4.6, 5.0}};
+        for (double[] range : ranges) {
+            Set<Id> expected = new HashSet<>();
+            for (Problem problem : problems) {
+                double difficulty = problem.getDifficulty().value;
+                if (difficulty >= range[0] && difficulty <= range[1]) {
+                    expected.add(problem.getId());
+                }
+            }
+            assertEquals(expected,
+                toIds(uniqueProblemList, uniqueProblemList.getOrdinalsWithDifficultyInRange(range[0], range[1])),
+                Arrays.toString(range));
+        }
+    }
+
+    @Test
+    public void getOrdinalsWithDifficultyInRange_bulkLoadedThenEdited_matchesLinearDifficultyScan() {
+        UniqueProblemList uniqueProblemList = new UniqueProblemList();
+        List<Problem> problems = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            problems.add(new ProblemBuilder().withName("Problem " + i)
+                .withDifficulty((1 + i * 7 % 4) + "." + (i % 3)).build());
+        }
+        uniqueProblemList.setProblems(problems);
+        assertDifficultyRangesMatchScan(uniqueProblemList);
+
+        // The bulk-built entries are found again when they are removed or replaced
+        for (int i = 0; i < 200; i += 9) {
+            uniqueProblemList.remove(problems.get(i));
+        }
+        for (int i = 1; i < 200; i += 9) {
+            uniqueProblemList.setProblem(problems.get(i), new ProblemBuilder(problems.get(i)).withDifficulty("2.5")
+                .build());
+        }
+        assertDifficultyRangesMatchScan(uniqueProblemList);
+    }
+
+    /**
+     * Asserts that the ordinals of the problems in {@code uniqueProblemList} with difficulty in each of a few ranges
+     * are those of the problems found by a linear scan.
+     */
+    private static void assertDifficultyRangesMatchScan(UniqueProblemList uniqueProblemList) {
+        double[][] ranges = {{0.0, 5.0}, {2.0, 2.0}, {1.0, 3.0}, {2.5, 2.5}, {4.2, 5.0}, {3.0, 1.0}, {4.3, 5.0}};
+        for (double[] range : ranges) {
+            Set<Id> expected = new HashSet<>();
+            for (Problem problem : uniqueProblemList.asUnmodifiableObservableList()) {
+                double difficulty = problem.getDifficulty().value;
+                if (difficulty >= range[0] && difficulty <= range[1]) {
+                    expected.add(problem.getId());
+                }
+            }
+            assertEquals(expected,
+                toIds(uniqueProblemList, uniqueProblemList.getOrdinalsWithDifficultyInRange(range[0], range[1])),
+                Arrays.toString(range));
+        }
+    }
+
+    /**
+     * Returns the Ids of the problems in {@code uniqueProblemList} with the given {@code ordinals}.
+     */
+    private static Set<Id> toIds(UniqueProblemList uniqueProblemList, CompressedBitmap ordinals) {
+        Set<Id> ids = new HashSet<>();
+        ordinals.forEach(ordinal -> ids.add(uniqueProblemList.getProblemByOrdinal(ordinal).getId()));
+        return ids;
+    }
+
+    /**
+     * Returns true if no two problems in {@code problems} are the same problem, using a pairwise comparison.
+     */
+    private static boolean isPairwiseUnique(List<Problem> problems) {
+        for (int i = 0; i < problems.size() - 1; i++) {
+            for (int j = i + 1; j < problems.size(); j++) {
+                if (problems.get(i).isSameProblem(problems.get(j))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -4,10 +4,19 @@ package seedu.algobase.model.searchrule.problemsearchrule;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.algobase.model.AlgoBase;
+import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.util.CompressedBitmap;
+import seedu.algobase.testutil.TypicalProblems;
+
 class AuthorMatchesKeywordPredicateTest {
 
+    private static final List<String> KEYWORDS = Arrays.asList("Steven Halim", "Alice Halim", "Nobody", "not valid!");
     private static final AuthorMatchesKeywordPredicate VALID_PREDICATE_ONE =
         new AuthorMatchesKeywordPredicate(new Keyword("Steven Halim"));
     private static final AuthorMatchesKeywordPredicate VALID_PREDICATE_ONE_COPY =
@@ -24,4 +33,17 @@ class AuthorMatchesKeywordPredicateTest {
         assertEquals(VALID_PREDICATE_ONE, VALID_PREDICATE_ONE_COPY);
     }
 
+    @Test
+    void lookUpCandidates_matchesTest() {
+        AlgoBase algoBase = new AlgoBase();
+        algoBase.setProblems(TypicalProblems.getTypicalProblems());
+        for (String keyword : KEYWORDS) {
+            AuthorMatchesKeywordPredicate predicate = new AuthorMatchesKeywordPredicate(new Keyword(keyword));
+            CompressedBitmap candidates = predicate.lookUpCandidates(algoBase).get();
+            for (Problem problem : algoBase.getProblemList()) {
+                assertEquals(predicate.test(problem), candidates.contains(algoBase.getProblemOrdinal(problem)),
+                    keyword);
+            }
+        }
+    }
 }
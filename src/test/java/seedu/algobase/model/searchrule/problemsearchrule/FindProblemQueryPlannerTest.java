@@ -0,0 +1,67 @@
+package seedu.algobase.model.searchrule.problemsearchrule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.algobase.model.AlgoBase;
+import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.util.CompressedBitmap;
+import seedu.algobase.testutil.FindProblemDescriptorBuilder;
+import seedu.algobase.testutil.ProblemBuilder;
+import seedu.algobase.testutil.TypicalProblems;
+
+class FindProblemQueryPlannerTest {
+
+    @Test
+    void plan_matchesUnplannedPredicate() {
+        AlgoBase algoBase = new AlgoBase();
+        algoBase.setProblems(TypicalProblems.getTypicalProblems());
+        algoBase.addProblem(new ProblemBuilder(TypicalProblems.TWO_SUM).withName("Quick sum")
+            .withWeblink("https://open.kattis.com/3").withDescription("Sort the array").withTags("Sorting").build());
+
+        List<FindProblemDescriptor> descriptors = Arrays.asList(
+            new FindProblemDescriptor(),
+            new FindProblemDescriptorBuilder().withNamePredicate(names("quick")).build(),
+            new FindProblemDescriptorBuilder().withDescriptionPredicate(descriptions("sort", "ARRAY")).build(),
+            new FindProblemDescriptorBuilder().withNamePredicate(names("Quick"))
+                .withDescriptionPredicate(descriptions("array")).build(),
+            new FindProblemDescriptorBuilder().withAuthorPredicate(
+                new AuthorMatchesKeywordPredicate(new Keyword("Alice Halim")))
+                .withDescriptionPredicate(descriptions("sort")).build(),
+            new FindProblemDescriptorBuilder().withSourcePredicate(
+                new SourceMatchesKeywordPredicate(new Keyword("Kattis")))
+                .withDifficultyPredicate(new DifficultyIsInRangePredicate(1.0, 1.5)).build(),
+            new FindProblemDescriptorBuilder().withTagPredicate(new TagIncludesKeywordsPredicate(
+                Collections.singletonList(new Keyword("Sorting"))))
+                .withDifficultyPredicate(new DifficultyIsInRangePredicate(1.8, 5.0)).build(),
+            new FindProblemDescriptorBuilder().withAuthorPredicate(
+                new AuthorMatchesKeywordPredicate(new Keyword("not valid!")))
+                .withNamePredicate(names("quick")).build());
+
+        for (FindProblemDescriptor descriptor : descriptors) {
+            Predicate<Problem> unplanned = descriptor.getFindProblemPredicate();
+            CompressedBitmap planned = descriptor.getMatchingProblemOrdinals(algoBase);
+            for (Problem problem : algoBase.getProblemList()) {
+                assertEquals(unplanned.test(problem), planned.contains(algoBase.getProblemOrdinal(problem)),
+                    problem.getName().fullName);
+            }
+        }
+    }
+
+    private static NameContainsKeywordsPredicate names(String... keywords) {
+        return new NameContainsKeywordsPredicate(
+            Arrays.stream(keywords).map(Keyword::new).collect(Collectors.toList()));
+    }
+
+    private static DescriptionContainsKeywordsPredicate descriptions(String... keywords) {
+        return new DescriptionContainsKeywordsPredicate(
+            Arrays.stream(keywords).map(Keyword::new).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.algobase.model.searchrule.problemsearchrule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.tag.Tag;
+import seedu.algobase.testutil.ProblemBuilder;
+
+/**
+ * Compares tag filtering with {@code TagIncludesKeywordsPredicate} against building a {@code Tag} per keyword for
+ * every problem tested, which is what the predicate used to do.
+ * Run with {@code gradlew benchmark}.
+ */
+@EnabledIfSystemProperty(named = "algobase.benchmark", matches = "true")
+class TagIncludesKeywordsPredicateBenchmark {
+
+    private static final int PROBLEM_COUNT = 40000;
+    private static final int ROUNDS = 5;
+    private static final String[] TAG_NAMES = {"Sorting", "Graph", "DP", "Greedy", "Math", "Strings"};
+    private static final List<String> QUERY = Arrays.asList("Sorting", "Graph");
+
+    @Test
+    void test_manyProblems_fasterThanTagPerKeyword() {
+        List<Problem> problems = new ArrayList<>();
+        for (int i = 0; i < PROBLEM_COUNT; i++) {
+            problems.add(new ProblemBuilder()
+                .withTags(TAG_NAMES[i % TAG_NAMES.length], TAG_NAMES[(i / 2) % TAG_NAMES.length]).build());
+        }
+        Predicate<Problem> tagPerKeyword = problem -> QUERY.stream().allMatch(tagName ->
+            Tag.isValidTagName(tagName) && problem.getTags().contains(new Tag(tagName)));
+        TagIncludesKeywordsPredicate predicate = new TagIncludesKeywordsPredicate(Arrays.asList(
+            new Keyword(QUERY.get(0)), new Keyword(QUERY.get(1))));
+
+        assertEquals(count(problems, tagPerKeyword), count(problems, predicate));
+        long tagPerKeywordNanos = time(problems, tagPerKeyword);
+        long predicateNanos = time(problems, predicate);
+        System.out.printf("Tag filter over %d problems: %.2f ms building tags, %.2f ms with resolved names%n",
+            PROBLEM_COUNT, tagPerKeywordNanos / 1e6, predicateNanos / 1e6);
+        assertTrue(predicateNanos < tagPerKeywordNanos);
+    }
+
+    /**
+     * Returns the best time in nanoseconds taken to filter {@code problems} with {@code predicate} over a few rounds.
+     */
+    private static long time(List<Problem> problems, Predicate<Problem> predicate) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            count(problems, predicate);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    private static long count(List<Problem> problems, Predicate<Problem> predicate) {
+        return problems.stream().filter(predicate).count();
+    }
+}
@@ -4,10 +4,17 @@ package seedu.algobase.model.searchrule.problemsearchrule;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.tag.Tag;
+import seedu.algobase.testutil.TypicalProblems;
+
 class TagIncludesKeywordsPredicateTest {
     private static final TagIncludesKeywordsPredicate VALID_PREDICATE_ONE =
         new TagIncludesKeywordsPredicate(Collections.singletonList(new Keyword("DP")));
@@ -24,4 +31,22 @@ class TagIncludesKeywordsPredicateTest {
         assertNotEquals(null, VALID_PREDICATE_ONE);
         assertEquals(VALID_PREDICATE_ONE, VALID_PREDICATE_ONE_COPY);
     }
+
+    @Test
+    void test_matchesTagSetLookup() {
+        List<List<String>> queries = Arrays.asList(
+            Collections.singletonList("Sorting"),
+            Arrays.asList("Sorting", "Recursion"),
+            Arrays.asList("sorting"),
+            Arrays.asList("Sorting", "not valid!"));
+        for (List<String> query : queries) {
+            TagIncludesKeywordsPredicate predicate = new TagIncludesKeywordsPredicate(
+                query.stream().map(Keyword::new).collect(Collectors.toList()));
+            for (Problem problem : TypicalProblems.getTypicalProblems()) {
+                boolean expected = query.stream().allMatch(tagName ->
+                    Tag.isValidTagName(tagName) && problem.getTags().contains(new Tag(tagName)));
+                assertEquals(expected, predicate.test(problem), query.toString());
+            }
+        }
+    }
 }
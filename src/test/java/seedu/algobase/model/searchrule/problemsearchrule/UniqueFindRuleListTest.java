@@ -0,0 +1,122 @@
+package seedu.algobase.model.searchrule.problemsearchrule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.algobase.testutil.Assert.assertThrows;
+import static seedu.algobase.testutil.TypicalProblemSearchRules.MEDIUM_DIFFICULTY;
+import static seedu.algobase.testutil.TypicalProblemSearchRules.QUICK_SORT_PREDICATE;
+import static seedu.algobase.testutil.TypicalProblems.FACTORIAL;
+import static seedu.algobase.testutil.TypicalProblems.QUICK_SORT;
+import static seedu.algobase.testutil.TypicalProblems.TWO_SUM;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.problem.UniqueProblemList;
+import seedu.algobase.model.searchrule.problemsearchrule.exceptions.ProblemSearchRuleNotFoundException;
+import seedu.algobase.model.tag.Tag;
+import seedu.algobase.model.util.CompressedBitmap;
+import seedu.algobase.testutil.ProblemBuilder;
+import seedu.algobase.testutil.TypicalProblems;
+
+class UniqueFindRuleListTest {
+
+    private static final ProblemSearchRule SORTING_TAG = new ProblemSearchRule(new Name("Sorting tag"),
+        null, null, null, null, null,
+        new TagIncludesKeywordsPredicate(Collections.singletonList(new Keyword("Sorting"))));
+
+    @Test
+    void getMatchingProblemOrdinals_ruleNotInList_throwsProblemSearchRuleNotFoundException() {
+        UniqueFindRuleList uniqueFindRuleList = new UniqueFindRuleList(new UniqueProblemList());
+        assertThrows(ProblemSearchRuleNotFoundException.class, () ->
+            uniqueFindRuleList.getMatchingProblemOrdinals(MEDIUM_DIFFICULTY));
+    }
+
+    @Test
+    void getMatchingProblemOrdinals_problemsChanged_matchesLinearScan() {
+        UniqueProblemList problems = new UniqueProblemList();
+        UniqueFindRuleList uniqueFindRuleList = new UniqueFindRuleList(problems);
+        problems.setProblems(TypicalProblems.getTypicalProblems());
+        uniqueFindRuleList.setFindRules(Arrays.asList(MEDIUM_DIFFICULTY, QUICK_SORT_PREDICATE));
+        uniqueFindRuleList.add(SORTING_TAG);
+        assertMatchesLinearScan(uniqueFindRuleList, problems);
+
+        Problem quickSortAgain = new ProblemBuilder(TWO_SUM).withName("Quick sort again")
+            .withWeblink("https://open.kattis.com/3").withDifficulty("4.0").withTags("Sorting").build();
+        problems.add(quickSortAgain);
+        assertMatchesLinearScan(uniqueFindRuleList, problems);
+
+        problems.setProblem(QUICK_SORT, new ProblemBuilder(QUICK_SORT).withDifficulty("2.0").withTags().build());
+        assertMatchesLinearScan(uniqueFindRuleList, problems);
+
+        problems.remove(FACTORIAL);
+        problems.add(new ProblemBuilder(FACTORIAL).withDifficulty("1.0").build());
+        assertMatchesLinearScan(uniqueFindRuleList, problems);
+
+        problems.setProblems(Collections.singletonList(quickSortAgain));
+        assertMatchesLinearScan(uniqueFindRuleList, problems);
+    }
+
+    @Test
+    void getMatchCount_ruleInTwoLists_eachListCountsItsOwnProblems() {
+        UniqueProblemList problems = new UniqueProblemList();
+        UniqueFindRuleList uniqueFindRuleList = new UniqueFindRuleList(problems);
+        problems.setProblems(TypicalProblems.getTypicalProblems());
+        uniqueFindRuleList.setFindRules(Collections.singletonList(SORTING_TAG));
+        int count = uniqueFindRuleList.getMatchCount(SORTING_TAG).get();
+
+        UniqueProblemList copiedProblems = new UniqueProblemList();
+        UniqueFindRuleList copy = new UniqueFindRuleList(copiedProblems);
+        copiedProblems.setProblems(problems);
+        copy.setFindRules(uniqueFindRuleList);
+        copiedProblems.add(new ProblemBuilder(TWO_SUM).withName("Quick sort again").withTags("Sorting").build());
+
+        assertEquals(count + 1, copy.getMatchCount(SORTING_TAG).get());
+        assertEquals(count, uniqueFindRuleList.getMatchCount(SORTING_TAG).get());
+    }
+
+    @Test
+    void getMatchCount_manyProblemsChangedAtOnce_changesOnce() {
+        UniqueProblemList problems = new UniqueProblemList();
+        UniqueFindRuleList uniqueFindRuleList = new UniqueFindRuleList(problems);
+        uniqueFindRuleList.add(SORTING_TAG);
+        int[] changes = {0};
+        uniqueFindRuleList.getMatchCount(SORTING_TAG).addListener((observable, oldCount, newCount) -> changes[0]++);
+        List<Problem> taggedProblems = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            taggedProblems.add(new ProblemBuilder().withName("Problem " + i).withTags("Sorting").build());
+        }
+
+        problems.setProblems(taggedProblems);
+        assertEquals(50, uniqueFindRuleList.getMatchCount(SORTING_TAG).get());
+        assertEquals(1, changes[0]);
+
+        problems.removeTagFromProblems(new Tag("Sorting"));
+        assertEquals(0, uniqueFindRuleList.getMatchCount(SORTING_TAG).get());
+        assertEquals(2, changes[0]);
+    }
+
+    /**
+     * Asserts that the matches kept for each rule in {@code uniqueFindRuleList} are the problems in {@code problems}
+     * that its predicate accepts.
+     */
+    private static void assertMatchesLinearScan(UniqueFindRuleList uniqueFindRuleList, UniqueProblemList problems) {
+        List<ProblemSearchRule> rules = uniqueFindRuleList.asUnmodifiableObservableList();
+        for (ProblemSearchRule rule : rules) {
+            Predicate<Problem> predicate = rule.getFindProblemPredicate();
+            CompressedBitmap expected = new CompressedBitmap();
+            for (Problem problem : problems) {
+                if (predicate.test(problem)) {
+                    expected.add(problems.getOrdinal(problem));
+                }
+            }
+            assertEquals(expected, uniqueFindRuleList.getMatchingProblemOrdinals(rule), rule.getName().name);
+            assertEquals(expected.getCardinality(), uniqueFindRuleList.getMatchCount(rule).get(), rule.getName().name);
+        }
+    }
+}
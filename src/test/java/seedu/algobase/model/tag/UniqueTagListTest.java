@@ -0,0 +1,80 @@
+package seedu.algobase.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.algobase.testutil.Assert.assertThrows;
+import static seedu.algobase.testutil.TypicalProblems.QUICK_SORT;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.algobase.model.problem.Problem;
+import seedu.algobase.model.tag.exceptions.DuplicateTagException;
+import seedu.algobase.testutil.ProblemBuilder;
+
+class UniqueTagListTest {
+
+    @Test
+    public void resolve_existingName_returnsHeldTag() {
+        UniqueTagList uniqueTagList = new UniqueTagList();
+        uniqueTagList.add(new Tag("Sorting", "RED"));
+        Tag held = uniqueTagList.asUnmodifiableObservableList().get(0);
+        assertSame(held, uniqueTagList.resolve(new Tag("Sorting")));
+        assertEquals("RED", held.getColor());
+        assertEquals(1, uniqueTagList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void resolve_newName_addsCopyOfTag() {
+        UniqueTagList uniqueTagList = new UniqueTagList();
+        Tag tag = new Tag("Sorting");
+        Tag held = uniqueTagList.resolve(tag);
+        assertNotSame(tag, held);
+        assertEquals(tag.getId(), held.getId());
+        assertTrue(uniqueTagList.contains(new Tag("Sorting")));
+    }
+
+    @Test
+    public void setTag_sharedTag_problemsSeeRename() {
+        UniqueTagList uniqueTagList = new UniqueTagList();
+        Problem problem = new ProblemBuilder(QUICK_SORT).withTags("Sorting").build();
+        Tag original = problem.getTags().iterator().next();
+        Problem interned = problem.internTags(uniqueTagList::resolve);
+        Tag held = uniqueTagList.resolve(new Tag("Sorting"));
+
+        uniqueTagList.setTag(held, new Tag(held.getId(), "Divide", "BLUE"));
+
+        assertFalse(uniqueTagList.contains(new Tag("Sorting")));
+        assertSame(held, uniqueTagList.resolve(new Tag("Divide")));
+        assertTrue(interned.getTags().contains(new Tag("Divide")));
+        assertEquals("BLUE", interned.getTags().iterator().next().getColor());
+        assertEquals("Sorting", original.getName());
+        assertTrue(problem.getTags().contains(new Tag("Sorting")));
+    }
+
+    @Test
+    public void setTags_otherList_editsLeaveOtherListUnchanged() {
+        UniqueTagList uniqueTagList = new UniqueTagList();
+        uniqueTagList.add(new Tag("Sorting"));
+        UniqueTagList copy = new UniqueTagList();
+        copy.setTags(uniqueTagList);
+
+        Tag held = copy.resolve(new Tag("Sorting"));
+        copy.setTag(held, new Tag(held.getId(), "Divide", "BLUE"));
+
+        assertTrue(uniqueTagList.contains(new Tag("Sorting")));
+        assertEquals(Tag.DEFAULT_COLOR, uniqueTagList.resolve(new Tag("Sorting")).getColor());
+        assertFalse(uniqueTagList.contains(new Tag("Divide")));
+    }
+
+    @Test
+    public void setTag_nameTakenByAnotherTag_throwsDuplicateTagException() {
+        UniqueTagList uniqueTagList = new UniqueTagList();
+        Tag sorting = new Tag("Sorting");
+        uniqueTagList.add(sorting);
+        uniqueTagList.add(new Tag("Divide"));
+        assertThrows(DuplicateTagException.class, () -> uniqueTagList.setTag(sorting, new Tag("Divide")));
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.algobase.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.algobase.testutil.Assert.assertThrows;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+    private static final long SEED = 20191018L;
+    /** Spans several chunks of 65536 values, so that both sparse and dense chunks are exercised. */
+    private static final int VALUE_BOUND = 4 * 65536;
+
+    @Test
+    public void add_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CompressedBitmap().add(-1));
+    }
+
+    @Test
+    public void addAndRemove_sparseAndDenseChunks_matchesTreeSet() {
+        Random random = new Random(SEED);
+        CompressedBitmap bitmap = new CompressedBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+        // Fill the first chunk densely and the others sparsely, then thin the dense chunk out again.
+        for (int i = 0; i < 20000; i++) {
+            int value = random.nextInt(10) < 8 ? random.nextInt(65536) : random.nextInt(VALUE_BOUND);
+            bitmap.add(value);
+            expected.add(value);
+        }
+        assertMatches(expected, bitmap);
+        for (int i = 0; i < 30000; i++) {
+            int value = random.nextInt(65536);
+            bitmap.remove(value);
+            expected.remove(value);
+        }
+        assertMatches(expected, bitmap);
+
+        for (int value : expected) {
+            bitmap.remove(value);
+        }
+        assertTrue(bitmap.isEmpty());
+        assertEquals(0, bitmap.getCardinality());
+    }
+
+    @Test
+    public void rank_matchesCountOfSmallerValues() {
+        Random random = new Random(SEED);
+        CompressedBitmap bitmap = new CompressedBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 10000; i++) {
+            int value = random.nextInt(2 * 65536);
+            bitmap.add(value);
+            expected.add(value);
+        }
+        for (int i = 0; i < 1000; i++) {
+            int value = random.nextInt(VALUE_BOUND);
+            assertEquals(expected.headSet(value).size(), bitmap.rank(value));
+        }
+        assertEquals(0, bitmap.rank(0));
+    }
+
+    @Test
+    public void andOrAndNot_matchSetOperations() {
+        Random random = new Random(SEED);
+        int[] densities = {10, 3000, 6000, 40000};
+        for (int firstDensity : densities) {
+            for (int secondDensity : densities) {
+                TreeSet<Integer> first = new TreeSet<>();
+                TreeSet<Integer> second = new TreeSet<>();
+                CompressedBitmap firstBitmap = randomBitmap(random, firstDensity, first);
+                CompressedBitmap secondBitmap = randomBitmap(random, secondDensity, second);
+
+                TreeSet<Integer> intersection = new TreeSet<>(first);
+                intersection.retainAll(second);
+                TreeSet<Integer> union = new TreeSet<>(first);
+                union.addAll(second);
+                TreeSet<Integer> difference = new TreeSet<>(first);
+                difference.removeAll(second);
+
+                assertMatches(intersection, CompressedBitmap.and(firstBitmap, secondBitmap));
+                assertMatches(union, CompressedBitmap.or(firstBitmap, secondBitmap));
+                assertMatches(difference, CompressedBitmap.andNot(firstBitmap, secondBitmap));
+                assertMatches(first, firstBitmap);
+                assertMatches(second, secondBitmap);
+            }
+        }
+    }
+
+    @Test
+    public void copy_independentOfOriginal() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, 2, 70000);
+        CompressedBitmap copy = bitmap.copy();
+        copy.add(3);
+        copy.remove(70000);
+        assertArrayEquals(new int[] {1, 2, 70000}, bitmap.toArray());
+        assertArrayEquals(new int[] {1, 2, 3}, copy.toArray());
+    }
+
+    @Test
+    public void equals() {
+        CompressedBitmap bitmap = CompressedBitmap.of(5, 1, 65537);
+
+        assertTrue(bitmap.equals(bitmap));
+        assertTrue(bitmap.equals(CompressedBitmap.of(1, 5, 65537)));
+        assertFalse(bitmap.equals(CompressedBitmap.of(1, 5)));
+        assertFalse(bitmap.equals(null));
+        assertFalse(bitmap.equals(5));
+    }
+
+    /**
+     * Returns a bitmap of about {@code count} random values in the first two chunks, which are also added to
+     * {@code values}.
+     */
+    private static CompressedBitmap randomBitmap(Random random, int count, TreeSet<Integer> values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i < count; i++) {
+            int value = random.nextInt(2 * 65536);
+            bitmap.add(value);
+            values.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Asserts that {@code bitmap} holds exactly the values in {@code expected}.
+     */
+    private static void assertMatches(TreeSet<Integer> expected, CompressedBitmap bitmap) {
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), bitmap.toArray());
+        assertEquals(expected.size(), bitmap.getCardinality());
+        assertEquals(expected.isEmpty(), bitmap.isEmpty());
+        for (int value : expected) {
+            assertTrue(bitmap.contains(value));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.algobase.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.algobase.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentSortedListTest {
+
+    private static final long SEED = 20191018L;
+    /** Orders strings by length only, so that strings of the same length tie. */
+    private static final Comparator<String> BY_LENGTH = Comparator.comparingInt(String::length);
+
+    @Test
+    public void of_unsortedElements_sortedStably() {
+        PersistentSortedList<String> list = PersistentSortedList.of(BY_LENGTH, Arrays.asList("ccc", "a", "bb", "d"));
+        assertEquals(Arrays.asList("a", "d", "bb", "ccc"), list);
+        assertEquals(4, list.size());
+        assertEquals("bb", list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(4));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("e"));
+    }
+
+    @Test
+    public void indexOf_tiedElements_findsEqualElement() {
+        PersistentSortedList<String> list = PersistentSortedList.of(BY_LENGTH, Arrays.asList("ab", "a", "cd", "ef"));
+        assertEquals(3, list.indexOf("ef"));
+        assertEquals(0, list.indexOf("a"));
+        assertEquals(-1, list.indexOf("gh"));
+        assertEquals(-1, list.indexOf(1));
+        assertTrue(list.contains("cd"));
+        assertFalse(list.contains(null));
+
+        assertEquals(2, list.indexOfMatch("xy", element -> element.startsWith("c")));
+        assertEquals(-1, list.indexOfMatch("xy", element -> element.startsWith("g")));
+
+        Set<String> set = list.asSet();
+        assertEquals(Set.of("ab", "a", "cd", "ef"), set);
+        assertTrue(set.contains("ab"));
+        assertFalse(set.contains("abc"));
+    }
+
+    @Test
+    public void withAndWithout_randomChanges_matchesSortedArrayList() {
+        Random random = new Random(SEED);
+        List<String> expected = new ArrayList<>();
+        PersistentSortedList<String> list = PersistentSortedList.of(BY_LENGTH, expected);
+        for (int i = 0; i < 3000; i++) {
+            PersistentSortedList<String> before = list;
+            List<String> expectedBefore = new ArrayList<>(expected);
+            int choice = random.nextInt(3);
+            if (choice == 0 || expected.isEmpty()) {
+                String element = "x".repeat(random.nextInt(30)) + i;
+                int index = list.indexForInsertion(element);
+                list = list.with(element);
+                expected.add(index, element);
+                assertEquals(element, list.get(index));
+            } else if (choice == 1) {
+                int index = random.nextInt(expected.size());
+                list = list.without(index);
+                expected.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                String element = "y".repeat(random.nextInt(30)) + i;
+                list = list.withReplaced(index, element);
+                expected.remove(index);
+                expected.add(list.indexOf(element), element);
+            }
+            // Earlier versions are left unchanged.
+            assertEquals(expectedBefore, before);
+        }
+        assertEquals(expected, list);
+        List<String> sorted = new ArrayList<>(expected);
+        sorted.sort(BY_LENGTH);
+        assertEquals(sorted, list);
+    }
+}
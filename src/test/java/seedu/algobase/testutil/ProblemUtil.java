@@ -35,7 +35,7 @@ public class ProblemUtil {
         sb.append(PREFIX_WEBLINK + problem.getWebLink().value + " ");
         sb.append(PREFIX_DESCRIPTION + problem.getDescription().value + " ");
         problem.getTags().stream().forEach(
-            s -> sb.append(PREFIX_TAG + s.tagName + " ")
+            s -> sb.append(PREFIX_TAG + s.getName() + " ")
         );
         return sb.toString();
     }
@@ -55,7 +55,7 @@ public class ProblemUtil {
             if (tags.isEmpty()) {
                 sb.append(PREFIX_TAG);
             } else {
-                tags.forEach(s -> sb.append(PREFIX_TAG).append(s.tagName).append(" "));
+                tags.forEach(s -> sb.append(PREFIX_TAG).append(s.getName()).append(" "));
             }
         }
         return sb.toString();